@@ -0,0 +1,87 @@
+package tech.hiddenproject.aide.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.hiddenproject.aide.reflection.property.ComparatorFactory;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sorting with comparator compiled by {@link ComparatorFactory} and hand-written
+ * comparator.
+ *
+ * @author Danila Rassokhin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparatorBenchmark {
+
+  private static final int SIZE = 100_000;
+
+  private final Comparator<Row> compiled = ComparatorFactory.DEFAULT.getComparator(
+      Row.class, "price desc, id");
+
+  private final Comparator<Row> handWritten = (first, second) -> {
+    int result = Double.compare(second.getPrice(), first.getPrice());
+    return result != 0 ? result : Long.compare(first.getId(), second.getId());
+  };
+
+  private Row[] rows;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    rows = new Row[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      rows[i] = new Row(i, random.nextInt(1000) / 10.0);
+    }
+  }
+
+  @Benchmark
+  public Row[] compiled() {
+    Row[] copy = rows.clone();
+    Arrays.sort(copy, compiled);
+    return copy;
+  }
+
+  @Benchmark
+  public Row[] handWritten() {
+    Row[] copy = rows.clone();
+    Arrays.sort(copy, handWritten);
+    return copy;
+  }
+
+  public static class Row {
+
+    private final long id;
+    private final double price;
+
+    public Row(long id, double price) {
+      this.id = id;
+      this.price = price;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public double getPrice() {
+      return price;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package tech.hiddenproject.aide.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.hiddenproject.aide.reflection.property.IndexedCollection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares compound query over {@link IndexedCollection} with full scan of list.
+ *
+ * @author Danila Rassokhin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedCollectionBenchmark {
+
+  private static final int SIZE = 200_000;
+
+  private static final String[] COUNTRIES = {"DE", "FR", "IT", "ES", "NL", "PL", "SE", "FI"};
+
+  private final List<Row> rows = new ArrayList<>();
+
+  private final IndexedCollection<Row> indexed = IndexedCollection.create(Row.class)
+      .addHashIndex("country")
+      .addSortedIndex("price");
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    for (int i = 0; i < SIZE; i++) {
+      rows.add(new Row(i, COUNTRIES[random.nextInt(COUNTRIES.length)], random.nextInt(10_000)));
+    }
+    indexed.addAll(rows);
+  }
+
+  @Benchmark
+  public List<Row> indexed() {
+    return indexed.query()
+        .eq("country", "DE")
+        .range("price", 100, true, 200, false)
+        .list();
+  }
+
+  @Benchmark
+  public List<Row> fullScan() {
+    List<Row> result = new ArrayList<>();
+    for (Row row : rows) {
+      if (row.getCountry().equals("DE") && row.getPrice() >= 100 && row.getPrice() < 200) {
+        result.add(row);
+      }
+    }
+    return result;
+  }
+
+  public static class Row {
+
+    private final long id;
+    private final String country;
+    private final int price;
+
+    public Row(long id, String country, int price) {
+      this.id = id;
+      this.country = country;
+      this.price = price;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public String getCountry() {
+      return country;
+    }
+
+    public int getPrice() {
+      return price;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package tech.hiddenproject.aide.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.hiddenproject.aide.reflection.InlineCache;
+import tech.hiddenproject.aide.reflection.LambdaWrapper;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares invocation of getters through shared {@link LambdaWrapper} call site, which becomes
+ * megamorphic when it sees many wrapper classes, and through {@link InlineCache}, which keeps
+ * guards per executable and lets JIT inline getters.
+ *
+ * @author Danila Rassokhin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineCacheBenchmark {
+
+  private static final InlineCache GETTERS = InlineCache.create(1);
+
+  private static final MethodHandle GETTER_INVOKER = GETTERS.dynamicInvoker();
+
+  private final Bean bean = new Bean();
+
+  private Method[] getters;
+
+  private LambdaWrapper[] wrappers;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+    getters = new Method[Bean.PROPERTIES];
+    wrappers = new LambdaWrapper[Bean.PROPERTIES];
+    for (int i = 0; i < Bean.PROPERTIES; i++) {
+      getters[i] = Bean.class.getMethod("getValue" + i);
+      wrappers[i] = LambdaWrapperHolder.DEFAULT.wrap(getters[i]).getWrapper();
+    }
+  }
+
+  @Benchmark
+  public int lambdaWrapper() {
+    int sum = 0;
+    for (LambdaWrapper wrapper : wrappers) {
+      sum += wrapper.<Integer>get(bean);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int inlineCache() throws Throwable {
+    int sum = 0;
+    for (Method getter : getters) {
+      sum += (Integer) (Object) GETTER_INVOKER.invokeExact((Executable) getter, (Object) bean);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int direct() {
+    return bean.getValue0() + bean.getValue1() + bean.getValue2() + bean.getValue3()
+        + bean.getValue4() + bean.getValue5() + bean.getValue6() + bean.getValue7();
+  }
+
+  public static class Bean {
+
+    static final int PROPERTIES = 8;
+
+    private final Integer value = 1;
+
+    public Integer getValue0() {
+      return value;
+    }
+
+    public Integer getValue1() {
+      return value;
+    }
+
+    public Integer getValue2() {
+      return value;
+    }
+
+    public Integer getValue3() {
+      return value;
+    }
+
+    public Integer getValue4() {
+      return value;
+    }
+
+    public Integer getValue5() {
+      return value;
+    }
+
+    public Integer getValue6() {
+      return value;
+    }
+
+    public Integer getValue7() {
+      return value;
+    }
+  }
+}
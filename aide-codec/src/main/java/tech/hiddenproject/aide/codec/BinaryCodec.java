@@ -0,0 +1,211 @@
+package tech.hiddenproject.aide.codec;
+
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.property.BeanProperty;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Binary codec for plain objects. Layout is derived from {@link BeanProperty} of class: properties
+ * are written one after another in name order without any field names or type tags. Getters and
+ * setters are wrapped with {@link LambdaWrapperHolder}, primitives are accessed without boxing.
+ *
+ * <p>Supported property types are primitives and their wrappers, {@link String} and enums.
+ * Class must have public no-args constructor.
+ *
+ * <p>Each encoded object starts with 8 bytes schema fingerprint which is computed from
+ * properties names and types, so objects written by incompatible class version are rejected on
+ * read. Codec writes to and reads from {@link ByteBuffer} directly, so heap, direct and memory
+ * mapped buffers are supported. Byte order of buffer is used as is, so writer and reader must use
+ * the same order.
+ *
+ * <pre>{@code
+ * BinaryCodec<Entity> codec = BinaryCodec.of(Entity.class);
+ * ByteBuffer buffer = ByteBuffer.allocateDirect(codec.sizeOf(entity));
+ * codec.write(entity, buffer);
+ * buffer.flip();
+ * Entity copy = codec.read(buffer);
+ * }</pre>
+ *
+ * @param <T> Object type
+ * @author Danila Rassokhin
+ */
+public class BinaryCodec<T> {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final ClassValue<BinaryCodec<?>> DEFAULT_CODECS =
+      new ClassValue<BinaryCodec<?>>() {
+        @Override
+        protected BinaryCodec<?> computeValue(Class<?> type) {
+          return new BinaryCodec<>(type, LambdaWrapperHolder.DEFAULT);
+        }
+      };
+
+  private final Class<T> type;
+
+  private final Supplier<T> constructor;
+
+  private final FieldCodec[] fields;
+
+  private final long fingerprint;
+
+  private BinaryCodec(Class<T> type, LambdaWrapperHolder holder) {
+    this.type = type;
+    this.constructor = wrapConstructor(type, holder);
+    List<BeanProperty> properties = BeanProperty.of(type);
+    this.fields = new FieldCodec[properties.size()];
+    for (int i = 0; i < fields.length; i++) {
+      fields[i] = FieldCodec.of(properties.get(i), holder);
+    }
+    this.fingerprint = fingerprint(properties);
+  }
+
+  /**
+   * Creates codec using {@link LambdaWrapperHolder#DEFAULT}. Codecs are cached per class.
+   *
+   * @param type Class to create codec for
+   * @param <T>  Object type
+   * @return {@link BinaryCodec}
+   * @throws CodecException if class has no no-arg constructor or some property has unsupported
+   *                        type
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> BinaryCodec<T> of(Class<T> type) {
+    return (BinaryCodec<T>) DEFAULT_CODECS.get(type);
+  }
+
+  /**
+   * Creates codec using given {@link LambdaWrapperHolder}.
+   *
+   * @param type   Class to create codec for
+   * @param holder {@link LambdaWrapperHolder} to wrap getters, setters and constructor with
+   * @param <T>    Object type
+   * @return {@link BinaryCodec}
+   * @throws CodecException if class has no no-arg constructor or some property has unsupported
+   *                        type
+   */
+  public static <T> BinaryCodec<T> of(Class<T> type, LambdaWrapperHolder holder) {
+    return new BinaryCodec<>(type, holder);
+  }
+
+  private static <T> Supplier<T> wrapConstructor(Class<T> type, LambdaWrapperHolder holder) {
+    Constructor<T> constructor = ReflectionUtil.tryGetConstructor(type).orElseThrow(
+        failure -> CodecException.format("No-arg constructor not found in %s", type));
+    try {
+      return holder.wrapSupplier(constructor);
+    } catch (ReflectionException e) {
+      throw new CodecException(String.format("Can't wrap constructor of %s", type), e);
+    }
+  }
+
+  private static long fingerprint(List<BeanProperty> properties) {
+    long hash = FNV_OFFSET_BASIS;
+    for (BeanProperty property : properties) {
+      hash = hash(hash, property.getName());
+      hash = hash(hash, property.getType().getName());
+      if (property.getType().isEnum()) {
+        for (Object constant : property.getType().getEnumConstants()) {
+          hash = hash(hash, ((Enum<?>) constant).name());
+        }
+      }
+    }
+    return hash;
+  }
+
+  private static long hash(long hash, String value) {
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+    }
+    return (hash ^ ';') * FNV_PRIME;
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * @return Schema fingerprint of this codec
+   */
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Computes count of bytes required to write object.
+   *
+   * @param value Object to compute size for
+   * @return Size in bytes including fingerprint
+   */
+  public int sizeOf(T value) {
+    int size = Long.BYTES;
+    for (FieldCodec field : fields) {
+      size += field.sizeOf(value);
+    }
+    return size;
+  }
+
+  /**
+   * Writes object to buffer starting from current buffer position.
+   *
+   * @param value  Object to write
+   * @param buffer {@link ByteBuffer} to write to
+   * @throws java.nio.BufferOverflowException if there is not enough space in buffer. Use
+   *                                          {@link #sizeOf(Object)} to get required space
+   */
+  public void write(T value, ByteBuffer buffer) {
+    if (Objects.isNull(value)) {
+      throw CodecException.format("Can't write null value of %s", type);
+    }
+    buffer.putLong(fingerprint);
+    for (FieldCodec field : fields) {
+      field.write(value, buffer);
+    }
+  }
+
+  /**
+   * Reads new object from buffer starting from current buffer position.
+   *
+   * @param buffer {@link ByteBuffer} to read from
+   * @return New object
+   * @throws CodecException if fingerprint in buffer doesn't match this codec fingerprint
+   */
+  public T read(ByteBuffer buffer) {
+    return read(buffer, constructor.get());
+  }
+
+  /**
+   * Reads properties from buffer into existing object starting from current buffer position.
+   *
+   * @param buffer {@link ByteBuffer} to read from
+   * @param target Object to set properties to
+   * @return Target object
+   * @throws CodecException if fingerprint in buffer doesn't match this codec fingerprint
+   */
+  public T read(ByteBuffer buffer, T target) {
+    long actual = buffer.getLong();
+    if (actual != fingerprint) {
+      throw CodecException.format("Schema fingerprint mismatch for %s: expected %016x, found %016x",
+                                  type, fingerprint, actual);
+    }
+    for (FieldCodec field : fields) {
+      field.read(target, buffer);
+    }
+    return target;
+  }
+
+  @Override
+  public String toString() {
+    return "BinaryCodec{" + "type=" + type + ", fingerprint=" + Long.toHexString(fingerprint)
+        + '}';
+  }
+}
@@ -0,0 +1,19 @@
+package tech.hiddenproject.aide.codec;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class CodecException extends RuntimeException {
+
+  public CodecException(String message) {
+    super(message);
+  }
+
+  public CodecException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  public static CodecException format(String msg, Object... args) {
+    return new CodecException(String.format(msg, args));
+  }
+}
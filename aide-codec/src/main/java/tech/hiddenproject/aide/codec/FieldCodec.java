@@ -0,0 +1,606 @@
+package tech.hiddenproject.aide.codec;
+
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.BooleanGetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.BooleanSetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.ByteGetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.ByteSetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.CharGetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.CharSetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.FloatGetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.FloatSetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.ShortGetter;
+import tech.hiddenproject.aide.codec.PrimitiveAccessor.ShortSetter;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.property.BeanProperty;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes and reads single property of object. Primitive properties are accessed through
+ * primitive specialized wrappers, so no boxing happens.
+ *
+ * @author Danila Rassokhin
+ */
+abstract class FieldCodec {
+
+  private static final byte NULL = 0;
+
+  private static final byte NON_NULL = 1;
+
+  /**
+   * Creates codec for given property.
+   *
+   * @param property {@link BeanProperty}
+   * @param holder   {@link LambdaWrapperHolder} to wrap getter and setter with
+   * @return {@link FieldCodec}
+   * @throws CodecException if property type is not supported
+   */
+  static FieldCodec of(BeanProperty property, LambdaWrapperHolder holder) {
+    Class<?> type = property.getType();
+    if (type == int.class) {
+      return new IntField(
+          holder.wrapFunctional(property.getGetter(), ToIntFunction.class),
+          holder.wrapFunctional(property.getSetter(), ObjIntConsumer.class)
+      );
+    }
+    if (type == long.class) {
+      return new LongField(
+          holder.wrapFunctional(property.getGetter(), ToLongFunction.class),
+          holder.wrapFunctional(property.getSetter(), ObjLongConsumer.class)
+      );
+    }
+    if (type == double.class) {
+      return new DoubleField(
+          holder.wrapFunctional(property.getGetter(), ToDoubleFunction.class),
+          holder.wrapFunctional(property.getSetter(), ObjDoubleConsumer.class)
+      );
+    }
+    if (type == boolean.class) {
+      return new BooleanField(
+          holder.wrapFunctional(property.getGetter(), BooleanGetter.class),
+          holder.wrapFunctional(property.getSetter(), BooleanSetter.class)
+      );
+    }
+    if (type == byte.class) {
+      return new ByteField(
+          holder.wrapFunctional(property.getGetter(), ByteGetter.class),
+          holder.wrapFunctional(property.getSetter(), ByteSetter.class)
+      );
+    }
+    if (type == short.class) {
+      return new ShortField(
+          holder.wrapFunctional(property.getGetter(), ShortGetter.class),
+          holder.wrapFunctional(property.getSetter(), ShortSetter.class)
+      );
+    }
+    if (type == char.class) {
+      return new CharField(
+          holder.wrapFunctional(property.getGetter(), CharGetter.class),
+          holder.wrapFunctional(property.getSetter(), CharSetter.class)
+      );
+    }
+    if (type == float.class) {
+      return new FloatField(
+          holder.wrapFunctional(property.getGetter(), FloatGetter.class),
+          holder.wrapFunctional(property.getSetter(), FloatSetter.class)
+      );
+    }
+    Function<Object, Object> getter = holder.wrapFunction(property.getGetter());
+    BiConsumer<Object, Object> setter = holder.wrapBiConsumer(property.getSetter());
+    if (type == String.class) {
+      return new StringField(getter, setter);
+    }
+    if (type.isEnum()) {
+      return new EnumField(getter, setter, type.getEnumConstants());
+    }
+    if (BoxedField.isBoxed(type)) {
+      return new BoxedField(getter, setter, type);
+    }
+    throw CodecException.format("Property %s has unsupported type %s", property.getName(), type);
+  }
+
+  /**
+   * Writes property value of bean.
+   *
+   * @param bean   Object to read property from
+   * @param buffer {@link ByteBuffer} to write to
+   */
+  abstract void write(Object bean, ByteBuffer buffer);
+
+  /**
+   * Reads property value and sets it to bean.
+   *
+   * @param bean   Object to set property to
+   * @param buffer {@link ByteBuffer} to read from
+   */
+  abstract void read(Object bean, ByteBuffer buffer);
+
+  /**
+   * @param bean Object to compute size for
+   * @return Count of bytes {@link #write(Object, ByteBuffer)} will write
+   */
+  abstract int sizeOf(Object bean);
+
+  private static final class IntField extends FieldCodec {
+
+    private final ToIntFunction<Object> getter;
+    private final ObjIntConsumer<Object> setter;
+
+    private IntField(ToIntFunction<Object> getter, ObjIntConsumer<Object> setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.putInt(getter.applyAsInt(bean));
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.accept(bean, buffer.getInt());
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Integer.BYTES;
+    }
+  }
+
+  private static final class LongField extends FieldCodec {
+
+    private final ToLongFunction<Object> getter;
+    private final ObjLongConsumer<Object> setter;
+
+    private LongField(ToLongFunction<Object> getter, ObjLongConsumer<Object> setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.putLong(getter.applyAsLong(bean));
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.accept(bean, buffer.getLong());
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Long.BYTES;
+    }
+  }
+
+  private static final class DoubleField extends FieldCodec {
+
+    private final ToDoubleFunction<Object> getter;
+    private final ObjDoubleConsumer<Object> setter;
+
+    private DoubleField(ToDoubleFunction<Object> getter, ObjDoubleConsumer<Object> setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.putDouble(getter.applyAsDouble(bean));
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.accept(bean, buffer.getDouble());
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Double.BYTES;
+    }
+  }
+
+  private static final class BooleanField extends FieldCodec {
+
+    private final BooleanGetter getter;
+    private final BooleanSetter setter;
+
+    private BooleanField(BooleanGetter getter, BooleanSetter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.put(getter.get(bean) ? NON_NULL : NULL);
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.set(bean, buffer.get() != NULL);
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Byte.BYTES;
+    }
+  }
+
+  private static final class ByteField extends FieldCodec {
+
+    private final ByteGetter getter;
+    private final ByteSetter setter;
+
+    private ByteField(ByteGetter getter, ByteSetter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.put(getter.get(bean));
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.set(bean, buffer.get());
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Byte.BYTES;
+    }
+  }
+
+  private static final class ShortField extends FieldCodec {
+
+    private final ShortGetter getter;
+    private final ShortSetter setter;
+
+    private ShortField(ShortGetter getter, ShortSetter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.putShort(getter.get(bean));
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.set(bean, buffer.getShort());
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Short.BYTES;
+    }
+  }
+
+  private static final class CharField extends FieldCodec {
+
+    private final CharGetter getter;
+    private final CharSetter setter;
+
+    private CharField(CharGetter getter, CharSetter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.putChar(getter.get(bean));
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.set(bean, buffer.getChar());
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Character.BYTES;
+    }
+  }
+
+  private static final class FloatField extends FieldCodec {
+
+    private final FloatGetter getter;
+    private final FloatSetter setter;
+
+    private FloatField(FloatGetter getter, FloatSetter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      buffer.putFloat(getter.get(bean));
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      setter.set(bean, buffer.getFloat());
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Float.BYTES;
+    }
+  }
+
+  /**
+   * Writes primitive wrappers as null flag followed by primitive value.
+   */
+  private static final class BoxedField extends FieldCodec {
+
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final Class<?> type;
+    private final int size;
+
+    private BoxedField(Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                       Class<?> type) {
+      this.getter = getter;
+      this.setter = setter;
+      this.type = type;
+      this.size = Byte.BYTES + valueSize(type);
+    }
+
+    private static boolean isBoxed(Class<?> type) {
+      return valueSize(type) > 0;
+    }
+
+    private static int valueSize(Class<?> type) {
+      if (type == Integer.class || type == Float.class) {
+        return Integer.BYTES;
+      }
+      if (type == Long.class || type == Double.class) {
+        return Long.BYTES;
+      }
+      if (type == Short.class || type == Character.class) {
+        return Short.BYTES;
+      }
+      if (type == Byte.class || type == Boolean.class) {
+        return Byte.BYTES;
+      }
+      return 0;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      Object value = getter.apply(bean);
+      if (Objects.isNull(value)) {
+        buffer.put(NULL);
+        return;
+      }
+      buffer.put(NON_NULL);
+      if (type == Integer.class) {
+        buffer.putInt((Integer) value);
+      } else if (type == Long.class) {
+        buffer.putLong((Long) value);
+      } else if (type == Double.class) {
+        buffer.putDouble((Double) value);
+      } else if (type == Float.class) {
+        buffer.putFloat((Float) value);
+      } else if (type == Short.class) {
+        buffer.putShort((Short) value);
+      } else if (type == Character.class) {
+        buffer.putChar((Character) value);
+      } else if (type == Byte.class) {
+        buffer.put((Byte) value);
+      } else {
+        buffer.put((Boolean) value ? NON_NULL : NULL);
+      }
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      if (buffer.get() == NULL) {
+        setter.accept(bean, null);
+        return;
+      }
+      Object value;
+      if (type == Integer.class) {
+        value = buffer.getInt();
+      } else if (type == Long.class) {
+        value = buffer.getLong();
+      } else if (type == Double.class) {
+        value = buffer.getDouble();
+      } else if (type == Float.class) {
+        value = buffer.getFloat();
+      } else if (type == Short.class) {
+        value = buffer.getShort();
+      } else if (type == Character.class) {
+        value = buffer.getChar();
+      } else if (type == Byte.class) {
+        value = buffer.get();
+      } else {
+        value = buffer.get() != NULL;
+      }
+      setter.accept(bean, value);
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Objects.isNull(getter.apply(bean)) ? Byte.BYTES : size;
+    }
+  }
+
+  /**
+   * Writes enums as ordinal, -1 for null.
+   */
+  private static final class EnumField extends FieldCodec {
+
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final Object[] constants;
+
+    private EnumField(Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                      Object[] constants) {
+      this.getter = getter;
+      this.setter = setter;
+      this.constants = constants;
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      Object value = getter.apply(bean);
+      buffer.putInt(Objects.isNull(value) ? -1 : ((Enum<?>) value).ordinal());
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      int ordinal = buffer.getInt();
+      if (ordinal >= constants.length) {
+        throw CodecException.format("Unknown ordinal %d of %s", ordinal,
+                                    constants.getClass().getComponentType());
+      }
+      setter.accept(bean, ordinal < 0 ? null : constants[ordinal]);
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      return Integer.BYTES;
+    }
+  }
+
+  /**
+   * Writes strings as UTF-8 bytes length, -1 for null, followed by UTF-8 bytes. Strings are
+   * encoded directly into buffer without intermediate byte arrays. Unpaired surrogates are written
+   * as 3 bytes sequences, so any string survives round trip.
+   */
+  private static final class StringField extends FieldCodec {
+
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    private StringField(Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    private static int utf8Length(String value) {
+      int length = 0;
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          length += 1;
+        } else if (c < 0x800) {
+          length += 2;
+        } else if (isSurrogatePair(value, i)) {
+          length += 4;
+          i++;
+        } else {
+          length += 3;
+        }
+      }
+      return length;
+    }
+
+    /**
+     * @return Count of continuation bytes after lead byte or -1 if byte can't start sequence
+     */
+    private static int continuationLength(int lead) {
+      if (lead >= 0xC0 && lead < 0xE0) {
+        return 1;
+      }
+      if (lead >= 0xE0 && lead < 0xF0) {
+        return 2;
+      }
+      if (lead >= 0xF0 && lead < 0xF8) {
+        return 3;
+      }
+      return -1;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+      return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    @Override
+    void write(Object bean, ByteBuffer buffer) {
+      String value = (String) getter.apply(bean);
+      if (Objects.isNull(value)) {
+        buffer.putInt(-1);
+        return;
+      }
+      buffer.putInt(utf8Length(value));
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          buffer.put((byte) c);
+        } else if (c < 0x800) {
+          buffer.put((byte) (0xC0 | c >> 6));
+          buffer.put((byte) (0x80 | c & 0x3F));
+        } else if (isSurrogatePair(value, i)) {
+          int codePoint = Character.toCodePoint(c, value.charAt(++i));
+          buffer.put((byte) (0xF0 | codePoint >> 18));
+          buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+          buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+          buffer.put((byte) (0x80 | codePoint & 0x3F));
+        } else {
+          buffer.put((byte) (0xE0 | c >> 12));
+          buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+          buffer.put((byte) (0x80 | c & 0x3F));
+        }
+      }
+    }
+
+    @Override
+    void read(Object bean, ByteBuffer buffer) {
+      int length = buffer.getInt();
+      if (length < 0) {
+        setter.accept(bean, null);
+        return;
+      }
+      if (length > buffer.remaining()) {
+        throw CodecException.format("String length %d exceeds %d remaining bytes", length,
+                                    buffer.remaining());
+      }
+      char[] chars = new char[length];
+      int count = 0;
+      int end = buffer.position() + length;
+      while (buffer.position() < end) {
+        int b = buffer.get() & 0xFF;
+        if (b < 0x80) {
+          chars[count++] = (char) b;
+          continue;
+        }
+        int continuation = continuationLength(b);
+        if (continuation < 0 || buffer.position() + continuation > end) {
+          throw CodecException.format("Malformed UTF-8 sequence at byte %d of %d byte string",
+                                      length - (end - buffer.position()) - 1, length);
+        }
+        if (b < 0xE0) {
+          chars[count++] = (char) ((b & 0x1F) << 6 | buffer.get() & 0x3F);
+        } else if (b < 0xF0) {
+          chars[count++] = (char) ((b & 0x0F) << 12 | (buffer.get() & 0x3F) << 6
+              | buffer.get() & 0x3F);
+        } else {
+          int codePoint = (b & 0x07) << 18 | (buffer.get() & 0x3F) << 12
+              | (buffer.get() & 0x3F) << 6 | buffer.get() & 0x3F;
+          chars[count++] = Character.highSurrogate(codePoint);
+          chars[count++] = Character.lowSurrogate(codePoint);
+        }
+      }
+      setter.accept(bean, new String(chars, 0, count));
+    }
+
+    @Override
+    int sizeOf(Object bean) {
+      String value = (String) getter.apply(bean);
+      return Integer.BYTES + (Objects.isNull(value) ? 0 : utf8Length(value));
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package tech.hiddenproject.aide.codec;
+
+/**
+ * Functional interfaces to wrap getters and setters of primitive properties without boxing.
+ * Properties of int, long and double types are wrapped into standard
+ * {@link java.util.function.ToIntFunction}, {@link java.util.function.ObjIntConsumer} and
+ * similar interfaces.
+ *
+ * @author Danila Rassokhin
+ */
+public interface PrimitiveAccessor {
+
+  interface BooleanGetter {
+
+    boolean get(Object bean);
+  }
+
+  interface BooleanSetter {
+
+    void set(Object bean, boolean value);
+  }
+
+  interface ByteGetter {
+
+    byte get(Object bean);
+  }
+
+  interface ByteSetter {
+
+    void set(Object bean, byte value);
+  }
+
+  interface ShortGetter {
+
+    short get(Object bean);
+  }
+
+  interface ShortSetter {
+
+    void set(Object bean, short value);
+  }
+
+  interface CharGetter {
+
+    char get(Object bean);
+  }
+
+  interface CharSetter {
+
+    void set(Object bean, char value);
+  }
+
+  interface FloatGetter {
+
+    float get(Object bean);
+  }
+
+  interface FloatSetter {
+
+    void set(Object bean, float value);
+  }
+}
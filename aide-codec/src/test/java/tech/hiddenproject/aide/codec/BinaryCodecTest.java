@@ -0,0 +1,384 @@
+package tech.hiddenproject.aide.codec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class BinaryCodecTest {
+
+  @Test
+  public void heapBufferTest() {
+    BinaryCodec<Entity> codec = BinaryCodec.of(Entity.class);
+    Entity entity = Entity.create();
+    ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(entity));
+
+    codec.write(entity, buffer);
+    Assertions.assertFalse(buffer.hasRemaining());
+    buffer.flip();
+
+    Assertions.assertEquals(entity, codec.read(buffer));
+  }
+
+  @Test
+  public void directBufferTest() {
+    BinaryCodec<Entity> codec = BinaryCodec.of(Entity.class);
+    Entity entity = new Entity();
+    entity.setText("");
+    ByteBuffer buffer = ByteBuffer.allocateDirect(
+        codec.sizeOf(entity) + codec.sizeOf(Entity.create()));
+
+    codec.write(entity, buffer);
+    codec.write(Entity.create(), buffer);
+    buffer.flip();
+
+    Assertions.assertEquals(entity, codec.read(buffer));
+    Entity target = new Entity();
+    Assertions.assertSame(target, codec.read(buffer, target));
+    Assertions.assertEquals(Entity.create(), target);
+  }
+
+  @Test
+  public void mappedBufferTest() throws IOException {
+    BinaryCodec<Entity> codec = BinaryCodec.of(Entity.class);
+    Entity entity = Entity.create();
+    Path file = Files.createTempFile("aide-codec", ".bin");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                                                StandardOpenOption.WRITE)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                            codec.sizeOf(entity));
+      codec.write(entity, buffer);
+      buffer.flip();
+
+      Assertions.assertEquals(entity, codec.read(buffer));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void fingerprintTest() {
+    BinaryCodec<Entity> codec = BinaryCodec.of(Entity.class);
+    BinaryCodec<Other> otherCodec = BinaryCodec.of(Other.class);
+    ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(Entity.create()));
+
+    codec.write(Entity.create(), buffer);
+    buffer.flip();
+
+    Assertions.assertNotEquals(codec.getFingerprint(), otherCodec.getFingerprint());
+    Assertions.assertThrows(CodecException.class, () -> otherCodec.read(buffer));
+  }
+
+  @Test
+  public void unsupportedTypeTest() {
+    Assertions.assertThrows(CodecException.class, () -> BinaryCodec.of(Unsupported.class));
+  }
+
+  @Test
+  public void truncatedStringTest() {
+    BinaryCodec<Named> codec = BinaryCodec.of(Named.class);
+    Named named = new Named();
+    named.setName("Hello");
+    ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(named));
+
+    codec.write(named, buffer);
+    buffer.flip();
+    buffer.limit(buffer.limit() - 1);
+
+    Assertions.assertThrows(CodecException.class, () -> codec.read(buffer));
+  }
+
+  @Test
+  public void malformedStringTest() {
+    BinaryCodec<Named> codec = BinaryCodec.of(Named.class);
+
+    Assertions.assertThrows(CodecException.class, () -> codec.read(stringBuffer(0xF0)));
+    Assertions.assertThrows(CodecException.class, () -> codec.read(stringBuffer(0xE2, 0x82)));
+    Assertions.assertThrows(CodecException.class, () -> codec.read(stringBuffer(0x80)));
+    Assertions.assertEquals("\u20AC", codec.read(stringBuffer(0xE2, 0x82, 0xAC)).getName());
+  }
+
+  @Test
+  public void truncatedLeadByteTest() {
+    BinaryCodec<Pair> codec = BinaryCodec.of(Pair.class);
+    Pair pair = new Pair();
+    pair.setFirst("A\u00E9");
+    pair.setSecond("Hi");
+    ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(pair));
+
+    codec.write(pair, buffer);
+    buffer.flip();
+    buffer.putInt(Long.BYTES, 2);
+
+    Assertions.assertThrows(CodecException.class, () -> codec.read(buffer));
+  }
+
+  private ByteBuffer stringBuffer(int... bytes) {
+    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + bytes.length);
+    buffer.putLong(BinaryCodec.of(Named.class).getFingerprint());
+    buffer.putInt(bytes.length);
+    for (int b : bytes) {
+      buffer.put((byte) b);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  @Test
+  public void noConstructorTest() {
+    Assertions.assertThrows(CodecException.class, () -> BinaryCodec.of(Immutable.class));
+  }
+
+  public enum Level {
+    LOW, HIGH
+  }
+
+  public static class Entity {
+
+    private int id;
+    private long time;
+    private double score;
+    private float ratio;
+    private short code;
+    private byte flags;
+    private char grade;
+    private boolean active;
+    private Integer count;
+    private Long total;
+    private Boolean valid;
+    private String text;
+    private Level level;
+
+    public static Entity create() {
+      Entity entity = new Entity();
+      entity.setId(42);
+      entity.setTime(-1L);
+      entity.setScore(3.5);
+      entity.setRatio(0.25f);
+      entity.setCode((short) 7);
+      entity.setFlags((byte) -2);
+      entity.setGrade('é');
+      entity.setActive(true);
+      entity.setCount(10);
+      entity.setValid(false);
+      entity.setText("Hello, мир € 😀");
+      entity.setLevel(Level.HIGH);
+      return entity;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+
+    public long getTime() {
+      return time;
+    }
+
+    public void setTime(long time) {
+      this.time = time;
+    }
+
+    public double getScore() {
+      return score;
+    }
+
+    public void setScore(double score) {
+      this.score = score;
+    }
+
+    public float getRatio() {
+      return ratio;
+    }
+
+    public void setRatio(float ratio) {
+      this.ratio = ratio;
+    }
+
+    public short getCode() {
+      return code;
+    }
+
+    public void setCode(short code) {
+      this.code = code;
+    }
+
+    public byte getFlags() {
+      return flags;
+    }
+
+    public void setFlags(byte flags) {
+      this.flags = flags;
+    }
+
+    public char getGrade() {
+      return grade;
+    }
+
+    public void setGrade(char grade) {
+      this.grade = grade;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+
+    public Integer getCount() {
+      return count;
+    }
+
+    public void setCount(Integer count) {
+      this.count = count;
+    }
+
+    public Long getTotal() {
+      return total;
+    }
+
+    public void setTotal(Long total) {
+      this.total = total;
+    }
+
+    public Boolean getValid() {
+      return valid;
+    }
+
+    public void setValid(Boolean valid) {
+      this.valid = valid;
+    }
+
+    public String getText() {
+      return text;
+    }
+
+    public void setText(String text) {
+      this.text = text;
+    }
+
+    public Level getLevel() {
+      return level;
+    }
+
+    public void setLevel(Level level) {
+      this.level = level;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Entity entity = (Entity) o;
+      return id == entity.id && time == entity.time && Double.compare(score, entity.score) == 0
+          && Float.compare(ratio, entity.ratio) == 0 && code == entity.code
+          && flags == entity.flags && grade == entity.grade && active == entity.active
+          && Objects.equals(count, entity.count)
+          && Objects.equals(total, entity.total)
+          && Objects.equals(valid, entity.valid)
+          && Objects.equals(text, entity.text) && level == entity.level;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, time, text);
+    }
+  }
+
+  public static class Other {
+
+    private long id;
+
+    public long getId() {
+      return id;
+    }
+
+    public void setId(long id) {
+      this.id = id;
+    }
+  }
+
+  public static class Unsupported {
+
+    private Object value;
+
+    public Object getValue() {
+      return value;
+    }
+
+    public void setValue(Object value) {
+      this.value = value;
+    }
+  }
+
+  public static class Named {
+
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class Pair {
+
+    private String first;
+    private String second;
+
+    public String getFirst() {
+      return first;
+    }
+
+    public void setFirst(String first) {
+      this.first = first;
+    }
+
+    public String getSecond() {
+      return second;
+    }
+
+    public void setSecond(String second) {
+      this.second = second;
+    }
+  }
+
+  public static class Immutable {
+
+    private long id;
+
+    public Immutable(long id) {
+      this.id = id;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public void setId(long id) {
+      this.id = id;
+    }
+  }
+}
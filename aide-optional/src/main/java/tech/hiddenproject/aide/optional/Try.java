@@ -0,0 +1,254 @@
+package tech.hiddenproject.aide.optional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Result of computation which may fail. Holds value or {@link Throwable} without throwing it, so
+ * failures can be processed without exception handling. Unlike {@link ThrowableOptional} nothing
+ * is rethrown until {@link #get()} is called.
+ *
+ * @param <T> Value type
+ * @author Danila Rassokhin
+ */
+public final class Try<T> {
+
+  private final T value;
+
+  private final Throwable failure;
+
+  private Try(T value, Throwable failure) {
+    this.value = value;
+    this.failure = failure;
+  }
+
+  /**
+   * Creates successful result.
+   *
+   * @param value Value, may be null
+   * @param <T>   Value type
+   * @return {@link Try}
+   */
+  public static <T> Try<T> success(T value) {
+    return new Try<>(value, null);
+  }
+
+  /**
+   * Creates failed result.
+   *
+   * @param failure {@link Throwable}
+   * @param <T>     Value type
+   * @return {@link Try}
+   */
+  public static <T> Try<T> failure(Throwable failure) {
+    Objects.requireNonNull(failure);
+    return new Try<>(null, failure);
+  }
+
+  /**
+   * Executes {@link SneakySupplier} and catches any Throwable.
+   *
+   * @param supplier {@link SneakySupplier}
+   * @param <T>      Value type
+   * @return Successful result with supplied value or failed result with thrown Throwable
+   */
+  public static <T> Try<T> of(SneakySupplier<T> supplier) {
+    try {
+      return success(supplier.get());
+    } catch (Throwable throwable) {
+      return failure(throwable);
+    }
+  }
+
+  /**
+   * Executes {@link SneakyAction} and catches any Throwable.
+   *
+   * @param action {@link SneakyAction}
+   * @return Successful result with null value or failed result with thrown Throwable
+   */
+  public static Try<Void> run(SneakyAction action) {
+    try {
+      action.make();
+      return success(null);
+    } catch (Throwable throwable) {
+      return failure(throwable);
+    }
+  }
+
+  /**
+   * @return true if computation succeeded
+   */
+  public boolean isSuccess() {
+    return Objects.isNull(failure);
+  }
+
+  /**
+   * @return true if computation failed
+   */
+  public boolean isFailure() {
+    return Objects.nonNull(failure);
+  }
+
+  /**
+   * Returns value if computation succeeded. Otherwise throws failure if it is
+   * {@link RuntimeException} or {@link Error} and wraps it into {@link RuntimeException} if not.
+   *
+   * @return Value
+   */
+  public T get() {
+    if (isSuccess()) {
+      return value;
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    throw new RuntimeException(failure);
+  }
+
+  /**
+   * @return Failure or null if computation succeeded
+   */
+  public Throwable getFailure() {
+    return failure;
+  }
+
+  /**
+   * @param other Value to return if computation failed
+   * @return Value or other
+   */
+  public T orElse(T other) {
+    return isSuccess() ? value : other;
+  }
+
+  /**
+   * @param other {@link Supplier} of value to use if computation failed
+   * @return Value or supplied value
+   */
+  public T orElseGet(Supplier<? extends T> other) {
+    return isSuccess() ? value : other.get();
+  }
+
+  /**
+   * @param mapper Function to convert failure to exception to throw
+   * @param <X>    Exception type
+   * @return Value
+   * @throws X if computation failed
+   */
+  public <X extends Throwable> T orElseThrow(Function<Throwable, ? extends X> mapper) throws X {
+    if (isSuccess()) {
+      return value;
+    }
+    throw mapper.apply(failure);
+  }
+
+  /**
+   * Converts value if computation succeeded. Throwable thrown by mapper becomes failure.
+   *
+   * @param mapper Function to convert value
+   * @param <R>    New value type
+   * @return {@link Try} with converted value or same failure
+   */
+  public <R> Try<R> map(Function<? super T, ? extends R> mapper) {
+    if (isFailure()) {
+      return failure(failure);
+    }
+    return of(() -> mapper.apply(value));
+  }
+
+  /**
+   * Converts value to another {@link Try} if computation succeeded. Throwable thrown by mapper
+   * becomes failure.
+   *
+   * @param mapper Function to convert value
+   * @param <R>    New value type
+   * @return {@link Try} returned by mapper or same failure
+   */
+  public <R> Try<R> flatMap(Function<? super T, Try<R>> mapper) {
+    if (isFailure()) {
+      return failure(failure);
+    }
+    try {
+      return Objects.requireNonNull(mapper.apply(value));
+    } catch (Throwable throwable) {
+      return failure(throwable);
+    }
+  }
+
+  /**
+   * Converts failure to value if computation failed. Throwable thrown by function becomes new
+   * failure.
+   *
+   * @param function Function to convert failure to value
+   * @return Successful {@link Try}
+   */
+  public Try<T> recover(Function<? super Throwable, ? extends T> function) {
+    if (isSuccess()) {
+      return this;
+    }
+    return of(() -> function.apply(failure));
+  }
+
+  /**
+   * Converts failure to another {@link Try} if computation failed. Throwable thrown by function
+   * becomes new failure.
+   *
+   * @param function Function to convert failure
+   * @return {@link Try} returned by function or this
+   */
+  public Try<T> recoverWith(Function<? super Throwable, Try<T>> function) {
+    if (isSuccess()) {
+      return this;
+    }
+    try {
+      return Objects.requireNonNull(function.apply(failure));
+    } catch (Throwable throwable) {
+      return failure(throwable);
+    }
+  }
+
+  /**
+   * Executes consumer if computation succeeded.
+   *
+   * @param consumer {@link Consumer} of value
+   * @return this
+   */
+  public Try<T> onSuccess(Consumer<? super T> consumer) {
+    if (isSuccess()) {
+      consumer.accept(value);
+    }
+    return this;
+  }
+
+  /**
+   * Executes consumer if computation failed.
+   *
+   * @param consumer {@link Consumer} of failure
+   * @return this
+   */
+  public Try<T> onFailure(Consumer<? super Throwable> consumer) {
+    if (isFailure()) {
+      consumer.accept(failure);
+    }
+    return this;
+  }
+
+  /**
+   * Converts this result to {@link Optional}. Failure becomes empty {@link Optional}.
+   *
+   * @return {@link Optional}
+   */
+  public Optional<T> generic() {
+    return isSuccess() ? Optional.ofNullable(value) : Optional.empty();
+  }
+
+  @Override
+  public String toString() {
+    return isSuccess() ? "Try{" + "value=" + value + '}' : "Try{" + "failure=" + failure + '}';
+  }
+}
@@ -0,0 +1,48 @@
+package tech.hiddenproject.aide.optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class TryTest {
+
+  @Test
+  public void successTest() {
+    Try<Integer> result = Try.of(() -> "Hello").map(String::length);
+
+    Assertions.assertTrue(result.isSuccess());
+    Assertions.assertEquals(5, result.get());
+    Assertions.assertEquals(5, result.recover(throwable -> 0).get());
+  }
+
+  @Test
+  public void failureTest() {
+    IOException exception = new IOException();
+    Try<Integer> result = Try.<String>of(() -> {
+      throw exception;
+    }).map(String::length);
+
+    Assertions.assertTrue(result.isFailure());
+    Assertions.assertSame(exception, result.getFailure());
+    Assertions.assertEquals(0, result.orElse(0));
+    Assertions.assertEquals(1, result.recover(throwable -> 1).get());
+    Assertions.assertFalse(result.generic().isPresent());
+    RuntimeException thrown = Assertions.assertThrows(RuntimeException.class, result::get);
+    Assertions.assertSame(exception, thrown.getCause());
+  }
+
+  @Test
+  public void flatMapTest() {
+    IllegalStateException exception = new IllegalStateException();
+
+    Try<Integer> result = Try.success("Hi").flatMap(value -> Try.failure(exception));
+
+    Assertions.assertSame(exception, result.getFailure());
+    Assertions.assertThrows(IllegalStateException.class, result::get);
+    Assertions.assertEquals(2, result.recoverWith(throwable -> Try.success(2)).get());
+  }
+}
@@ -0,0 +1,228 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.filter.ExecutableFilter;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * Bootstrap methods for invokedynamic instructions emitted by code generators. Invocation
+ * bootstraps link {@link ConstantCallSite} directly to the target method, so call site is
+ * monomorphic and target can be inlined. Targets are checked with {@link ExecutableFilter} and
+ * unreflected with caller lookup, so caller must have access to target. Filter is
+ * {@link ExecutableFilter#PUBLIC_ONLY} or class of filter with public no-arg constructor passed as
+ * last static argument. Filter is checked once at link time, so it is part of call site and
+ * doesn't depend on mutable global state.
+ *
+ * <p>Call site type must contain exact parameter types of target method. For virtual methods
+ * first parameter is receiver. Return and receiver types are adapted with
+ * {@link MethodHandle#asType(MethodType)}.
+ *
+ * <pre>{@code
+ * // invokedynamic "getName" (LUser;)Ljava/lang/String;
+ * //   AideBootstraps.invokeVirtual(User.class)
+ * // invokedynamic "secret" (LUser;)Ljava/lang/String;
+ * //   AideBootstraps.invokeVirtual(User.class, AnyFilter.class)
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class AideBootstraps {
+
+  private static final ClassValue<ExecutableFilter> FILTERS = new ClassValue<ExecutableFilter>() {
+    @Override
+    protected ExecutableFilter computeValue(Class<?> type) {
+      BooleanOptional.of(ExecutableFilter.class.isAssignableFrom(type))
+          .ifFalseThrow(() -> ReflectionException.format(
+              "Class %s must implement ExecutableFilter", type));
+      return ThrowableOptional.sneaky(
+          () -> (ExecutableFilter) type.getConstructor().newInstance(),
+          e -> new ReflectionException(
+              String.format("Can't create filter %s with public no-arg constructor", type), e)
+      );
+    }
+  };
+
+  private AideBootstraps() {
+  }
+
+  /**
+   * Links call site to instance method.
+   *
+   * @param caller Caller lookup
+   * @param name   Method name
+   * @param type   Call site type, first parameter is receiver
+   * @param owner  Class to search method in
+   * @return {@link ConstantCallSite}
+   * @throws ReflectionException if method not found, is static or not allowed by filter
+   */
+  public static CallSite invokeVirtual(MethodHandles.Lookup caller, String name, MethodType type,
+                                       Class<?> owner) {
+    return invokeVirtual(caller, name, type, owner, ExecutableFilter.PUBLIC_ONLY);
+  }
+
+  /**
+   * Links call site to instance method allowed by given filter.
+   *
+   * @param caller     Caller lookup
+   * @param name       Method name
+   * @param type       Call site type, first parameter is receiver
+   * @param owner      Class to search method in
+   * @param filterType Class of {@link ExecutableFilter} with public no-arg constructor
+   * @return {@link ConstantCallSite}
+   * @throws ReflectionException if method not found, is static or not allowed by filter
+   */
+  public static CallSite invokeVirtual(MethodHandles.Lookup caller, String name, MethodType type,
+                                       Class<?> owner, Class<?> filterType) {
+    return invokeVirtual(caller, name, type, owner, FILTERS.get(filterType));
+  }
+
+  private static CallSite invokeVirtual(MethodHandles.Lookup caller, String name, MethodType type,
+                                        Class<?> owner, ExecutableFilter filter) {
+    BooleanOptional.of(type.parameterCount() > 0)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Call site type %s of virtual method %s must contain receiver", type, name));
+    Method method = findMethod(owner, name, type.dropParameterTypes(0, 1).parameterArray());
+    BooleanOptional.of(Modifier.isStatic(method.getModifiers()))
+        .ifTrueThrow(() -> ReflectionException.format("Method %s is static", method));
+    return link(caller, method, type, filter);
+  }
+
+  /**
+   * Links call site to static method.
+   *
+   * @param caller Caller lookup
+   * @param name   Method name
+   * @param type   Call site type
+   * @param owner  Class to search method in
+   * @return {@link ConstantCallSite}
+   * @throws ReflectionException if method not found, is not static or not allowed by filter
+   */
+  public static CallSite invokeStatic(MethodHandles.Lookup caller, String name, MethodType type,
+                                      Class<?> owner) {
+    return invokeStatic(caller, name, type, owner, ExecutableFilter.PUBLIC_ONLY);
+  }
+
+  /**
+   * Links call site to static method allowed by given filter.
+   *
+   * @param caller     Caller lookup
+   * @param name       Method name
+   * @param type       Call site type
+   * @param owner      Class to search method in
+   * @param filterType Class of {@link ExecutableFilter} with public no-arg constructor
+   * @return {@link ConstantCallSite}
+   * @throws ReflectionException if method not found, is not static or not allowed by filter
+   */
+  public static CallSite invokeStatic(MethodHandles.Lookup caller, String name, MethodType type,
+                                      Class<?> owner, Class<?> filterType) {
+    return invokeStatic(caller, name, type, owner, FILTERS.get(filterType));
+  }
+
+  private static CallSite invokeStatic(MethodHandles.Lookup caller, String name, MethodType type,
+                                       Class<?> owner, ExecutableFilter filter) {
+    Method method = findMethod(owner, name, type.parameterArray());
+    BooleanOptional.of(Modifier.isStatic(method.getModifiers()))
+        .ifFalseThrow(() -> ReflectionException.format("Method %s is not static", method));
+    return link(caller, method, type, filter);
+  }
+
+  /**
+   * Links call site to constructor of call site return type.
+   *
+   * @param caller Caller lookup
+   * @param name   Ignored, usually {@code <init>}
+   * @param type   Call site type, return type is class to instantiate
+   * @return {@link ConstantCallSite}
+   * @throws ReflectionException if constructor not found or not allowed by filter
+   */
+  public static CallSite newInstance(MethodHandles.Lookup caller, String name, MethodType type) {
+    return newInstance(caller, type, ExecutableFilter.PUBLIC_ONLY);
+  }
+
+  /**
+   * Links call site to constructor of call site return type allowed by given filter.
+   *
+   * @param caller     Caller lookup
+   * @param name       Ignored, usually {@code <init>}
+   * @param type       Call site type, return type is class to instantiate
+   * @param filterType Class of {@link ExecutableFilter} with public no-arg constructor
+   * @return {@link ConstantCallSite}
+   * @throws ReflectionException if constructor not found or not allowed by filter
+   */
+  public static CallSite newInstance(MethodHandles.Lookup caller, String name, MethodType type,
+                                     Class<?> filterType) {
+    return newInstance(caller, type, FILTERS.get(filterType));
+  }
+
+  private static CallSite newInstance(MethodHandles.Lookup caller, MethodType type,
+                                      ExecutableFilter filter) {
+    Class<?> owner = type.returnType();
+    Constructor<?> constructor = ThrowableOptional.sneaky(
+        () -> owner.getDeclaredConstructor(type.parameterArray()),
+        e -> ReflectionException.format("Constructor %s not found in %s",
+                                        Arrays.toString(type.parameterArray()), owner)
+    );
+    return link(caller, constructor, type, filter);
+  }
+
+  /**
+   * Links call site to new {@link InlineCache} with {@link InlineCache#DEFAULT_DEPTH}. Call site
+   * type must be {@code (Executable, Object...)Object}, where objects are receiver and arguments of
+   * executable passed as first argument.
+   *
+   * @param caller Caller lookup
+   * @param name   Ignored
+   * @param type   Call site type
+   * @return {@link InlineCache#getCallSite()}
+   * @throws ReflectionException if call site type is not generic
+   */
+  public static CallSite inlineCache(MethodHandles.Lookup caller, String name, MethodType type) {
+    int arity = type.parameterCount() - 1;
+    BooleanOptional.of(arity >= 0 && type.equals(
+            MethodType.genericMethodType(arity).insertParameterTypes(0, Executable.class)))
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Inline cache call site type must be (Executable, Object...)Object, but %s given",
+            type));
+    return InlineCache.create(arity).getCallSite();
+  }
+
+  private static CallSite link(MethodHandles.Lookup caller, Executable executable,
+                               MethodType type, ExecutableFilter filter) {
+    BooleanOptional.of(filter.filter(executable))
+        .ifFalseThrow(filter::getException);
+    MethodHandle target = ThrowableOptional.sneaky(
+        () -> executable instanceof Method
+            ? caller.unreflect((Method) executable)
+            : caller.unreflectConstructor((Constructor<?>) executable)
+    );
+    return new ConstantCallSite(target.asType(type));
+  }
+
+  private static Method findMethod(Class<?> owner, String name, Class<?>[] parameterTypes) {
+    try {
+      return owner.getMethod(name, parameterTypes);
+    } catch (NoSuchMethodException e) {
+      for (Class<?> type = owner; type != null; type = type.getSuperclass()) {
+        try {
+          return type.getDeclaredMethod(name, parameterTypes);
+        } catch (NoSuchMethodException ignored) {
+          // Continue with superclass
+        }
+      }
+    }
+    throw ReflectionException.format("Method %s%s not found in %s", name,
+                                     Arrays.toString(parameterTypes), owner);
+  }
+}
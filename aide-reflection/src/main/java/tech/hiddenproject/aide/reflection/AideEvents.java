@@ -0,0 +1,48 @@
+package tech.hiddenproject.aide.reflection;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+
+/**
+ * Hooks to record wrapping and invocation events. Does nothing on Java 8. Multi-release jar
+ * replaces this class on JDK 17+ to emit Java Flight Recorder events.
+ *
+ * <p>Each begin method returns event token which must be passed to matching end method. Token is
+ * null if event is not recorded.
+ *
+ * @author Danila Rassokhin
+ */
+final class AideEvents {
+
+  private AideEvents() {
+  }
+
+  static Object beginWrap() {
+    return null;
+  }
+
+  static void endWrap(Object event, Executable executable, Class<?> wrapperInterface,
+                      boolean cacheHit) {
+  }
+
+  static Object beginRegistration() {
+    return null;
+  }
+
+  static void endRegistration(Object event, Method wrapperMethod) {
+  }
+
+  static Object beginMatcherLookup() {
+    return null;
+  }
+
+  static void endMatcherLookup(Object event, Executable executable) {
+  }
+
+  static Object beginInvoke() {
+    return null;
+  }
+
+  static void endInvoke(Object event, Executable executable) {
+  }
+}
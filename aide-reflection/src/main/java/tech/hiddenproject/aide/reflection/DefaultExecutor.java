@@ -0,0 +1,24 @@
+package tech.hiddenproject.aide.reflection;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Provides default {@link Executor} for asynchronous invocations. Uses
+ * {@link ForkJoinPool#commonPool()} on Java 8. Multi-release jar replaces this class on JDK 21+ to
+ * use virtual threads.
+ *
+ * @author Danila Rassokhin
+ */
+final class DefaultExecutor {
+
+  private DefaultExecutor() {
+  }
+
+  /**
+   * @return Default {@link Executor}
+   */
+  static Executor get() {
+    return ForkJoinPool.commonPool();
+  }
+}
@@ -0,0 +1,278 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Executable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polymorphic inline cache for invocation of executables at single call site. Unlike invocation
+ * through shared {@link LambdaWrapper} interface, each cache has own {@link MutableCallSite} with
+ * chain of guards which compare target {@link Executable} and invoke its direct
+ * {@link MethodHandle}, so JIT can inline targets seen at this call site.
+ *
+ * <p>When call site sees more executables than cache depth, it becomes megamorphic: guards are
+ * dropped and targets are looked up in map.
+ *
+ * <p>Arguments are passed as objects, for instance methods first argument is receiver. To let JIT
+ * inline through the cache, store {@link #dynamicInvoker()} in static final field or link
+ * invokedynamic instruction to {@link #getCallSite()} with
+ * {@link AideBootstraps#inlineCache(MethodHandles.Lookup, String, MethodType)}.
+ *
+ * <pre>{@code
+ * static final InlineCache GETTERS = InlineCache.create(1);
+ * Object value = GETTERS.invoke(getter, user);
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public class InlineCache {
+
+  /**
+   * Default max count of executables cached at call site.
+   */
+  public static final int DEFAULT_DEPTH = 8;
+
+  private static final MethodHandle MISS;
+
+  private static final MethodHandle MEGAMORPHIC;
+
+  private static final MethodHandle IS_TARGET;
+
+  static {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MISS = ThrowableOptional.sneaky(() -> lookup.findVirtual(
+        InlineCache.class, "miss",
+        MethodType.methodType(Object.class, Executable.class, Object[].class)
+    ));
+    MEGAMORPHIC = ThrowableOptional.sneaky(() -> lookup.findVirtual(
+        InlineCache.class, "invokeMegamorphic",
+        MethodType.methodType(Object.class, Executable.class, Object[].class)
+    ));
+    IS_TARGET = ThrowableOptional.sneaky(() -> lookup.findStatic(
+        InlineCache.class, "isTarget",
+        MethodType.methodType(boolean.class, Executable.class, Executable.class)
+    ));
+  }
+
+  private final LambdaWrapperHolder holder;
+
+  private final int arity;
+
+  private final int maxDepth;
+
+  private final MethodType genericType;
+
+  private final MutableCallSite callSite;
+
+  private final MethodHandle invoker;
+
+  private final Map<Executable, MethodHandle> megamorphicTargets = new ConcurrentHashMap<>();
+
+  private final Map<Executable, MethodHandle> guardedTargets = new HashMap<>();
+
+  private volatile boolean megamorphic;
+
+  private InlineCache(LambdaWrapperHolder holder, int arity, int maxDepth) {
+    this.holder = holder;
+    this.arity = arity;
+    this.maxDepth = maxDepth;
+    this.genericType = MethodType.genericMethodType(arity);
+    MethodType type = genericType.insertParameterTypes(0, Executable.class);
+    this.callSite = new MutableCallSite(type);
+    callSite.setTarget(MISS.bindTo(this).asCollector(Object[].class, arity).asType(type));
+    this.invoker = callSite.dynamicInvoker();
+  }
+
+  /**
+   * Creates cache with {@link #DEFAULT_DEPTH} using {@link LambdaWrapperHolder#DEFAULT}.
+   *
+   * @param arity Count of arguments including receiver
+   * @return {@link InlineCache}
+   */
+  public static InlineCache create(int arity) {
+    return create(LambdaWrapperHolder.DEFAULT, arity, DEFAULT_DEPTH);
+  }
+
+  /**
+   * Creates cache. Targets are unreflected with lookup of given holder and checked with its
+   * filter.
+   *
+   * @param holder   {@link LambdaWrapperHolder}
+   * @param arity    Count of arguments including receiver
+   * @param maxDepth Max count of executables cached before call site becomes megamorphic
+   * @return {@link InlineCache}
+   */
+  public static InlineCache create(LambdaWrapperHolder holder, int arity, int maxDepth) {
+    BooleanOptional.of(arity >= 0 && maxDepth >= 0)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Arity and depth must be non negative, but %d and %d given", arity, maxDepth));
+    return new InlineCache(holder, arity, maxDepth);
+  }
+
+  private static boolean isTarget(Executable expected, Executable actual) {
+    return expected == actual || expected.equals(actual);
+  }
+
+  /**
+   * @return Call site with type {@code (Executable, Object...)Object}
+   */
+  public CallSite getCallSite() {
+    return callSite;
+  }
+
+  /**
+   * @return Invoker of call site with type {@code (Executable, Object...)Object}
+   */
+  public MethodHandle dynamicInvoker() {
+    return invoker;
+  }
+
+  /**
+   * @return Count of arguments including receiver
+   */
+  public int getArity() {
+    return arity;
+  }
+
+  /**
+   * @return Count of executables cached in guards
+   */
+  public synchronized int getDepth() {
+    return guardedTargets.size();
+  }
+
+  /**
+   * @return true if call site saw more executables than cache depth
+   */
+  public boolean isMegamorphic() {
+    return megamorphic;
+  }
+
+  /**
+   * Invokes executable without arguments.
+   *
+   * @param executable Static method or constructor
+   * @param <R>        Return type
+   * @return Invocation result
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R invoke(Executable executable) {
+    checkArity(0);
+    try {
+      return (R) (Object) invoker.invokeExact(executable);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
+  /**
+   * Invokes executable with one argument.
+   *
+   * @param executable Executable to invoke
+   * @param arg0       Receiver for instance method or first argument
+   * @param <R>        Return type
+   * @return Invocation result
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R invoke(Executable executable, Object arg0) {
+    checkArity(1);
+    try {
+      return (R) (Object) invoker.invokeExact(executable, arg0);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
+  /**
+   * Invokes executable with two arguments. See {@link #invoke(Executable, Object)}.
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R invoke(Executable executable, Object arg0, Object arg1) {
+    checkArity(2);
+    try {
+      return (R) (Object) invoker.invokeExact(executable, arg0, arg1);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
+  /**
+   * Invokes executable with three arguments. See {@link #invoke(Executable, Object)}.
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R invoke(Executable executable, Object arg0, Object arg1, Object arg2) {
+    checkArity(3);
+    try {
+      return (R) (Object) invoker.invokeExact(executable, arg0, arg1, arg2);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
+  private void checkArity(int count) {
+    if (count != arity) {
+      throw ReflectionException.format("Inline cache accepts %d arguments, but %d given", arity,
+                                       count);
+    }
+  }
+
+  private Object miss(Executable executable, Object[] args) throws Throwable {
+    MethodHandle target = null;
+    synchronized (this) {
+      if (!megamorphic) {
+        target = guardedTargets.get(executable);
+        if (Objects.isNull(target)) {
+          target = adapt(executable);
+          relink(executable, target);
+        }
+      }
+    }
+    if (Objects.isNull(target)) {
+      return invokeMegamorphic(executable, args);
+    }
+    return target.invokeWithArguments(args);
+  }
+
+  private void relink(Executable executable, MethodHandle target) {
+    if (guardedTargets.size() < maxDepth) {
+      MethodHandle test = MethodHandles.insertArguments(IS_TARGET, 0, executable);
+      MethodHandle guarded = MethodHandles.dropArguments(target, 0, Executable.class);
+      callSite.setTarget(MethodHandles.guardWithTest(test, guarded, callSite.getTarget()));
+      guardedTargets.put(executable, target);
+    } else {
+      megamorphic = true;
+      guardedTargets.clear();
+      callSite.setTarget(MEGAMORPHIC.bindTo(this).asCollector(Object[].class, arity)
+                             .asType(callSite.type()));
+    }
+  }
+
+  private Object invokeMegamorphic(Executable executable, Object[] args) throws Throwable {
+    MethodHandle target = megamorphicTargets.get(executable);
+    if (target == null) {
+      target = megamorphicTargets.computeIfAbsent(
+          executable, e -> adapt(e).asSpreader(Object[].class, arity));
+    }
+    return target.invokeExact(args);
+  }
+
+  private MethodHandle adapt(Executable executable) {
+    MethodHandle handle = holder.findHandle(executable);
+    BooleanOptional.of(handle.type().parameterCount() == arity)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "%s requires %d arguments, but inline cache accepts %d", executable,
+            handle.type().parameterCount(), arity));
+    return handle.asType(genericType);
+  }
+}
@@ -0,0 +1,105 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.reflection.matcher.ArgumentMatcher;
+import tech.hiddenproject.aide.reflection.metrics.HistogramSnapshot;
+import tech.hiddenproject.aide.reflection.metrics.LatencyHistogram;
+import tech.hiddenproject.aide.reflection.metrics.LatencyRegistry;
+
+import java.lang.reflect.Executable;
+
+/**
+ * {@link MethodHolder} which records invocation latency into {@link LatencyHistogram} of wrapped
+ * executable in {@link LatencyRegistry}. Only every Nth invocation is timed, other invocations
+ * cost one counter increment. Counter is not atomic on purpose: under concurrent calls some
+ * increments may be lost, which only shifts sampled calls.
+ *
+ * <p>Only {@link #invoke(Object, ArgumentMatcher, Object...)} and
+ * {@link #invokeStatic(ArgumentMatcher, Object...)} and methods delegating to them are recorded,
+ * bulk {@code invokeAll} methods are not.
+ *
+ * <pre>{@code
+ * InstrumentedMethodHolder<LambdaWrapper, Handler, Response> handle = holder.wrapSafe(method)
+ *     .instrument(LatencyRegistry.DEFAULT, 16);
+ * handle.invoke(handler, request);
+ * HistogramSnapshot latency = handle.getHistogram().snapshot();
+ * }</pre>
+ *
+ * @param <W> Wrapper interface type
+ * @param <C> Caller object type (Void for static methods)
+ * @param <R> Wrapped {@link Executable} return type
+ * @author Danila Rassokhin
+ */
+public class InstrumentedMethodHolder<W, C, R> extends MethodHolder<W, C, R> {
+
+  private final LatencyHistogram histogram;
+
+  private final int sampleRate;
+
+  private int calls;
+
+  InstrumentedMethodHolder(WrapperHolder<W> wrapper, Executable method, LatencyRegistry registry,
+                           int sampleRate) {
+    super(wrapper, method);
+    this.histogram = registry.getHistogram(method);
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public R invoke(C caller, ArgumentMatcher<W, Object[], R> argumentMatcher, Object... args) {
+    if (!sample()) {
+      return super.invoke(caller, argumentMatcher, args);
+    }
+    long start = System.nanoTime();
+    try {
+      return super.invoke(caller, argumentMatcher, args);
+    } finally {
+      histogram.record(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public R invokeStatic(ArgumentMatcher<W, Object[], R> argumentMatcher, Object... args) {
+    if (!sample()) {
+      return super.invokeStatic(argumentMatcher, args);
+    }
+    long start = System.nanoTime();
+    try {
+      return super.invokeStatic(argumentMatcher, args);
+    } finally {
+      histogram.record(System.nanoTime() - start);
+    }
+  }
+
+  private boolean sample() {
+    if (sampleRate == 1) {
+      return true;
+    }
+    int call = calls + 1;
+    if (call >= sampleRate) {
+      call = 0;
+    }
+    calls = call;
+    return call == 0;
+  }
+
+  /**
+   * @return Histogram of wrapped executable, shared with other holders of same registry
+   */
+  public LatencyHistogram getHistogram() {
+    return histogram;
+  }
+
+  /**
+   * @return Snapshot of histogram. See {@link LatencyHistogram#snapshot()}
+   */
+  public HistogramSnapshot snapshot() {
+    return histogram.snapshot();
+  }
+
+  /**
+   * @return Every which invocation is recorded
+   */
+  public int getSampleRate() {
+    return sampleRate;
+  }
+}
@@ -4,61 +4,112 @@ import tech.hiddenproject.aide.optional.BooleanOptional;
 import tech.hiddenproject.aide.optional.IfTrueConditional;
 import tech.hiddenproject.aide.optional.ObjectUtils;
 import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.optional.Try;
 import tech.hiddenproject.aide.reflection.annotation.ExactInvoker;
 import tech.hiddenproject.aide.reflection.annotation.Invoker;
 import tech.hiddenproject.aide.reflection.exception.ReflectionException;
 import tech.hiddenproject.aide.reflection.filter.ExecutableFilter;
+import tech.hiddenproject.aide.reflection.function.MethodReference;
+import tech.hiddenproject.aide.reflection.function.SerializableBiConsumer;
+import tech.hiddenproject.aide.reflection.function.SerializableBiFunction;
+import tech.hiddenproject.aide.reflection.function.SerializableConsumer;
+import tech.hiddenproject.aide.reflection.function.SerializableFunction;
+import tech.hiddenproject.aide.reflection.function.SerializableRunnable;
+import tech.hiddenproject.aide.reflection.function.SerializableSupplier;
+import tech.hiddenproject.aide.reflection.matcher.ArgumentMatcherHolder;
+import tech.hiddenproject.aide.reflection.nativeimage.MetadataRecorder;
 import tech.hiddenproject.aide.reflection.signature.AbstractSignature;
 import tech.hiddenproject.aide.reflection.signature.ExactMethodSignature;
 import tech.hiddenproject.aide.reflection.signature.LambdaMetadata;
 import tech.hiddenproject.aide.reflection.signature.MethodSignature;
 
-import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 /**
  * Stores all wrapper signatures and wraps method into them. Uses {@link LambdaMetafactory} to wrap
  * methods into lambda functions dynamically, so reflective method call will be as fast as direct
- * calls.
+ * calls. On JDK 17+ wrappers are defined as hidden classes instead, which are unloaded together
+ * with wrapped classes. Each holder has its own wrappers registry, {@link ExecutableFilter}, lookup
+ * and wrappers cache, so independent holders can be created with {@link #builder()}.
  *
  * @author Danila Rassokhin
  */
-public enum LambdaWrapperHolder {
+public class LambdaWrapperHolder {
 
-  DEFAULT(LambdaWrapper.class),
-  EMPTY;
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
-  private final MethodHandles.Lookup lookup = MethodHandles.lookup();
-  private final Map<Class<?>, Map<AbstractSignature, LambdaMetadata>> invokers = new HashMap<>();
-  private final Map<Class<?>, Map<AbstractSignature, LambdaMetadata>> exactInvokers = new HashMap<>();
+  /**
+   * Shared holder with {@link LambdaWrapper} loaded.
+   */
+  public static final LambdaWrapperHolder DEFAULT = builder().add(LambdaWrapper.class).build();
+
+  /**
+   * Shared holder without any wrappers loaded.
+   */
+  public static final LambdaWrapperHolder EMPTY = builder().build();
 
-  private ExecutableFilter filter = ExecutableFilter.PUBLIC_ONLY;
+  private final MethodHandles.Lookup lookup;
+  private final Map<Class<?>, Map<AbstractSignature, LambdaMetadata>> invokers
+      = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<AbstractSignature, LambdaMetadata>> exactInvokers
+      = new ConcurrentHashMap<>();
+  /**
+   * Wrappers cache is stored per declaring class of wrapped executable, so cached wrappers don't
+   * prevent unloading of classes they call.
+   */
+  private final ClassValue<Map<WrapperKey, Object>> wrappers
+      = new ClassValue<Map<WrapperKey, Object>>() {
+        @Override
+        protected Map<WrapperKey, Object> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private volatile ExecutableFilter filter;
 
-  LambdaWrapperHolder() {
+  private LambdaWrapperHolder(MethodHandles.Lookup lookup, ExecutableFilter filter) {
+    this.lookup = lookup;
+    this.filter = filter;
   }
 
-  LambdaWrapperHolder(Class<?> interfaceClass) {
-    add(interfaceClass);
+  /**
+   * Creates builder for new independent {@link LambdaWrapperHolder}.
+   *
+   * @return {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
   }
 
   /**
    * Sets new {@link ExecutableFilter} to check if {@link Executable} can be wrapped. See
    * {@link tech.hiddenproject.aide.reflection.filter.PublicOnlyFilter} and
-   * {@link tech.hiddenproject.aide.reflection.filter.AnyFilter}.
+   * {@link tech.hiddenproject.aide.reflection.filter.AnyFilter}. Affects only this holder.
    *
    * @param filter {@link ExecutableFilter}
    */
@@ -66,6 +117,13 @@ public enum LambdaWrapperHolder {
     this.filter = filter;
   }
 
+  /**
+   * @return Current {@link ExecutableFilter} of this holder
+   */
+  public ExecutableFilter getFilter() {
+    return filter;
+  }
+
   /**
    * Adds new interface to create wrappers from.
    *
@@ -100,10 +158,13 @@ public enum LambdaWrapperHolder {
     BooleanOptional.of(checkAnnotations(m))
         .ifFalseThrow(() -> ReflectionException.format(
             "Method %s must be annotated as @Invoker " + "or @ExactInvoker", m));
+    Object event = AideEvents.beginRegistration();
     Invoker invoker = m.getAnnotation(Invoker.class);
     ExactInvoker exactInvoker = m.getAnnotation(ExactInvoker.class);
     BooleanOptional.of(Objects.nonNull(invoker)).ifTrueThen(v -> addInvoker(m));
     BooleanOptional.of(Objects.nonNull(exactInvoker)).ifTrueThen(v -> addExactInvoker(m));
+    MetadataRecorder.recordExecutable(m);
+    AideEvents.endRegistration(event, m);
   }
 
   /**
@@ -156,6 +217,56 @@ public enum LambdaWrapperHolder {
     return createWrapper(false, executable);
   }
 
+  /**
+   * Wraps method or constructor referenced by {@link MethodReference}, e.g. {@code User::new}.
+   * Referenced executable is resolved once per method reference expression. See
+   * {@link #wrap(Executable)}.
+   *
+   * @param reference Method reference
+   * @param <R>       Result type
+   * @return {@link  WrapperHolder} for {@link LambdaWrapper}
+   */
+  public <R> WrapperHolder<LambdaWrapper> wrap(SerializableSupplier<R> reference) {
+    return wrap(reference.getExecutable());
+  }
+
+  /**
+   * Wraps method referenced by {@link MethodReference}, e.g. {@code User::getName}. See
+   * {@link #wrap(SerializableSupplier)}.
+   */
+  public <T, R> WrapperHolder<LambdaWrapper> wrap(SerializableFunction<T, R> reference) {
+    return wrap(reference.getExecutable());
+  }
+
+  /**
+   * Wraps method referenced by {@link MethodReference}. See {@link #wrap(SerializableSupplier)}.
+   */
+  public <T, U, R> WrapperHolder<LambdaWrapper> wrap(SerializableBiFunction<T, U, R> reference) {
+    return wrap(reference.getExecutable());
+  }
+
+  /**
+   * Wraps method referenced by {@link MethodReference}. See {@link #wrap(SerializableSupplier)}.
+   */
+  public WrapperHolder<LambdaWrapper> wrap(SerializableRunnable reference) {
+    return wrap(reference.getExecutable());
+  }
+
+  /**
+   * Wraps method referenced by {@link MethodReference}. See {@link #wrap(SerializableSupplier)}.
+   */
+  public <T> WrapperHolder<LambdaWrapper> wrap(SerializableConsumer<T> reference) {
+    return wrap(reference.getExecutable());
+  }
+
+  /**
+   * Wraps method referenced by {@link MethodReference}, e.g. {@code User::setName}. See
+   * {@link #wrap(SerializableSupplier)}.
+   */
+  public <T, U> WrapperHolder<LambdaWrapper> wrap(SerializableBiConsumer<T, U> reference) {
+    return wrap(reference.getExecutable());
+  }
+
   /**
    * Wraps {@link Executable} into wrapper function from given interface to invoke it fast.
    * {@link Executable} must be {@link Modifier#PUBLIC}. Wrapping is supported only for
@@ -239,6 +350,109 @@ public enum LambdaWrapperHolder {
     return new MethodHolder<>(wrapper, executable);
   }
 
+  /**
+   * Wraps constructor or static method referenced by {@link MethodReference}, e.g.
+   * {@code User::new}. See {@link #wrapSafe(Executable)}.
+   *
+   * @param reference Method reference
+   * @param <R>       Return type
+   * @return {@link MethodHolder}
+   */
+  public <R> MethodHolder<LambdaWrapper, Void, R> wrapSafe(SerializableSupplier<R> reference) {
+    return wrapSafe(reference.getExecutable());
+  }
+
+  /**
+   * Wraps instance method referenced by {@link MethodReference}, e.g. {@code User::getName}.
+   * Caller and return types are inferred from reference. Static methods and constructors must be
+   * wrapped with {@link #wrapStaticSafe(SerializableFunction)}. See {@link #wrapSafe(Executable)}.
+   *
+   * @param reference Method reference
+   * @param <C>       Caller type
+   * @param <R>       Return type
+   * @return {@link MethodHolder}
+   * @throws ReflectionException if referenced method is static or constructor
+   */
+  public <C, R> MethodHolder<LambdaWrapper, C, R> wrapSafe(SerializableFunction<C, R> reference) {
+    return wrapSafe(getReferenced(reference, false));
+  }
+
+  /**
+   * Wraps instance method referenced by {@link MethodReference}, e.g. {@code User::rename}. See
+   * {@link #wrapSafe(SerializableFunction)}.
+   */
+  public <C, T, R> MethodHolder<LambdaWrapper, C, R> wrapSafe(
+      SerializableBiFunction<C, T, R> reference) {
+    return wrapSafe(getReferenced(reference, false));
+  }
+
+  /**
+   * Wraps static method referenced by {@link MethodReference}. See
+   * {@link #wrapSafe(SerializableFunction)}.
+   */
+  public MethodHolder<LambdaWrapper, Void, Void> wrapSafe(SerializableRunnable reference) {
+    return wrapSafe(reference.getExecutable());
+  }
+
+  /**
+   * Wraps instance method referenced by {@link MethodReference}, e.g. {@code User::clear}. See
+   * {@link #wrapSafe(SerializableFunction)}.
+   */
+  public <C> MethodHolder<LambdaWrapper, C, Void> wrapSafe(SerializableConsumer<C> reference) {
+    return wrapSafe(getReferenced(reference, false));
+  }
+
+  /**
+   * Wraps instance method referenced by {@link MethodReference}, e.g. {@code User::setName}. See
+   * {@link #wrapSafe(SerializableFunction)}.
+   */
+  public <C, T> MethodHolder<LambdaWrapper, C, Void> wrapSafe(
+      SerializableBiConsumer<C, T> reference) {
+    return wrapSafe(getReferenced(reference, false));
+  }
+
+  /**
+   * Wraps static method or constructor referenced by {@link MethodReference}, e.g.
+   * {@code Integer::parseInt}. Return type is inferred from reference. See
+   * {@link #wrapSafe(Executable)}.
+   *
+   * @param reference Method reference
+   * @param <R>       Return type
+   * @return {@link MethodHolder}
+   * @throws ReflectionException if referenced method is not static
+   */
+  public <T, R> MethodHolder<LambdaWrapper, Void, R> wrapStaticSafe(
+      SerializableFunction<T, R> reference) {
+    return wrapSafe(getReferenced(reference, true));
+  }
+
+  /**
+   * Wraps static method or constructor referenced by {@link MethodReference}, e.g.
+   * {@code Math::max}. See {@link #wrapStaticSafe(SerializableFunction)}.
+   */
+  public <T, U, R> MethodHolder<LambdaWrapper, Void, R> wrapStaticSafe(
+      SerializableBiFunction<T, U, R> reference) {
+    return wrapSafe(getReferenced(reference, true));
+  }
+
+  /**
+   * Wraps static method referenced by {@link MethodReference}. See
+   * {@link #wrapStaticSafe(SerializableFunction)}.
+   */
+  public <T> MethodHolder<LambdaWrapper, Void, Void> wrapStaticSafe(
+      SerializableConsumer<T> reference) {
+    return wrapSafe(getReferenced(reference, true));
+  }
+
+  /**
+   * Wraps static method referenced by {@link MethodReference}. See
+   * {@link #wrapStaticSafe(SerializableFunction)}.
+   */
+  public <T, U> MethodHolder<LambdaWrapper, Void, Void> wrapStaticSafe(
+      SerializableBiConsumer<T, U> reference) {
+    return wrapSafe(getReferenced(reference, true));
+  }
+
   /**
    * Wraps {@link Executable} into wrapper function from given interface to invoke it fast.
    * Executable must be {@link Modifier#PUBLIC}. Uses {@link MethodHolder} to provide type safety.
@@ -255,15 +469,263 @@ public enum LambdaWrapperHolder {
     return new MethodHolder<>(wrapper, executable);
   }
 
+  /**
+   * Wraps {@link Executable} into any functional interface, e.g. {@link Function} or
+   * {@link Supplier}. Caller object (for non-static methods) is passed as first parameter of
+   * functional method, then all {@link Executable} parameters follow. Primitives are boxed and
+   * unboxed automatically. No {@link Invoker} registration needed.
+   *
+   * @param executable          {@link Executable} to wrap
+   * @param functionalInterface Interface with single abstract method
+   * @param <F>                 Functional interface type
+   * @return Functional interface implementation
+   */
+  public <F> F wrapFunctional(Executable executable, Class<F> functionalInterface) {
+    return createFunctional(executable, functionalInterface, null);
+  }
+
+  /**
+   * Wraps {@link Method} into any functional interface with bound caller object. Functional method
+   * must accept only {@link Method} parameters, caller object will be used for every call. See
+   * {@link #wrapFunctional(Executable, Class)}.
+   *
+   * @param method              Non-static {@link Method} to wrap
+   * @param functionalInterface Interface with single abstract method
+   * @param bindTo              Caller object to bind
+   * @param <F>                 Functional interface type
+   * @return Functional interface implementation
+   */
+  public <F> F wrapFunctional(Method method, Class<F> functionalInterface, Object bindTo) {
+    BooleanOptional.of(Modifier.isStatic(method.getModifiers()))
+        .ifTrueThrow(() -> ReflectionException.format(
+            "Static method %s can't be bound to caller", method));
+    BooleanOptional.of(method.getDeclaringClass().isInstance(bindTo))
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Caller %s is not an instance of %s", bindTo, method.getDeclaringClass()));
+    return createFunctional(method, functionalInterface, bindTo);
+  }
+
+  /**
+   * Wraps constructor or static method without parameters.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Return type
+   * @return {@link Supplier}
+   */
+  public <T> Supplier<T> wrapSupplier(Executable executable) {
+    return wrapFunctional(executable, Supplier.class);
+  }
+
+  /**
+   * Wraps getter with bound caller object.
+   *
+   * @param method Non-static {@link Method} without parameters
+   * @param bindTo Caller object
+   * @param <T>    Return type
+   * @return {@link Supplier}
+   */
+  public <T> Supplier<T> wrapSupplier(Method method, Object bindTo) {
+    return wrapFunctional(method, Supplier.class, bindTo);
+  }
+
+  /**
+   * Wraps getter, static method or constructor with one parameter.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or parameter type
+   * @param <R>        Return type
+   * @return {@link Function}
+   */
+  public <T, R> Function<T, R> wrapFunction(Executable executable) {
+    return wrapFunctional(executable, Function.class);
+  }
+
+  /**
+   * Wraps method with one parameter and bound caller object.
+   *
+   * @param method Non-static {@link Method} with one parameter
+   * @param bindTo Caller object
+   * @param <T>    Parameter type
+   * @param <R>    Return type
+   * @return {@link Function}
+   */
+  public <T, R> Function<T, R> wrapFunction(Method method, Object bindTo) {
+    return wrapFunctional(method, Function.class, bindTo);
+  }
+
+  /**
+   * Wraps method with one parameter, static method or constructor with two parameters.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or first parameter type
+   * @param <U>        Parameter type
+   * @param <R>        Return type
+   * @return {@link BiFunction}
+   */
+  public <T, U, R> BiFunction<T, U, R> wrapBiFunction(Executable executable) {
+    return wrapFunctional(executable, BiFunction.class);
+  }
+
+  /**
+   * Wraps method without parameters or static method with one parameter. Return value is
+   * ignored.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or parameter type
+   * @return {@link Consumer}
+   */
+  public <T> Consumer<T> wrapConsumer(Executable executable) {
+    return wrapFunctional(executable, Consumer.class);
+  }
+
+  /**
+   * Wraps setter with bound caller object. Return value is ignored.
+   *
+   * @param method Non-static {@link Method} with one parameter
+   * @param bindTo Caller object
+   * @param <T>    Parameter type
+   * @return {@link Consumer}
+   */
+  public <T> Consumer<T> wrapConsumer(Method method, Object bindTo) {
+    return wrapFunctional(method, Consumer.class, bindTo);
+  }
+
+  /**
+   * Wraps setter or static method with two parameters. Return value is ignored.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or first parameter type
+   * @param <U>        Parameter type
+   * @return {@link BiConsumer}
+   */
+  public <T, U> BiConsumer<T, U> wrapBiConsumer(Executable executable) {
+    return wrapFunctional(executable, BiConsumer.class);
+  }
+
+  /**
+   * Wraps boolean getter or static method with one parameter.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or parameter type
+   * @return {@link Predicate}
+   */
+  public <T> Predicate<T> wrapPredicate(Executable executable) {
+    return wrapFunctional(executable, Predicate.class);
+  }
+
+  /**
+   * Wraps int getter or static method with one parameter without boxing.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or parameter type
+   * @return {@link ToIntFunction}
+   */
+  public <T> ToIntFunction<T> wrapToIntFunction(Executable executable) {
+    return wrapFunctional(executable, ToIntFunction.class);
+  }
+
+  /**
+   * Wraps long getter or static method with one parameter without boxing.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or parameter type
+   * @return {@link ToLongFunction}
+   */
+  public <T> ToLongFunction<T> wrapToLongFunction(Executable executable) {
+    return wrapFunctional(executable, ToLongFunction.class);
+  }
+
+  /**
+   * Wraps double getter or static method with one parameter without boxing.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <T>        Caller or parameter type
+   * @return {@link ToDoubleFunction}
+   */
+  public <T> ToDoubleFunction<T> wrapToDoubleFunction(Executable executable) {
+    return wrapFunctional(executable, ToDoubleFunction.class);
+  }
+
+  /**
+   * Non-throwing version of {@link #wrap(Executable)}. Failures are returned as stackless
+   * {@link ReflectionException}, so it is cheap to probe executables which can't be wrapped.
+   *
+   * @param executable {@link Executable}
+   * @return {@link Try} with {@link WrapperHolder} for {@link LambdaWrapper}
+   */
+  public Try<WrapperHolder<LambdaWrapper>> tryWrap(Executable executable) {
+    return tryCreateWrapper(false, executable, LambdaWrapper.class);
+  }
+
+  /**
+   * Non-throwing version of {@link #wrap(Executable, Class)}. See {@link #tryWrap(Executable)}.
+   *
+   * @param executable     {@link Executable}
+   * @param interfaceClass Interface to use wrapper from
+   * @param <F>            Interface declaring wrapper function
+   * @return {@link Try} with {@link WrapperHolder} for given interface
+   */
+  public <F> Try<WrapperHolder<F>> tryWrap(Executable executable, Class<F> interfaceClass) {
+    return tryCreateWrapper(false, executable, interfaceClass);
+  }
+
+  /**
+   * Non-throwing version of {@link #wrapExact(Executable, Class)}. See
+   * {@link #tryWrap(Executable)}.
+   *
+   * @param executable     {@link Executable}
+   * @param interfaceClass Interface to use wrapper from
+   * @param <F>            Interface declaring wrapper function
+   * @return {@link Try} with {@link WrapperHolder} for given interface
+   */
+  public <F> Try<WrapperHolder<F>> tryWrapExact(Executable executable, Class<F> interfaceClass) {
+    return tryCreateWrapper(true, executable, interfaceClass);
+  }
+
+  /**
+   * Non-throwing version of {@link #wrapSafe(Executable)}. See {@link #tryWrap(Executable)}.
+   *
+   * @param executable {@link Executable} to wrap
+   * @param <C>        Caller type
+   * @param <R>        Return type
+   * @return {@link Try} with {@link MethodHolder}
+   */
+  public <C, R> Try<MethodHolder<LambdaWrapper, C, R>> tryWrapSafe(Executable executable) {
+    return tryWrap(executable).map(wrapper -> new MethodHolder<>(wrapper, executable));
+  }
+
+  /**
+   * Non-throwing version of {@link #wrapSafe(Executable, Class)}. See
+   * {@link #tryWrap(Executable)}.
+   *
+   * @param executable     {@link Executable} to wrap
+   * @param interfaceClass Interface to use wrapper from
+   * @param <F>            Interface declaring wrapper function
+   * @param <C>            Caller type
+   * @param <R>            Return type
+   * @return {@link Try} with {@link MethodHolder}
+   */
+  public <F, C, R> Try<MethodHolder<F, C, R>> tryWrapSafe(Executable executable,
+                                                          Class<F> interfaceClass) {
+    return tryWrap(executable, interfaceClass)
+        .map(wrapper -> new MethodHolder<>(wrapper, executable));
+  }
+
   private <F> WrapperHolder<F> createWrapper(boolean exact, Executable executable,
                                              Class<?> interfaceClass) {
     BooleanOptional.of(filter.filter(executable))
         .ifFalseThrow(() -> filter.getException());
-    return new WrapperHolder<>(
-        ThrowableOptional.sneaky(
-            () -> (F) createCallSite(executable, exact, interfaceClass).getTarget().invoke()),
-        interfaceClass
-    );
+    return cachedWrapper(executable, getMetadata(executable, exact, interfaceClass));
+  }
+
+  private <F> Try<WrapperHolder<F>> tryCreateWrapper(boolean exact, Executable executable,
+                                                     Class<?> interfaceClass) {
+    if (!filter.filter(executable)) {
+      return Try.failure(ReflectionException.stackless(
+          "Executable %s is not allowed by %s", executable, filter.getClass().getSimpleName()));
+    }
+    return findMetadata(executable, exact, interfaceClass)
+        .flatMap(metadata -> Try.of(() -> cachedWrapper(executable, metadata)));
   }
 
   private <F> WrapperHolder<F> createWrapper(boolean exact, Executable executable) {
@@ -273,25 +735,56 @@ public enum LambdaWrapperHolder {
   private <F> WrapperHolder<F> createWrapper(Executable executable, LambdaMetadata lambdaMetadata) {
     BooleanOptional.of(filter.filter(executable))
         .ifFalseThrow(() -> filter.getException());
-    return new WrapperHolder<>(
-        ThrowableOptional.sneaky(
-            () -> (F) createCallSite(executable, lambdaMetadata).getTarget().invoke()),
-        lambdaMetadata.getDeclaringInterface()
-    );
+    return cachedWrapper(executable, lambdaMetadata);
+  }
+
+  private Executable getReferenced(MethodReference reference, boolean staticReference) {
+    Executable executable = reference.getExecutable();
+    boolean isStatic = !(executable instanceof Method)
+        || Modifier.isStatic(executable.getModifiers());
+    BooleanOptional.of(isStatic == staticReference)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "%s must be wrapped with %s", executable, isStatic ? "wrapStaticSafe" : "wrapSafe"));
+    return executable;
+  }
+
+  private <F> WrapperHolder<F> cachedWrapper(Executable executable,
+                                             LambdaMetadata lambdaMetadata) {
+    Object event = AideEvents.beginWrap();
+    boolean cacheHit = false;
+    try {
+      WrapperKey wrapperKey = new WrapperKey(executable, lambdaMetadata);
+      Map<WrapperKey, Object> classWrappers = wrappers.get(executable.getDeclaringClass());
+      Object wrapper = classWrappers.get(wrapperKey);
+      cacheHit = Objects.nonNull(wrapper);
+      if (!cacheHit) {
+        wrapper = classWrappers.computeIfAbsent(
+            wrapperKey,
+            key -> new WrapperHolder<>(
+                ThrowableOptional.sneaky(() -> (F) spinWrapper(executable, lambdaMetadata)),
+                lambdaMetadata.getDeclaringInterface()
+            )
+        );
+      }
+      return (WrapperHolder<F>) wrapper;
+    } finally {
+      AideEvents.endWrap(event, executable, lambdaMetadata.getDeclaringInterface(), cacheHit);
+    }
   }
 
   private void addExactInvoker(Method method) {
     ExactMethodSignature methodSignature = ExactMethodSignature.fromWrapper(method);
     LambdaMetadata metadata = new LambdaMetadata(method.getDeclaringClass(), method);
-    exactInvokers.putIfAbsent(method.getDeclaringClass(), new HashMap<>());
-    exactInvokers.get(method.getDeclaringClass()).put(methodSignature, metadata);
+    exactInvokers.computeIfAbsent(method.getDeclaringClass(), c -> new ConcurrentHashMap<>())
+        .put(methodSignature, metadata);
   }
 
   private void addInvoker(Method method) {
     MethodSignature methodSignature = MethodSignature.fromWrapper(method);
     LambdaMetadata metadata = new LambdaMetadata(method.getDeclaringClass(), method);
-    invokers.putIfAbsent(method.getDeclaringClass(), new HashMap<>());
-    invokers.get(method.getDeclaringClass()).put(methodSignature, metadata);
+    invokers.computeIfAbsent(method.getDeclaringClass(), c -> new ConcurrentHashMap<>())
+        .put(methodSignature, metadata);
+    ArgumentMatcherHolder.INSTANCE.generateMatcher(method, lookup);
   }
 
   private boolean checkAnnotations(Method method) {
@@ -299,28 +792,168 @@ public enum LambdaWrapperHolder {
         ExactInvoker.class);
   }
 
-  private CallSite createCallSite(Executable executable, boolean exact, Class<?> interfaceClass)
-      throws Exception {
-    LambdaMetadata metadata = getMetadata(executable, exact, interfaceClass);
-    return createCallSite(executable, metadata);
+  private Object spinWrapper(Executable executable, LambdaMetadata lambdaMetadata)
+      throws Throwable {
+    MethodHandle methodHandle = unreflect(executable);
+    MetadataRecorder.recordType(lambdaMetadata.getDeclaringInterface());
+    return WrapperFactory.create(lookup, lambdaMetadata.getDeclaringInterface(),
+                                 lambdaMetadata.getMethodName(), lambdaMetadata.getMethodType(),
+                                 methodHandle, methodHandle.type()
+    );
   }
 
-  private CallSite createCallSite(Executable executable, LambdaMetadata lambdaMetadata)
-      throws Exception {
-    MethodHandle methodHandle =
-        IfTrueConditional.create()
-            .ifTrue(ObjectUtils.isInstanceOf(executable, Constructor.class))
-            .then(() -> unreflect((Constructor<?>) executable))
-            .ifTrue(ObjectUtils.isInstanceOf(executable, Method.class))
-            .then(() -> unreflect((Method) executable))
-            .orElseThrows(
-                () -> ReflectionException.format(
-                    "Wrapping is supported for constructors and methods only!"));
-    return LambdaMetafactory.metafactory(lookup, lambdaMetadata.getMethodName(),
-                                         lambdaMetadata.getDeclaringInterfaceType(),
-                                         lambdaMetadata.getMethodType(),
-                                         methodHandle, methodHandle.type()
-    );
+  private <F> F createFunctional(Executable executable, Class<F> functionalInterface,
+                                 Object bindTo) {
+    BooleanOptional.of(filter.filter(executable))
+        .ifFalseThrow(() -> filter.getException());
+    Object event = AideEvents.beginWrap();
+    boolean cacheHit = false;
+    try {
+      boolean bound = Objects.nonNull(bindTo);
+      WrapperKey wrapperKey = new WrapperKey(executable, functionalInterface, bound);
+      Map<WrapperKey, Object> classWrappers = wrappers.get(executable.getDeclaringClass());
+      Object wrapper = classWrappers.get(wrapperKey);
+      cacheHit = Objects.nonNull(wrapper);
+      if (!cacheHit) {
+        wrapper = classWrappers.computeIfAbsent(
+            wrapperKey, key -> spinFunctional(executable, functionalInterface, bound));
+      }
+      if (!bound) {
+        return (F) wrapper;
+      }
+      MethodHandle factory = (MethodHandle) wrapper;
+      return ThrowableOptional.sneaky(() -> (F) factory.invoke(bindTo));
+    } finally {
+      AideEvents.endWrap(event, executable, functionalInterface, cacheHit);
+    }
+  }
+
+  /**
+   * Spins wrapper instance or, for bound wrapper, factory {@link MethodHandle} which accepts
+   * receiver, so wrapper class is defined once per method and interface.
+   */
+  private Object spinFunctional(Executable executable, Class<?> functionalInterface,
+                                boolean bound) {
+    Method functionalMethod = getFunctionalMethod(functionalInterface);
+    MethodHandle methodHandle = unreflect(executable);
+    MetadataRecorder.recordType(functionalInterface);
+    MethodType implementationType = bound
+        ? methodHandle.type().dropParameterTypes(0, 1) : methodHandle.type();
+    MethodType functionalType = MethodType.methodType(functionalMethod.getReturnType(),
+                                                      functionalMethod.getParameterTypes());
+    MethodType instantiatedType = instantiate(executable, functionalType, implementationType);
+    if (bound) {
+      return ThrowableOptional.sneaky(
+          () -> WrapperFactory.createFactory(lookup, functionalInterface,
+                                             functionalMethod.getName(), functionalType,
+                                             methodHandle, instantiatedType
+          ));
+    }
+    return ThrowableOptional.sneaky(
+        () -> WrapperFactory.create(lookup, functionalInterface, functionalMethod.getName(),
+                                    functionalType, methodHandle, instantiatedType
+        ));
+  }
+
+  private MethodType instantiate(Executable executable, MethodType functionalType,
+                                 MethodType implementationType) {
+    BooleanOptional.of(functionalType.parameterCount() == implementationType.parameterCount())
+        .ifFalseThrow(() -> ReflectionException.format(
+            "%s can't be wrapped into %s: functional method accepts %d parameters, but %d required",
+            executable, functionalType, functionalType.parameterCount(),
+            implementationType.parameterCount()
+        ));
+    BooleanOptional.of(functionalType.returnType() != void.class
+                           && implementationType.returnType() == void.class)
+        .ifTrueThrow(() -> ReflectionException.format(
+            "%s can't be wrapped into %s: functional method must return a value", executable,
+            functionalType
+        ));
+    Class<?>[] parameterTypes = new Class[functionalType.parameterCount()];
+    for (int i = 0; i < parameterTypes.length; i++) {
+      parameterTypes[i] = functionalType.parameterType(i).isPrimitive()
+          ? functionalType.parameterType(i) : box(implementationType.parameterType(i));
+    }
+    Class<?> returnType = functionalType.returnType().isPrimitive()
+        ? functionalType.returnType() : box(implementationType.returnType());
+    return MethodType.methodType(returnType, parameterTypes);
+  }
+
+  private Class<?> box(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+  private Method getFunctionalMethod(Class<?> functionalInterface) {
+    BooleanOptional.of(functionalInterface.isInterface())
+        .ifFalseThrow(() -> ReflectionException.format("Class %s must be an interface",
+                                                       functionalInterface
+        ));
+    List<Method> methods = Arrays.stream(functionalInterface.getMethods())
+        .filter(method -> Modifier.isAbstract(method.getModifiers()))
+        .filter(method -> !isObjectMethod(method))
+        .collect(Collectors.toList());
+    BooleanOptional.of(methods.size() == 1)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Interface %s must have exactly one abstract method", functionalInterface));
+    return methods.get(0);
+  }
+
+  private boolean isObjectMethod(Method method) {
+    return Arrays.stream(Object.class.getMethods())
+        .anyMatch(objectMethod -> objectMethod.getName().equals(method.getName())
+            && Arrays.equals(objectMethod.getParameterTypes(), method.getParameterTypes()));
+  }
+
+  /**
+   * Unreflects executable with lookup of this holder. Executable must be allowed by filter.
+   *
+   * @param executable {@link Executable}
+   * @return Direct {@link MethodHandle}
+   * @throws ReflectionException if executable is not allowed by filter or not accessible
+   */
+  public MethodHandle findHandle(Executable executable) {
+    BooleanOptional.of(filter.filter(executable))
+        .ifFalseThrow(() -> filter.getException());
+    return unreflect(executable);
+  }
+
+  /**
+   * Unreflects field getter with lookup of this holder. {@link ExecutableFilter} filters only
+   * executables, so access to field is checked by lookup.
+   *
+   * @param field {@link Field}
+   * @return {@link MethodHandle} which reads field
+   * @throws ReflectionException if field is not accessible
+   */
+  public MethodHandle findGetter(Field field) {
+    MetadataRecorder.recordField(field);
+    return ThrowableOptional.sneaky(() -> lookup.unreflectGetter(field),
+                                    e -> new ReflectionException(e));
+  }
+
+  /**
+   * Unreflects field setter with lookup of this holder. See {@link #findGetter(Field)}.
+   *
+   * @param field Non-final {@link Field}
+   * @return {@link MethodHandle} which writes field
+   * @throws ReflectionException if field is final or not accessible
+   */
+  public MethodHandle findSetter(Field field) {
+    MetadataRecorder.recordField(field);
+    return ThrowableOptional.sneaky(() -> lookup.unreflectSetter(field),
+                                    e -> new ReflectionException(e));
+  }
+
+  private MethodHandle unreflect(Executable executable) {
+    MetadataRecorder.recordExecutable(executable);
+    return IfTrueConditional.create()
+        .ifTrue(ObjectUtils.isInstanceOf(executable, Constructor.class))
+        .then(() -> unreflect((Constructor<?>) executable))
+        .ifTrue(ObjectUtils.isInstanceOf(executable, Method.class))
+        .then(() -> unreflect((Method) executable))
+        .orElseThrows(
+            () -> ReflectionException.format(
+                "Wrapping is supported for constructors and methods only!"));
   }
 
   private MethodHandle unreflect(Method method) {
@@ -332,6 +965,12 @@ public enum LambdaWrapperHolder {
   }
 
   private LambdaMetadata getMetadata(Executable method, boolean exact, Class<?> interfaceClass) {
+    return findMetadata(method, exact, interfaceClass)
+        .orElseThrow(failure -> new ReflectionException(failure.getMessage()));
+  }
+
+  private Try<LambdaMetadata> findMetadata(Executable method, boolean exact,
+                                           Class<?> interfaceClass) {
     AbstractSignature signature =
         IfTrueConditional.create()
             .ifTrue(exact).then(() -> ExactMethodSignature.from(method))
@@ -340,12 +979,121 @@ public enum LambdaWrapperHolder {
         IfTrueConditional.create()
             .ifTrue(exact).then(exactInvokers)
             .orElse(invokers);
-    if (!container.containsKey(interfaceClass)) {
-      throw ReflectionException.format("No wrappers with type %s", interfaceClass);
+    Map<AbstractSignature, LambdaMetadata> interfaceWrappers = container.get(interfaceClass);
+    if (Objects.isNull(interfaceWrappers)) {
+      return Try.failure(ReflectionException.stackless("No wrappers with type %s", interfaceClass));
+    }
+    LambdaMetadata metadata = interfaceWrappers.get(signature);
+    if (Objects.isNull(metadata)) {
+      return Try.failure(ReflectionException.stackless("No wrappers found for method %s", method));
+    }
+    return Try.success(metadata);
+  }
+
+  /**
+   * Builder for {@link LambdaWrapperHolder}.
+   */
+  public static class Builder {
+
+    private final List<Class<?>> interfaces = new ArrayList<>();
+    private final List<Method> methods = new ArrayList<>();
+    private MethodHandles.Lookup lookup = LOOKUP;
+    private ExecutableFilter filter = ExecutableFilter.PUBLIC_ONLY;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets lookup to unreflect and wrap executables with. Wrappers will be defined in lookup class
+     * context, so it must have full privilege access. Default is lookup of
+     * {@link LambdaWrapperHolder}.
+     *
+     * @param lookup {@link MethodHandles.Lookup}
+     * @return {@link Builder}
+     */
+    public Builder lookup(MethodHandles.Lookup lookup) {
+      this.lookup = Objects.requireNonNull(lookup);
+      return this;
+    }
+
+    /**
+     * Sets {@link ExecutableFilter}. Default is {@link ExecutableFilter#PUBLIC_ONLY}.
+     *
+     * @param filter {@link ExecutableFilter}
+     * @return {@link Builder}
+     */
+    public Builder filter(ExecutableFilter filter) {
+      this.filter = Objects.requireNonNull(filter);
+      return this;
     }
-    if (!container.get(interfaceClass).containsKey(signature)) {
-      throw ReflectionException.format("No wrappers found for method %s", method);
+
+    /**
+     * Adds interface to create wrappers from. See {@link LambdaWrapperHolder#add(Class)}.
+     *
+     * @param declaringInterface Must be an interface
+     * @return {@link Builder}
+     */
+    public Builder add(Class<?> declaringInterface) {
+      interfaces.add(declaringInterface);
+      return this;
+    }
+
+    /**
+     * Adds methods as wrappers. See {@link LambdaWrapperHolder#add(Method...)}.
+     *
+     * @param methods {@link Method}s to add
+     * @return {@link Builder}
+     */
+    public Builder add(Method... methods) {
+      this.methods.addAll(Arrays.asList(methods));
+      return this;
+    }
+
+    /**
+     * @return New {@link LambdaWrapperHolder}
+     */
+    public LambdaWrapperHolder build() {
+      LambdaWrapperHolder holder = new LambdaWrapperHolder(lookup, filter);
+      interfaces.forEach(holder::add);
+      holder.add(methods.toArray(new Method[0]));
+      return holder;
+    }
+  }
+
+  private static class WrapperKey {
+
+    private final Executable executable;
+
+    private final Object wrapper;
+
+    private final boolean bound;
+
+    private WrapperKey(Executable executable, Object wrapper) {
+      this(executable, wrapper, false);
+    }
+
+    private WrapperKey(Executable executable, Object wrapper, boolean bound) {
+      this.executable = executable;
+      this.wrapper = wrapper;
+      this.bound = bound;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * executable.hashCode() + wrapper.hashCode()) + Boolean.hashCode(bound);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      WrapperKey that = (WrapperKey) o;
+      return bound == that.bound && executable.equals(that.executable)
+          && wrapper.equals(that.wrapper);
     }
-    return container.get(interfaceClass).get(signature);
   }
 }
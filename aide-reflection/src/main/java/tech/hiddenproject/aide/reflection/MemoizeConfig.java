@@ -0,0 +1,127 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Configuration of {@link MemoizedMethodHolder} cache.
+ *
+ * <pre>{@code
+ * MemoizedMethodHolder<LambdaWrapper, Void, Rate> rates = holder.wrapSafe(lookupRate)
+ *     .memoize(MemoizeConfig.builder()
+ *         .maximumSize(10_000)
+ *         .expireAfterWrite(5, TimeUnit.MINUTES)
+ *         .build());
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class MemoizeConfig {
+
+  /**
+   * Config with 1024 entries and no expiration.
+   */
+  public static final MemoizeConfig DEFAULT = builder().build();
+
+  private final int maximumSize;
+
+  private final long expireAfterWriteNanos;
+
+  private final LongSupplier ticker;
+
+  private MemoizeConfig(Builder builder) {
+    this.maximumSize = builder.maximumSize;
+    this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+    this.ticker = builder.ticker;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return Maximum count of cached results
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * @return Time to live of cached result in nanoseconds or 0 if results don't expire
+   */
+  public long getExpireAfterWriteNanos() {
+    return expireAfterWriteNanos;
+  }
+
+  /**
+   * @return Source of current time in nanoseconds
+   */
+  public LongSupplier getTicker() {
+    return ticker;
+  }
+
+  @Override
+  public String toString() {
+    return "MemoizeConfig{" + "maximumSize=" + maximumSize + ", expireAfterWriteNanos="
+        + expireAfterWriteNanos + '}';
+  }
+
+  public static class Builder {
+
+    private int maximumSize = 1024;
+    private long expireAfterWriteNanos;
+    private LongSupplier ticker = System::nanoTime;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets maximum count of cached results. When exceeded, results which were not read recently
+     * are evicted first.
+     *
+     * @param maximumSize Maximum count of cached results, must be positive
+     * @return Builder
+     */
+    public Builder maximumSize(int maximumSize) {
+      BooleanOptional.of(maximumSize > 0)
+          .ifFalseThrow(() -> ReflectionException.format(
+              "Maximum size must be positive: %d", maximumSize));
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /**
+     * Sets time to live of cached result since it was computed.
+     *
+     * @param duration Time to live, 0 to disable expiration
+     * @param unit     {@link TimeUnit} of duration
+     * @return Builder
+     */
+    public Builder expireAfterWrite(long duration, TimeUnit unit) {
+      BooleanOptional.of(duration >= 0)
+          .ifFalseThrow(() -> ReflectionException.format(
+              "Expiration must not be negative: %d", duration));
+      this.expireAfterWriteNanos = unit.toNanos(duration);
+      return this;
+    }
+
+    /**
+     * Sets source of current time in nanoseconds. Default is {@link System#nanoTime()}.
+     *
+     * @param ticker Time source
+     * @return Builder
+     */
+    public Builder ticker(LongSupplier ticker) {
+      this.ticker = Objects.requireNonNull(ticker);
+      return this;
+    }
+
+    public MemoizeConfig build() {
+      return new MemoizeConfig(this);
+    }
+  }
+}
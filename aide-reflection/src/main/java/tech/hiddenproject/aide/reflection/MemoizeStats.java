@@ -0,0 +1,67 @@
+package tech.hiddenproject.aide.reflection;
+
+/**
+ * Snapshot of {@link MemoizedMethodHolder} cache statistics.
+ *
+ * @author Danila Rassokhin
+ */
+public final class MemoizeStats {
+
+  private final long hitCount;
+
+  private final long missCount;
+
+  private final long evictionCount;
+
+  private final int size;
+
+  MemoizeStats(long hitCount, long missCount, long evictionCount, int size) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  /**
+   * @return Count of invocations answered from cache, including ones which waited for concurrent
+   *     computation of same arguments
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return Count of invocations which called wrapped method
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * @return Count of results removed by size limit or expiration
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * @return Count of cached results
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return Ratio of hits to all invocations or 1 if there were no invocations
+   */
+  public double getHitRate() {
+    long requests = hitCount + missCount;
+    return requests == 0 ? 1.0 : (double) hitCount / requests;
+  }
+
+  @Override
+  public String toString() {
+    return "MemoizeStats{" + "hitCount=" + hitCount + ", missCount=" + missCount
+        + ", evictionCount=" + evictionCount + ", size=" + size + '}';
+  }
+}
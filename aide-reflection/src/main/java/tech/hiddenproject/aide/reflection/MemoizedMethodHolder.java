@@ -0,0 +1,265 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.matcher.ArgumentMatcher;
+
+import java.lang.reflect.Executable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link MethodHolder} which caches invocation results by caller and arguments. Cache is bounded
+ * by {@link MemoizeConfig#getMaximumSize()}: when it is exceeded, results which were not read since
+ * previous eviction pass are removed first (clock approximation of LRU). Results may also expire
+ * after {@link MemoizeConfig#getExpireAfterWriteNanos()}.
+ *
+ * <p>Concurrent invocations with equal arguments call wrapped method once, other threads wait
+ * for its result. Exceptions are not cached: waiting threads get the same exception and next
+ * invocation calls method again. Caller and arguments are compared with
+ * {@link Arrays#deepEquals(Object[], Object[])}, so they should be immutable values.
+ *
+ * <p>Only {@link #invoke(Object, ArgumentMatcher, Object...)} and
+ * {@link #invokeStatic(ArgumentMatcher, Object...)} and methods delegating to them are memoized,
+ * bulk {@code invokeAll} methods always call wrapped method.
+ *
+ * @param <W> Wrapper interface type
+ * @param <C> Caller object type (Void for static methods)
+ * @param <R> Wrapped {@link Executable} return type
+ * @author Danila Rassokhin
+ */
+public class MemoizedMethodHolder<W, C, R> extends MethodHolder<W, C, R> {
+
+  private final MemoizeConfig config;
+
+  private final LongSupplier ticker;
+
+  private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+  private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger clockSize = new AtomicInteger();
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  MemoizedMethodHolder(WrapperHolder<W> wrapper, Executable method, MemoizeConfig config) {
+    super(wrapper, method);
+    this.config = Objects.requireNonNull(config);
+    this.ticker = config.getTicker();
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof CompletionException && Objects.nonNull(t.getCause())) {
+      return ReflectionException.rethrow(t.getCause());
+    }
+    return ReflectionException.rethrow(t);
+  }
+
+  @Override
+  public R invoke(C caller, ArgumentMatcher<W, Object[], R> argumentMatcher, Object... args) {
+    return get(new Key(caller, args), () -> super.invoke(caller, argumentMatcher, args));
+  }
+
+  @Override
+  public R invokeStatic(ArgumentMatcher<W, Object[], R> argumentMatcher, Object... args) {
+    return get(new Key(null, args), () -> super.invokeStatic(argumentMatcher, args));
+  }
+
+  /**
+   * Removes cached result of {@link #invoke(Object, Object...)}.
+   *
+   * @param caller Object method was called from
+   * @param args   Invocation arguments
+   */
+  public void invalidate(C caller, Object... args) {
+    entries.remove(new Key(caller, args));
+  }
+
+  /**
+   * Removes cached result of {@link #invokeStatic(Object...)}.
+   *
+   * @param args Invocation arguments
+   */
+  public void invalidateStatic(Object... args) {
+    entries.remove(new Key(null, args));
+  }
+
+  /**
+   * Removes all cached results. Statistics are kept.
+   */
+  public void invalidateAll() {
+    entries.clear();
+    clock.clear();
+    clockSize.set(0);
+  }
+
+  /**
+   * @return Snapshot of cache statistics
+   */
+  public MemoizeStats getStats() {
+    return new MemoizeStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+  }
+
+  public MemoizeConfig getConfig() {
+    return config;
+  }
+
+  private R get(Key key, Invocation<R> invocation) {
+    while (true) {
+      Entry entry = entries.get(key);
+      if (Objects.nonNull(entry)) {
+        if (!entry.isExpired(ticker.getAsLong())) {
+          hits.increment();
+          entry.referenced = true;
+          return await(entry);
+        }
+        if (entries.remove(key, entry)) {
+          evictions.increment();
+        }
+        continue;
+      }
+      Entry created = new Entry(key);
+      if (Objects.isNull(entries.putIfAbsent(key, created))) {
+        misses.increment();
+        return compute(created, invocation);
+      }
+    }
+  }
+
+  private R compute(Entry entry, Invocation<R> invocation) {
+    R result;
+    try {
+      result = invocation.invoke();
+    } catch (Throwable t) {
+      entries.remove(entry.key, entry);
+      entry.result.completeExceptionally(t);
+      throw rethrow(t);
+    }
+    long expireAfterWrite = config.getExpireAfterWriteNanos();
+    entry.complete(result, expireAfterWrite > 0, ticker.getAsLong() + expireAfterWrite);
+    clock.offer(entry);
+    clockSize.incrementAndGet();
+    evict();
+    return result;
+  }
+
+  private R await(Entry entry) {
+    try {
+      return (R) entry.result.join();
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  private void evict() {
+    int maximumSize = config.getMaximumSize();
+    int attempts = clockSize.get();
+    while (entries.size() > maximumSize && attempts-- > 0) {
+      Entry entry = clock.poll();
+      if (Objects.isNull(entry)) {
+        return;
+      }
+      clockSize.decrementAndGet();
+      if (entries.get(entry.key) != entry) {
+        continue;
+      }
+      if (entry.referenced && !entry.isExpired(ticker.getAsLong())) {
+        entry.referenced = false;
+        clock.offer(entry);
+        clockSize.incrementAndGet();
+        continue;
+      }
+      if (entries.remove(entry.key, entry)) {
+        evictions.increment();
+      }
+    }
+    if (clockSize.get() > maximumSize * 2) {
+      purge();
+    }
+  }
+
+  private void purge() {
+    clock.removeIf(entry -> {
+      boolean stale = entries.get(entry.key) != entry;
+      if (stale) {
+        clockSize.decrementAndGet();
+      }
+      return stale;
+    });
+  }
+
+  @FunctionalInterface
+  private interface Invocation<R> {
+
+    R invoke();
+  }
+
+  private static final class Key {
+
+    private final Object[] values;
+
+    private final int hash;
+
+    private Key(Object caller, Object[] args) {
+      this.values = new Object[args.length + 1];
+      this.values[0] = caller;
+      System.arraycopy(args, 0, this.values, 1, args.length);
+      this.hash = Arrays.deepHashCode(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return hash == key.hash && Arrays.deepEquals(values, key.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static final class Entry {
+
+    private final Key key;
+
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    private volatile long expiresAt;
+
+    private volatile boolean expiring;
+
+    private volatile boolean referenced;
+
+    private Entry(Key key) {
+      this.key = key;
+    }
+
+    private void complete(Object value, boolean expiring, long expiresAt) {
+      this.expiresAt = expiresAt;
+      this.expiring = expiring;
+      result.complete(value);
+    }
+
+    private boolean isExpired(long now) {
+      return expiring && now - expiresAt >= 0;
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invokes public methods of class by name with runtime arguments. Overload is resolved by runtime
+ * argument types in two phases like in JLS 15.12.2: overloads applicable without boxing are
+ * checked first, e.g. {@link Integer} argument selects {@code foo(Integer)} or {@code foo(Object)}
+ * over {@code foo(int)}, and only then primitive parameters accept their wrappers. Null is accepted
+ * by any reference parameter. If several overloads are applicable, the most specific one is
+ * chosen. Resolved method is wrapped with {@link LambdaWrapperHolder}
+ * and cached per method name and argument types, so repeated invocations skip resolution.
+ *
+ * <pre>{@code
+ * MethodDispatcher<Service> dispatcher = MethodDispatcher.of(Service.class);
+ * Object result = dispatcher.invoke(service, "handle", message);
+ * }</pre>
+ *
+ * @param <C> Class type
+ * @author Danila Rassokhin
+ */
+public class MethodDispatcher<C> {
+
+  private final Class<C> type;
+
+  private final LambdaWrapperHolder holder;
+
+  private final Map<String, List<Method>> instanceMethods = new HashMap<>();
+
+  private final Map<String, List<Method>> staticMethods = new HashMap<>();
+
+  private final Map<DispatchKey, MethodHolder<LambdaWrapper, C, Object>> instanceCache =
+      new ConcurrentHashMap<>();
+
+  private final Map<DispatchKey, MethodHolder<LambdaWrapper, C, Object>> staticCache =
+      new ConcurrentHashMap<>();
+
+  private MethodDispatcher(Class<C> type, LambdaWrapperHolder holder) {
+    this.type = type;
+    this.holder = holder;
+    for (Method method : type.getMethods()) {
+      if (method.isBridge() || !holder.canBeWrapped(method)) {
+        continue;
+      }
+      Map<String, List<Method>> methods = Modifier.isStatic(method.getModifiers())
+          ? staticMethods : instanceMethods;
+      methods.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+    }
+  }
+
+  /**
+   * Creates dispatcher using {@link LambdaWrapperHolder#DEFAULT}.
+   *
+   * @param type Class to dispatch methods of
+   * @param <C>  Class type
+   * @return {@link MethodDispatcher}
+   */
+  public static <C> MethodDispatcher<C> of(Class<C> type) {
+    return of(type, LambdaWrapperHolder.DEFAULT);
+  }
+
+  /**
+   * Creates dispatcher using given {@link LambdaWrapperHolder}. Only methods which can be wrapped
+   * by holder are dispatched.
+   *
+   * @param type   Class to dispatch methods of
+   * @param holder {@link LambdaWrapperHolder} to wrap methods with
+   * @param <C>    Class type
+   * @return {@link MethodDispatcher}
+   */
+  public static <C> MethodDispatcher<C> of(Class<C> type, LambdaWrapperHolder holder) {
+    return new MethodDispatcher<>(type, holder);
+  }
+
+  /**
+   * Invokes instance method with given name.
+   *
+   * @param caller Object to call method from
+   * @param name   Method name
+   * @param args   Arguments to pass in method
+   * @param <R>    Method return type
+   * @return Invocation result
+   * @throws ReflectionException if no applicable method found or call is ambiguous
+   */
+  public <R> R invoke(C caller, String name, Object... args) {
+    return (R) dispatch(instanceCache, instanceMethods, name, args).invoke(caller, args);
+  }
+
+  /**
+   * Invokes static method with given name.
+   *
+   * @param name Method name
+   * @param args Arguments to pass in method
+   * @param <R>  Method return type
+   * @return Invocation result
+   * @throws ReflectionException if no applicable method found or call is ambiguous
+   */
+  public <R> R invokeStatic(String name, Object... args) {
+    return (R) dispatch(staticCache, staticMethods, name, args).invokeStatic(args);
+  }
+
+  /**
+   * Resolves instance method for given argument types without invoking it. Null type means null
+   * argument.
+   *
+   * @param name     Method name
+   * @param argTypes Argument types
+   * @return Most specific applicable {@link Method}
+   * @throws ReflectionException if no applicable method found or call is ambiguous
+   */
+  public Method resolve(String name, Class<?>... argTypes) {
+    return select(instanceMethods, name, argTypes);
+  }
+
+  /**
+   * Resolves static method for given argument types without invoking it. See
+   * {@link #resolve(String, Class[])}.
+   *
+   * @param name     Method name
+   * @param argTypes Argument types
+   * @return Most specific applicable {@link Method}
+   */
+  public Method resolveStatic(String name, Class<?>... argTypes) {
+    return select(staticMethods, name, argTypes);
+  }
+
+  public Class<C> getType() {
+    return type;
+  }
+
+  private MethodHolder<LambdaWrapper, C, Object> dispatch(
+      Map<DispatchKey, MethodHolder<LambdaWrapper, C, Object>> cache,
+      Map<String, List<Method>> methods, String name, Object[] args) {
+    DispatchKey key = new DispatchKey(name, ReflectionUtil.getVarArgTypes(args));
+    MethodHolder<LambdaWrapper, C, Object> methodHolder = cache.get(key);
+    if (Objects.isNull(methodHolder)) {
+      methodHolder = cache.computeIfAbsent(
+          key, k -> holder.wrapSafe(select(methods, k.name, k.types)));
+    }
+    return methodHolder;
+  }
+
+  private Method select(Map<String, List<Method>> methods, String name, Class<?>[] argTypes) {
+    List<Method> candidates = methods.get(name);
+    if (Objects.isNull(candidates)) {
+      throw ReflectionException.format("No method %s found in %s", name, type);
+    }
+    List<Method> applicable = findApplicable(candidates, argTypes, false);
+    if (applicable.isEmpty()) {
+      applicable = findApplicable(candidates, argTypes, true);
+    }
+    if (applicable.isEmpty()) {
+      throw ReflectionException.format("No method %s applicable for arguments %s found in %s",
+                                       name, Arrays.toString(argTypes), type);
+    }
+    Method selected = applicable.get(0);
+    for (int i = 1; i < applicable.size(); i++) {
+      if (isMoreSpecific(applicable.get(i), selected)) {
+        selected = applicable.get(i);
+      }
+    }
+    for (Method method : applicable) {
+      if (method != selected && !isMoreSpecific(selected, method)) {
+        throw ReflectionException.format("Call of %s with arguments %s is ambiguous in %s", name,
+                                         Arrays.toString(argTypes), type);
+      }
+    }
+    return selected;
+  }
+
+  private List<Method> findApplicable(List<Method> candidates, Class<?>[] argTypes,
+                                      boolean boxing) {
+    List<Method> applicable = new ArrayList<>();
+    for (Method candidate : candidates) {
+      if (isApplicable(candidate.getParameterTypes(), argTypes, boxing)) {
+        applicable.add(candidate);
+      }
+    }
+    return applicable;
+  }
+
+  private boolean isApplicable(Class<?>[] parameterTypes, Class<?>[] argTypes, boolean boxing) {
+    if (parameterTypes.length != argTypes.length) {
+      return false;
+    }
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (Objects.isNull(argTypes[i])) {
+        if (parameterTypes[i].isPrimitive()) {
+          return false;
+        }
+      } else if (boxing) {
+        if (!box(parameterTypes[i]).isAssignableFrom(box(argTypes[i]))) {
+          return false;
+        }
+      } else if (!isSubtype(argTypes[i], parameterTypes[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isMoreSpecific(Method method, Method other) {
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    Class<?>[] otherTypes = other.getParameterTypes();
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (!isSubtype(parameterTypes[i], otherTypes[i])) {
+        return false;
+      }
+    }
+    return !Arrays.equals(parameterTypes, otherTypes)
+        || other.getDeclaringClass().isAssignableFrom(method.getDeclaringClass());
+  }
+
+  private boolean isSubtype(Class<?> type, Class<?> other) {
+    if (type.isPrimitive() || other.isPrimitive()) {
+      return type == other;
+    }
+    return other.isAssignableFrom(type);
+  }
+
+  private Class<?> box(Class<?> type) {
+    return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+  }
+
+  private static final class DispatchKey {
+
+    private final String name;
+    private final Class<?>[] types;
+    private final int hash;
+
+    private DispatchKey(String name, Class<?>[] types) {
+      this.name = name;
+      this.types = types;
+      this.hash = 31 * name.hashCode() + Arrays.hashCode(types);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      DispatchKey that = (DispatchKey) o;
+      return name.equals(that.name) && Arrays.equals(types, that.types);
+    }
+  }
+}
@@ -1,12 +1,19 @@
 package tech.hiddenproject.aide.reflection;
 
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
 import tech.hiddenproject.aide.reflection.matcher.ArgumentMatcher;
 import tech.hiddenproject.aide.reflection.matcher.ArgumentMatcherHolder;
+import tech.hiddenproject.aide.reflection.metrics.LatencyRegistry;
+import tech.hiddenproject.aide.reflection.util.RangeTask;
 
 import java.lang.reflect.Executable;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Holder for wrapper function and wrapped {@link Executable}.
@@ -22,6 +29,8 @@ public class MethodHolder<W, C, R> {
 
   private final Executable method;
 
+  private ArgumentMatcher<W, Object[], R> matcher;
+
   public MethodHolder(WrapperHolder<W> wrapper, Executable method) {
     this.wrapper = wrapper;
     this.method = method;
@@ -36,21 +45,28 @@ public class MethodHolder<W, C, R> {
    * @return Invocation result
    */
   public R invoke(C caller, ArgumentMatcher<W, Object[], R> argumentMatcher, Object... args) {
-    List<Object> listArgs = Arrays.stream(args).collect(Collectors.toList());
-    listArgs.add(0, caller);
-    return argumentMatcher.apply(wrapper, method, listArgs.toArray(new Object[]{}));
+    Object[] matcherArgs = new Object[args.length + 1];
+    matcherArgs[0] = caller;
+    System.arraycopy(args, 0, matcherArgs, 1, args.length);
+    Object event = AideEvents.beginInvoke();
+    try {
+      return argumentMatcher.apply(wrapper, method, matcherArgs);
+    } finally {
+      AideEvents.endInvoke(event, method);
+    }
   }
 
   /**
    * Invokes wrapped method. Uses default {@link ArgumentMatcher} to match provided args with See
-   * {@link ArgumentMatcherHolder#apply(WrapperHolder, Executable, Object[])}
+   * {@link ArgumentMatcherHolder#apply(WrapperHolder, Executable, Object[])}. Matcher is resolved
+   * on first invocation and reused then.
    *
    * @param caller Object to call method from
    * @param args   Arguments to pass in wrapper
    * @return Invocation result
    */
   public R invoke(C caller, Object... args) {
-    return invoke(caller, ArgumentMatcherHolder.INSTANCE::apply, args);
+    return invoke(caller, getMatcher(), args);
   }
 
   /**
@@ -62,7 +78,7 @@ public class MethodHolder<W, C, R> {
    * @return Invocation result
    */
   public R invokeStatic(Object... args) {
-    return ArgumentMatcherHolder.INSTANCE.apply(wrapper, method, args);
+    return invokeStatic(getMatcher(), args);
   }
 
   /**
@@ -76,6 +92,200 @@ public class MethodHolder<W, C, R> {
    * @return Invocation result
    */
   public R invokeStatic(ArgumentMatcher<W, Object[], R> argumentMatcher, Object... args) {
-    return argumentMatcher.apply(wrapper, method, args);
+    Object event = AideEvents.beginInvoke();
+    try {
+      return argumentMatcher.apply(wrapper, method, args);
+    } finally {
+      AideEvents.endInvoke(event, method);
+    }
+  }
+
+  /**
+   * Invokes wrapped method asynchronously with default executor. Default executor is
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()} on Java 8 and virtual thread per task
+   * executor on JDK 21+. See {@link #invoke(Object, Object...)}.
+   *
+   * @param caller Object to call method from
+   * @param args   Arguments to pass in wrapper
+   * @return {@link CompletableFuture} with invocation result
+   */
+  public CompletableFuture<R> invokeAsync(C caller, Object... args) {
+    return invokeAsync(DefaultExecutor.get(), caller, args);
+  }
+
+  /**
+   * Invokes wrapped method asynchronously. See {@link #invoke(Object, Object...)}.
+   *
+   * @param executor {@link Executor} to invoke method in
+   * @param caller   Object to call method from
+   * @param args     Arguments to pass in wrapper
+   * @return {@link CompletableFuture} with invocation result
+   */
+  public CompletableFuture<R> invokeAsync(Executor executor, C caller, Object... args) {
+    return CompletableFuture.supplyAsync(() -> invoke(caller, args), executor);
+  }
+
+  /**
+   * Invokes wrapped method without caller object asynchronously with default executor. See
+   * {@link #invokeAsync(Object, Object...)} and {@link #invokeStatic(Object...)}.
+   *
+   * @param args Arguments to pass in wrapper
+   * @return {@link CompletableFuture} with invocation result
+   */
+  public CompletableFuture<R> invokeStaticAsync(Object... args) {
+    return invokeStaticAsync(DefaultExecutor.get(), args);
+  }
+
+  /**
+   * Invokes wrapped method without caller object asynchronously. See
+   * {@link #invokeStatic(Object...)}.
+   *
+   * @param executor {@link Executor} to invoke method in
+   * @param args     Arguments to pass in wrapper
+   * @return {@link CompletableFuture} with invocation result
+   */
+  public CompletableFuture<R> invokeStaticAsync(Executor executor, Object... args) {
+    return CompletableFuture.supplyAsync(() -> invokeStatic(args), executor);
+  }
+
+  /**
+   * Invokes wrapped method for every caller with same arguments. Matcher and wrapper are resolved
+   * once for all callers. See {@link #invoke(Object, Object...)}.
+   *
+   * @param callers Objects to call method from
+   * @param args    Arguments to pass in wrapper
+   * @return Invocation results in callers order
+   */
+  public List<R> invokeAll(List<? extends C> callers, Object... args) {
+    Object[] results = new Object[callers.size()];
+    invokeRange(callers.toArray(), results, 0, results.length, args);
+    return (List<R>) Arrays.asList(results);
+  }
+
+  /**
+   * Invokes wrapped method for every caller with same arguments and writes results into given
+   * array. See {@link #invokeAll(List, Object...)}.
+   *
+   * @param callers Objects to call method from
+   * @param results Array to write results in, must be at least of callers length
+   * @param args    Arguments to pass in wrapper
+   * @return results
+   */
+  public R[] invokeAll(C[] callers, R[] results, Object... args) {
+    checkResultsLength(callers.length, results.length);
+    invokeRange(callers, results, 0, callers.length, args);
+    return results;
+  }
+
+  /**
+   * Invokes wrapped method for every caller in {@link ForkJoinPool#commonPool()}. Callers are
+   * split into ranges and small inputs are processed in current thread. See
+   * {@link #invokeAllParallel(ForkJoinPool, Object[], Object[], Object...)}.
+   *
+   * @param callers Objects to call method from
+   * @param args    Arguments to pass in wrapper
+   * @return Invocation results in callers order
+   */
+  public List<R> invokeAllParallel(List<? extends C> callers, Object... args) {
+    Object[] results = new Object[callers.size()];
+    invokeParallel(ForkJoinPool.commonPool(), callers.toArray(), results, args);
+    return (List<R>) Arrays.asList(results);
+  }
+
+  /**
+   * Invokes wrapped method for every caller in given {@link ForkJoinPool} and writes results into
+   * given array. Callers are split into ranges and small inputs are processed in current thread.
+   * Wrapped method must be safe to call concurrently.
+   *
+   * @param pool    {@link ForkJoinPool} to invoke method in
+   * @param callers Objects to call method from
+   * @param results Array to write results in, must be at least of callers length
+   * @param args    Arguments to pass in wrapper
+   * @return results
+   */
+  public R[] invokeAllParallel(ForkJoinPool pool, C[] callers, R[] results, Object... args) {
+    checkResultsLength(callers.length, results.length);
+    invokeParallel(pool, callers, results, args);
+    return results;
+  }
+
+  /**
+   * Creates holder which caches invocation results with {@link MemoizeConfig#DEFAULT} config. See
+   * {@link #memoize(MemoizeConfig)}.
+   *
+   * @return {@link MemoizedMethodHolder}
+   */
+  public MemoizedMethodHolder<W, C, R> memoize() {
+    return memoize(MemoizeConfig.DEFAULT);
+  }
+
+  /**
+   * Creates holder which caches invocation results by caller and arguments in bounded concurrent
+   * cache. This holder is not changed. Wrapped method should be pure.
+   *
+   * @param config {@link MemoizeConfig}
+   * @return {@link MemoizedMethodHolder}
+   */
+  public MemoizedMethodHolder<W, C, R> memoize(MemoizeConfig config) {
+    return new MemoizedMethodHolder<>(wrapper, method, config);
+  }
+
+  /**
+   * Creates holder which records latency of every invocation into {@link LatencyRegistry#DEFAULT}.
+   * See {@link #instrument(LatencyRegistry, int)}.
+   *
+   * @return {@link InstrumentedMethodHolder}
+   */
+  public InstrumentedMethodHolder<W, C, R> instrument() {
+    return instrument(LatencyRegistry.DEFAULT, 1);
+  }
+
+  /**
+   * Creates holder which records latency of every Nth invocation into histogram of wrapped
+   * executable. This holder is not changed.
+   *
+   * @param registry   {@link LatencyRegistry} to record latencies in
+   * @param sampleRate Record every sampleRate invocation, 1 to record all
+   * @return {@link InstrumentedMethodHolder}
+   * @throws ReflectionException if sampleRate is not positive
+   */
+  public InstrumentedMethodHolder<W, C, R> instrument(LatencyRegistry registry, int sampleRate) {
+    BooleanOptional.of(sampleRate > 0)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Sample rate must be positive: %d", sampleRate));
+    return new InstrumentedMethodHolder<>(wrapper, method, registry, sampleRate);
+  }
+
+  private void invokeParallel(ForkJoinPool pool, Object[] callers, Object[] results,
+                              Object[] args) {
+    RangeTask.invoke(pool, callers.length,
+                     (from, to) -> invokeRange(callers, results, from, to, args));
+  }
+
+  private void invokeRange(Object[] callers, Object[] results, int from, int to, Object[] args) {
+    ArgumentMatcher<W, Object[], R> argumentMatcher = getMatcher();
+    Object[] matcherArgs = new Object[args.length + 1];
+    System.arraycopy(args, 0, matcherArgs, 1, args.length);
+    for (int i = from; i < to; i++) {
+      matcherArgs[0] = callers[i];
+      results[i] = argumentMatcher.apply(wrapper, method, matcherArgs);
+    }
+  }
+
+  private void checkResultsLength(int callers, int results) {
+    BooleanOptional.of(results < callers)
+        .ifTrueThrow(() -> ReflectionException.format(
+            "Results array length %d is less than callers count %d", results, callers));
+  }
+
+  private ArgumentMatcher<W, Object[], R> getMatcher() {
+    ArgumentMatcher<W, Object[], R> argumentMatcher = matcher;
+    if (Objects.isNull(argumentMatcher)) {
+      Object event = AideEvents.beginMatcherLookup();
+      argumentMatcher = ArgumentMatcherHolder.INSTANCE.getMatcher(wrapper, method);
+      AideEvents.endMatcherLookup(event, method);
+      matcher = argumentMatcher;
+    }
+    return argumentMatcher;
   }
 }
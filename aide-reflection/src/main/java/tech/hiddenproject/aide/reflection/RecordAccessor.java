@@ -0,0 +1,318 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Fast access to record components and canonical constructor. All component accessors and
+ * canonical constructor are wrapped with {@link LambdaWrapperHolder}, so reading components and
+ * creating records doesn't use reflection. Records are supported on JDK 17+ only, on earlier
+ * versions {@link #isRecord(Class)} always returns false.
+ *
+ * <pre>{@code
+ * RecordAccessor<Point> accessor = RecordAccessor.of(Point.class);
+ * int x = accessor.get(point, 0);
+ * Point copy = accessor.with(point, "y", 10);
+ * }</pre>
+ *
+ * @param <T> Record type
+ * @author Danila Rassokhin
+ */
+public class RecordAccessor<T> {
+
+  /**
+   * Max canonical constructor parameters count which can be wrapped by {@link LambdaWrapper}.
+   */
+  private static final int MAX_WRAPPED_COMPONENTS = 7;
+
+  private static final ClassValue<RecordAccessor<?>> DEFAULT_ACCESSORS =
+      new ClassValue<RecordAccessor<?>>() {
+        @Override
+        protected RecordAccessor<?> computeValue(Class<?> type) {
+          return new RecordAccessor<>(type, LambdaWrapperHolder.DEFAULT);
+        }
+      };
+
+  private final Class<T> type;
+
+  private final String[] names;
+
+  private final Class<?>[] types;
+
+  private final LambdaWrapper[] accessors;
+
+  private final LambdaWrapper constructor;
+
+  private final MethodHandle spreadConstructor;
+
+  private RecordAccessor(Class<T> type, LambdaWrapperHolder holder) {
+    BooleanOptional.of(RecordSupport.isRecord(type))
+        .ifFalseThrow(() -> ReflectionException.format("Class %s is not a record", type));
+    this.type = type;
+    Method[] methods = RecordSupport.getAccessors(type);
+    this.names = new String[methods.length];
+    this.types = new Class[methods.length];
+    this.accessors = new LambdaWrapper[methods.length];
+    for (int i = 0; i < methods.length; i++) {
+      names[i] = methods[i].getName();
+      types[i] = methods[i].getReturnType();
+      accessors[i] = holder.wrap(methods[i]).getWrapper();
+    }
+    Constructor<T> canonical = RecordSupport.getCanonicalConstructor(type);
+    if (methods.length <= MAX_WRAPPED_COMPONENTS) {
+      this.constructor = holder.wrap(canonical).getWrapper();
+      this.spreadConstructor = null;
+    } else {
+      this.constructor = null;
+      this.spreadConstructor = holder.findHandle(canonical)
+          .asType(MethodType.genericMethodType(methods.length))
+          .asSpreader(Object[].class, methods.length);
+    }
+  }
+
+  /**
+   * Creates accessor using {@link LambdaWrapperHolder#DEFAULT}. Accessors are cached per record
+   * class.
+   *
+   * @param type Record class
+   * @param <T>  Record type
+   * @return {@link RecordAccessor}
+   * @throws ReflectionException if class is not a record
+   */
+  public static <T> RecordAccessor<T> of(Class<T> type) {
+    return (RecordAccessor<T>) DEFAULT_ACCESSORS.get(type);
+  }
+
+  /**
+   * Creates accessor using given {@link LambdaWrapperHolder}. Holder must contain
+   * {@link LambdaWrapper}.
+   *
+   * @param type   Record class
+   * @param holder {@link LambdaWrapperHolder} to wrap accessors with
+   * @param <T>    Record type
+   * @return {@link RecordAccessor}
+   * @throws ReflectionException if class is not a record
+   */
+  public static <T> RecordAccessor<T> of(Class<T> type, LambdaWrapperHolder holder) {
+    return new RecordAccessor<>(type, holder);
+  }
+
+  /**
+   * @param type Class to check
+   * @return true if class is a record. Always false on JDK below 17
+   */
+  public static boolean isRecord(Class<?> type) {
+    return RecordSupport.isRecord(type);
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * @return Count of record components
+   */
+  public int getComponentCount() {
+    return names.length;
+  }
+
+  /**
+   * @return Names of record components in declaration order
+   */
+  public String[] getComponentNames() {
+    return names.clone();
+  }
+
+  /**
+   * @return Types of record components in declaration order
+   */
+  public Class<?>[] getComponentTypes() {
+    return types.clone();
+  }
+
+  /**
+   * @param name Component name
+   * @return Index of component or -1 if there is no such component
+   */
+  public int indexOf(String name) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Reads component value.
+   *
+   * @param record Record to read from
+   * @param index  Component index
+   * @param <V>    Component type
+   * @return Component value
+   */
+  public <V> V get(T record, int index) {
+    return accessors[index].get(record);
+  }
+
+  /**
+   * Reads component value.
+   *
+   * @param record Record to read from
+   * @param name   Component name
+   * @param <V>    Component type
+   * @return Component value
+   */
+  public <V> V get(T record, String name) {
+    return get(record, getIndex(name));
+  }
+
+  /**
+   * Reads all component values.
+   *
+   * @param record Record to read from
+   * @return Component values in declaration order
+   */
+  public Object[] toArray(T record) {
+    Object[] values = new Object[accessors.length];
+    for (int i = 0; i < accessors.length; i++) {
+      values[i] = accessors[i].get(record);
+    }
+    return values;
+  }
+
+  /**
+   * Creates record with canonical constructor.
+   *
+   * @param components Component values in declaration order
+   * @return New record
+   */
+  public T construct(Object[] components) {
+    BooleanOptional.of(components.length == names.length)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Record %s has %d components, but %d given", type, names.length, components.length));
+    if (constructor == null) {
+      return ThrowableOptional.sneaky(() -> (T) spreadConstructor.invokeExact(components));
+    }
+    switch (components.length) {
+      case 0:
+        return constructor.construct();
+      case 1:
+        return constructor.get(components[0]);
+      case 2:
+        return constructor.apply(components[0], components[1]);
+      case 3:
+        return constructor.apply(components[0], components[1], components[2]);
+      case 4:
+        return constructor.apply(components[0], components[1], components[2], components[3]);
+      case 5:
+        return constructor.apply(components[0], components[1], components[2], components[3],
+                                 components[4]);
+      case 6:
+        return constructor.apply(components[0], components[1], components[2], components[3],
+                                 components[4], components[5]);
+      default:
+        return constructor.apply(components[0], components[1], components[2], components[3],
+                                 components[4], components[5], components[6]);
+    }
+  }
+
+  /**
+   * Creates record without components.
+   *
+   * @return New record
+   */
+  public T construct() {
+    checkArity(0);
+    return constructor.construct();
+  }
+
+  /**
+   * Creates record with one component.
+   *
+   * @param arg0 First component
+   * @return New record
+   */
+  public T construct(Object arg0) {
+    checkArity(1);
+    return constructor.get(arg0);
+  }
+
+  /**
+   * Creates record with two components.
+   *
+   * @param arg0 First component
+   * @param arg1 Second component
+   * @return New record
+   */
+  public T construct(Object arg0, Object arg1) {
+    checkArity(2);
+    return constructor.apply(arg0, arg1);
+  }
+
+  /**
+   * Creates record with three components. See {@link #construct(Object, Object)}.
+   */
+  public T construct(Object arg0, Object arg1, Object arg2) {
+    checkArity(3);
+    return constructor.apply(arg0, arg1, arg2);
+  }
+
+  /**
+   * Creates record with four components. See {@link #construct(Object, Object)}.
+   */
+  public T construct(Object arg0, Object arg1, Object arg2, Object arg3) {
+    checkArity(4);
+    return constructor.apply(arg0, arg1, arg2, arg3);
+  }
+
+  /**
+   * Copies record with one component changed.
+   *
+   * @param record Record to copy
+   * @param index  Index of component to change
+   * @param value  New component value
+   * @return New record
+   */
+  public T with(T record, int index, Object value) {
+    Object[] values = toArray(record);
+    values[index] = value;
+    return construct(values);
+  }
+
+  /**
+   * Copies record with one component changed.
+   *
+   * @param record Record to copy
+   * @param name   Name of component to change
+   * @param value  New component value
+   * @return New record
+   */
+  public T with(T record, String name, Object value) {
+    return with(record, getIndex(name), value);
+  }
+
+  private int getIndex(String name) {
+    int index = indexOf(name);
+    BooleanOptional.of(index < 0)
+        .ifTrueThrow(() -> ReflectionException.format("Record %s has no component %s", type, name));
+    return index;
+  }
+
+  private void checkArity(int count) {
+    BooleanOptional.of(count == names.length)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Record %s has %d components, but %d given", type, names.length, count));
+  }
+
+  @Override
+  public String toString() {
+    return "RecordAccessor{" + "type=" + type + ", components=" + names.length + '}';
+  }
+}
@@ -0,0 +1,49 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Provides access to record components for {@link RecordAccessor}. Records are not available on
+ * Java 8, so this class reports any class as non record. Multi-release jar replaces this class on
+ * JDK 17+ to use {@code Class#getRecordComponents()}.
+ *
+ * @author Danila Rassokhin
+ */
+final class RecordSupport {
+
+  private RecordSupport() {
+  }
+
+  /**
+   * @param type Class to check
+   * @return true if class is a record
+   */
+  static boolean isRecord(Class<?> type) {
+    return false;
+  }
+
+  /**
+   * @param type Record class
+   * @return Component accessors in declaration order
+   */
+  static Method[] getAccessors(Class<?> type) {
+    throw unsupported(type);
+  }
+
+  /**
+   * @param type Record class
+   * @param <T>  Record type
+   * @return Canonical constructor of record
+   */
+  static <T> Constructor<T> getCanonicalConstructor(Class<T> type) {
+    throw unsupported(type);
+  }
+
+  private static ReflectionException unsupported(Class<?> type) {
+    return ReflectionException.format("Records are supported on JDK 17+ only, can't access %s",
+                                      type);
+  }
+}
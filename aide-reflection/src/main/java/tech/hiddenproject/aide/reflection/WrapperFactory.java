@@ -0,0 +1,86 @@
+package tech.hiddenproject.aide.reflection;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Creates wrapper instances for {@link LambdaWrapperHolder}. Uses {@link LambdaMetafactory} on
+ * Java 8. Multi-release jar replaces this class on JDK 17+ to define wrappers as hidden classes.
+ *
+ * @author Danila Rassokhin
+ */
+final class WrapperFactory {
+
+  private WrapperFactory() {
+  }
+
+  /**
+   * Creates instance of interface which implements given method with given implementation.
+   *
+   * @param lookup           Lookup to define wrapper in
+   * @param interfaceClass   Interface to implement
+   * @param methodName       Name of interface method
+   * @param methodType       Type of interface method
+   * @param implementation   {@link MethodHandle} to call from interface method
+   * @param instantiatedType Type of interface method after generic types substitution
+   * @return Wrapper instance
+   * @throws Throwable if wrapper can't be created
+   */
+  static Object create(MethodHandles.Lookup lookup, Class<?> interfaceClass, String methodName,
+                       MethodType methodType, MethodHandle implementation,
+                       MethodType instantiatedType) throws Throwable {
+    return LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(interfaceClass),
+                                         methodType, implementation,
+                                         box(instantiatedType, methodType)
+    ).getTarget().invoke();
+  }
+
+  /**
+   * Creates factory of wrappers which capture first argument of implementation, e.g. bound
+   * receiver. Factory defines wrapper class once and can be invoked with any captured value.
+   *
+   * @param lookup           Lookup to define wrapper in
+   * @param interfaceClass   Interface to implement
+   * @param methodName       Name of interface method
+   * @param methodType       Type of interface method
+   * @param implementation   {@link MethodHandle} to call from interface method with captured
+   *                         value as first argument
+   * @param instantiatedType Type of interface method after generic types substitution
+   * @return {@link MethodHandle} which accepts captured value and returns wrapper instance
+   * @throws Throwable if wrapper can't be created
+   */
+  static MethodHandle createFactory(MethodHandles.Lookup lookup, Class<?> interfaceClass,
+                                    String methodName, MethodType methodType,
+                                    MethodHandle implementation, MethodType instantiatedType)
+      throws Throwable {
+    MethodType factoryType = MethodType.methodType(
+        interfaceClass, implementation.type().parameterType(0));
+    return LambdaMetafactory.metafactory(lookup, methodName, factoryType, methodType,
+                                         implementation, box(instantiatedType, methodType)
+    ).getTarget();
+  }
+
+  /**
+   * {@link LambdaMetafactory} requires instantiated type to be subtype of interface method type, so
+   * primitives are boxed where interface method accepts or returns reference.
+   */
+  private static MethodType box(MethodType instantiatedType, MethodType methodType) {
+    MethodType boxed = instantiatedType;
+    for (int i = 0; i < methodType.parameterCount(); i++) {
+      if (!methodType.parameterType(i).isPrimitive() && boxed.parameterType(i).isPrimitive()) {
+        boxed = boxed.changeParameterType(i, wrap(boxed.parameterType(i)));
+      }
+    }
+    if (!methodType.returnType().isPrimitive() && boxed.returnType().isPrimitive()
+        && boxed.returnType() != void.class) {
+      boxed = boxed.changeReturnType(wrap(boxed.returnType()));
+    }
+    return boxed;
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+}
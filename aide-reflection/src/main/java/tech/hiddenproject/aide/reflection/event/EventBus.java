@@ -0,0 +1,312 @@
+package tech.hiddenproject.aide.reflection.event;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * In-process event bus. Methods annotated with {@link Subscribe} are wrapped into
+ * {@link Consumer} bound to listener on registration. Subscribers for each published event class,
+ * including subscribers of its superclasses and interfaces, are collected once and cached until
+ * next registration change, so {@link #publish(Object)} doesn't allocate.
+ *
+ * <pre>{@code
+ * EventBus eventBus = EventBus.builder().build();
+ * eventBus.register(listener);
+ * eventBus.publish(new UserCreated(id));
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public class EventBus {
+
+  private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+  private final LambdaWrapperHolder holder;
+
+  private final Executor executor;
+
+  private final BiConsumer<Throwable, Object> exceptionHandler;
+
+  private final Object lock = new Object();
+
+  private final Map<Class<?>, List<Subscriber>> subscribers = new HashMap<>();
+
+  private final Map<Class<?>, Subscriber[]> dispatchTable = new ConcurrentHashMap<>();
+
+  private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  private final Runnable drainTask = this::drain;
+
+  private EventBus(LambdaWrapperHolder holder, Executor executor,
+                   BiConsumer<Throwable, Object> exceptionHandler) {
+    this.holder = holder;
+    this.executor = executor;
+    this.exceptionHandler = exceptionHandler;
+  }
+
+  /**
+   * Creates builder for {@link EventBus}.
+   *
+   * @return {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Registers all {@link Subscribe} methods of listener.
+   *
+   * @param listener Object with {@link Subscribe} methods
+   * @throws ReflectionException if subscriber method is invalid or listener has no subscribers
+   */
+  public void register(Object listener) {
+    List<Subscriber> found = new ArrayList<>();
+    for (Method method : listener.getClass().getMethods()) {
+      if (method.isAnnotationPresent(Subscribe.class) && !method.isBridge()) {
+        found.add(createSubscriber(listener, method));
+      }
+    }
+    BooleanOptional.of(found.isEmpty())
+        .ifTrueThrow(() -> ReflectionException.format(
+            "Listener %s has no methods annotated with @Subscribe", listener.getClass()));
+    synchronized (lock) {
+      for (Subscriber subscriber : found) {
+        subscribers.computeIfAbsent(subscriber.eventType, type -> new ArrayList<>())
+            .add(subscriber);
+      }
+      dispatchTable.clear();
+    }
+  }
+
+  /**
+   * Unregisters all subscribers of listener.
+   *
+   * @param listener Previously registered listener
+   */
+  public void unregister(Object listener) {
+    synchronized (lock) {
+      for (List<Subscriber> typeSubscribers : subscribers.values()) {
+        typeSubscribers.removeIf(subscriber -> subscriber.listener == listener);
+      }
+      subscribers.values().removeIf(List::isEmpty);
+      dispatchTable.clear();
+    }
+  }
+
+  /**
+   * Delivers event to all subscribers in current thread. Exceptions thrown by subscribers are
+   * propagated to caller and the rest subscribers are not invoked.
+   *
+   * @param event Event to publish
+   */
+  public void publish(Object event) {
+    for (Subscriber subscriber : getSubscribers(event.getClass())) {
+      subscriber.consumer.accept(event);
+    }
+  }
+
+  /**
+   * Enqueues event for asynchronous delivery. Queued events are delivered in batches by single
+   * task in executor, so events are delivered in publish order. Exceptions thrown by subscribers
+   * are passed to exception handler, exceptions thrown by handler are passed to uncaught exception
+   * handler of delivering thread.
+   *
+   * @param event Event to publish
+   * @throws java.util.concurrent.RejectedExecutionException if executor rejects delivery task,
+   *                                                         event stays queued and will be
+   *                                                         delivered by next delivery task
+   */
+  public void publishAsync(Object event) {
+    Objects.requireNonNull(event);
+    queue.offer(event);
+    scheduleDrain();
+  }
+
+  /**
+   * @param eventType Event class
+   * @return true if there are subscribers for such events
+   */
+  public boolean hasSubscribers(Class<?> eventType) {
+    return getSubscribers(eventType).length > 0;
+  }
+
+  private Subscriber[] getSubscribers(Class<?> eventType) {
+    Subscriber[] eventSubscribers = dispatchTable.get(eventType);
+    if (Objects.isNull(eventSubscribers)) {
+      synchronized (lock) {
+        eventSubscribers = dispatchTable.computeIfAbsent(eventType, this::collectSubscribers);
+      }
+    }
+    return eventSubscribers;
+  }
+
+  private Subscriber[] collectSubscribers(Class<?> eventType) {
+    List<Subscriber> collected = new ArrayList<>();
+    Set<Class<?>> visited = new HashSet<>();
+    Deque<Class<?>> types = new ArrayDeque<>();
+    types.add(eventType);
+    while (!types.isEmpty()) {
+      Class<?> type = types.poll();
+      if (!visited.add(type)) {
+        continue;
+      }
+      List<Subscriber> typeSubscribers = subscribers.get(type);
+      if (Objects.nonNull(typeSubscribers)) {
+        collected.addAll(typeSubscribers);
+      }
+      if (Objects.nonNull(type.getSuperclass())) {
+        types.add(type.getSuperclass());
+      }
+      for (Class<?> typeInterface : type.getInterfaces()) {
+        types.add(typeInterface);
+      }
+    }
+    return collected.isEmpty() ? NO_SUBSCRIBERS : collected.toArray(NO_SUBSCRIBERS);
+  }
+
+  private void scheduleDrain() {
+    if (draining.compareAndSet(false, true)) {
+      try {
+        executor.execute(drainTask);
+      } catch (RuntimeException e) {
+        draining.set(false);
+        throw e;
+      }
+    }
+  }
+
+  private void drain() {
+    try {
+      Object event;
+      while (Objects.nonNull(event = queue.poll())) {
+        for (Subscriber subscriber : getSubscribers(event.getClass())) {
+          try {
+            subscriber.consumer.accept(event);
+          } catch (Throwable t) {
+            handleException(t, event);
+          }
+        }
+      }
+    } finally {
+      draining.set(false);
+    }
+    if (!queue.isEmpty()) {
+      scheduleDrain();
+    }
+  }
+
+  private void handleException(Throwable t, Object event) {
+    try {
+      exceptionHandler.accept(t, event);
+    } catch (Throwable handlerException) {
+      handlerException.addSuppressed(t);
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, handlerException);
+    }
+  }
+
+  private Subscriber createSubscriber(Object listener, Method method) {
+    BooleanOptional.of(method.getParameterCount() == 1)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Subscriber %s must have exactly one parameter", method));
+    Class<?> eventType = method.getParameterTypes()[0];
+    BooleanOptional.of(eventType.isPrimitive())
+        .ifTrueThrow(() -> ReflectionException.format(
+            "Subscriber %s must accept object event, but accepts %s", method, eventType));
+    return new Subscriber(listener, eventType, holder.wrapConsumer(method, listener));
+  }
+
+  private static final class Subscriber {
+
+    private final Object listener;
+    private final Class<?> eventType;
+    private final Consumer<Object> consumer;
+
+    private Subscriber(Object listener, Class<?> eventType, Consumer<Object> consumer) {
+      this.listener = listener;
+      this.eventType = eventType;
+      this.consumer = consumer;
+    }
+  }
+
+  /**
+   * Builder for {@link EventBus}.
+   */
+  public static class Builder {
+
+    private LambdaWrapperHolder holder = LambdaWrapperHolder.DEFAULT;
+    private Executor executor = ForkJoinPool.commonPool();
+    private BiConsumer<Throwable, Object> exceptionHandler = (t, event) -> {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+    };
+
+    private Builder() {
+    }
+
+    /**
+     * Sets holder to wrap subscribers with. Default is {@link LambdaWrapperHolder#DEFAULT}.
+     *
+     * @param holder {@link LambdaWrapperHolder}
+     * @return this
+     */
+    public Builder holder(LambdaWrapperHolder holder) {
+      this.holder = holder;
+      return this;
+    }
+
+    /**
+     * Sets executor for {@link EventBus#publishAsync(Object)}. Default is
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param executor {@link Executor}
+     * @return this
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Sets handler for exceptions thrown by subscribers during asynchronous delivery. Handler
+     * accepts exception and event. Default handler passes exception to uncaught exception handler
+     * of current thread.
+     *
+     * @param exceptionHandler Exception handler
+     * @return this
+     */
+    public Builder exceptionHandler(BiConsumer<Throwable, Object> exceptionHandler) {
+      this.exceptionHandler = exceptionHandler;
+      return this;
+    }
+
+    /**
+     * @return New {@link EventBus}
+     */
+    public EventBus build() {
+      return new EventBus(holder, executor, exceptionHandler);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package tech.hiddenproject.aide.reflection.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotated method will receive events from {@link EventBus}. Method must be public and accept
+ * exactly one parameter of event type. Subscriber receives events of parameter type and all its
+ * subtypes.
+ *
+ * @author Danila Rassokhin
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Subscribe {
+
+}
@@ -17,7 +17,50 @@ public class ReflectionException extends RuntimeException {
     super(cause);
   }
 
+  protected ReflectionException(String message, Throwable cause, boolean enableSuppression,
+                                boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
+
   public static ReflectionException format(String msg, Object... args) {
     return new ReflectionException(String.format(msg, args));
   }
+
+  /**
+   * Converts throwable of {@link java.lang.invoke.MethodHandle} invocation to unchecked exception.
+   * Runtime exceptions are returned as is, errors are thrown and checked exceptions are wrapped.
+   *
+   * <pre>{@code
+   * try {
+   *   return handle.invokeExact(arg);
+   * } catch (Throwable t) {
+   *   throw ReflectionException.rethrow(t);
+   * }
+   * }</pre>
+   *
+   * @param t Throwable to convert
+   * @return {@link RuntimeException} to throw
+   */
+  public static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    return new ReflectionException(t);
+  }
+
+  /**
+   * Creates exception without stack trace and suppressed exceptions. Such exceptions are cheap to
+   * create, so they can be used for failures in hot paths, e.g. with
+   * {@link tech.hiddenproject.aide.optional.Try}.
+   *
+   * @param msg  Message format
+   * @param args Message arguments
+   * @return {@link ReflectionException}
+   */
+  public static ReflectionException stackless(String msg, Object... args) {
+    return new ReflectionException(String.format(msg, args), null, false, false);
+  }
 }
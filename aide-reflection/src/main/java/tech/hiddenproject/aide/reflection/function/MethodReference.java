@@ -0,0 +1,24 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.io.Serializable;
+import java.lang.reflect.Executable;
+
+/**
+ * Serializable lambda which refers to method or constructor, e.g. {@code User::getName} or
+ * {@code User::new}. Referenced {@link Executable} is resolved from
+ * {@link java.lang.invoke.SerializedLambda} once per lambda class.
+ *
+ * @author Danila Rassokhin
+ */
+public interface MethodReference extends Serializable {
+
+  /**
+   * @return Referenced method or constructor
+   * @throws ReflectionException if lambda is not an unbound method reference
+   */
+  default Executable getExecutable() {
+    return MethodReferenceResolver.resolve(this);
+  }
+}
@@ -0,0 +1,77 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolves {@link Executable} referenced by {@link MethodReference}. Lambda class is generated for
+ * each method reference expression, so resolved executable is cached per lambda class. Lambda
+ * instance is needed to get its {@link SerializedLambda}, so cache is filled on first
+ * resolution.
+ *
+ * @author Danila Rassokhin
+ */
+final class MethodReferenceResolver {
+
+  private static final ClassValue<AtomicReference<Executable>> EXECUTABLES
+      = new ClassValue<AtomicReference<Executable>>() {
+    @Override
+    protected AtomicReference<Executable> computeValue(Class<?> type) {
+      return new AtomicReference<>();
+    }
+  };
+
+  private MethodReferenceResolver() {
+  }
+
+  static Executable resolve(MethodReference reference) {
+    AtomicReference<Executable> resolved = EXECUTABLES.get(reference.getClass());
+    Executable executable = resolved.get();
+    if (Objects.isNull(executable)) {
+      executable = resolve(serialize(reference), reference.getClass().getClassLoader());
+      resolved.set(executable);
+    }
+    return executable;
+  }
+
+  private static SerializedLambda serialize(MethodReference reference) {
+    Object replacement = ThrowableOptional.sneaky(() -> {
+      Method writeReplace = reference.getClass().getDeclaredMethod("writeReplace");
+      writeReplace.setAccessible(true);
+      return writeReplace.invoke(reference);
+    }, e -> new ReflectionException(
+        String.format("%s is not a serializable lambda", reference.getClass()), e));
+    BooleanOptional.of(replacement instanceof SerializedLambda)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "%s is not a serializable lambda", reference.getClass()));
+    return (SerializedLambda) replacement;
+  }
+
+  private static Executable resolve(SerializedLambda lambda, ClassLoader classLoader) {
+    BooleanOptional.of(lambda.getImplMethodName().startsWith("lambda$"))
+        .ifTrueThrow(() -> ReflectionException.format(
+            "%s is a lambda expression, but method reference expected",
+            lambda.getImplMethodName()));
+    BooleanOptional.of(lambda.getCapturedArgCount() > 0)
+        .ifTrueThrow(() -> ReflectionException.format(
+            "Method reference to %s must not be bound to object", lambda.getImplMethodName()));
+    Class<?> owner = ThrowableOptional.sneaky(
+        () -> Class.forName(lambda.getImplClass().replace('/', '.'), false, classLoader));
+    Class<?>[] parameterTypes = MethodType.fromMethodDescriptorString(
+        lambda.getImplMethodSignature(), classLoader).parameterArray();
+    if (lambda.getImplMethodKind() == MethodHandleInfo.REF_newInvokeSpecial) {
+      return ThrowableOptional.sneaky(() -> owner.getDeclaredConstructor(parameterTypes));
+    }
+    return ThrowableOptional.sneaky(
+        () -> owner.getDeclaredMethod(lambda.getImplMethodName(), parameterTypes));
+  }
+}
@@ -0,0 +1,16 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Serializable {@link BiConsumer} to pass method references to
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder}.
+ *
+ * @param <T> First argument type
+ * @param <U> Second argument type
+ * @author Danila Rassokhin
+ */
+@FunctionalInterface
+public interface SerializableBiConsumer<T, U> extends BiConsumer<T, U>, MethodReference {
+
+}
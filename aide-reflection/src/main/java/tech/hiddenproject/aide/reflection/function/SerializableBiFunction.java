@@ -0,0 +1,17 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import java.util.function.BiFunction;
+
+/**
+ * Serializable {@link BiFunction} to pass method references to
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder}.
+ *
+ * @param <T> First argument type
+ * @param <U> Second argument type
+ * @param <R> Result type
+ * @author Danila Rassokhin
+ */
+@FunctionalInterface
+public interface SerializableBiFunction<T, U, R> extends BiFunction<T, U, R>, MethodReference {
+
+}
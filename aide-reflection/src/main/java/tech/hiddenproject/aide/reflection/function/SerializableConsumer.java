@@ -0,0 +1,15 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import java.util.function.Consumer;
+
+/**
+ * Serializable {@link Consumer} to pass method references to
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder}.
+ *
+ * @param <T> Argument type
+ * @author Danila Rassokhin
+ */
+@FunctionalInterface
+public interface SerializableConsumer<T> extends Consumer<T>, MethodReference {
+
+}
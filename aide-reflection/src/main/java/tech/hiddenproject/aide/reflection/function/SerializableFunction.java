@@ -0,0 +1,16 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import java.util.function.Function;
+
+/**
+ * Serializable {@link Function} to pass method references to
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder}.
+ *
+ * @param <T> Argument type
+ * @param <R> Result type
+ * @author Danila Rassokhin
+ */
+@FunctionalInterface
+public interface SerializableFunction<T, R> extends Function<T, R>, MethodReference {
+
+}
@@ -0,0 +1,12 @@
+package tech.hiddenproject.aide.reflection.function;
+
+/**
+ * Serializable {@link Runnable} to pass method references to
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder}.
+ *
+ * @author Danila Rassokhin
+ */
+@FunctionalInterface
+public interface SerializableRunnable extends Runnable, MethodReference {
+
+}
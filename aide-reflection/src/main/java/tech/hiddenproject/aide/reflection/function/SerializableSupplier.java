@@ -0,0 +1,15 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import java.util.function.Supplier;
+
+/**
+ * Serializable {@link Supplier} to pass method references to
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder}.
+ *
+ * @param <R> Result type
+ * @author Danila Rassokhin
+ */
+@FunctionalInterface
+public interface SerializableSupplier<R> extends Supplier<R>, MethodReference {
+
+}
@@ -2,20 +2,29 @@ package tech.hiddenproject.aide.reflection.matcher;
 
 import tech.hiddenproject.aide.optional.Action;
 import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.optional.ThrowableOptional;
 import tech.hiddenproject.aide.reflection.LambdaWrapper;
 import tech.hiddenproject.aide.reflection.LambdaWrapper.Factory;
 import tech.hiddenproject.aide.reflection.WrapperHolder;
+import tech.hiddenproject.aide.reflection.annotation.Invoker;
 import tech.hiddenproject.aide.reflection.exception.ReflectionException;
 import tech.hiddenproject.aide.reflection.signature.MatcherSignature;
 import tech.hiddenproject.aide.reflection.signature.MethodSignature;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Stores all {@link ArgumentMatcher}s for wrappers.
+ * Stores all {@link ArgumentMatcher}s for wrappers. Matchers for {@link Invoker} methods of custom
+ * wrapper interfaces are generated when they are added to
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder}, see
+ * {@link #generateMatcher(Method, MethodHandles.Lookup)}.
  *
  * @author Danila Rassokhin
  */
@@ -24,7 +33,7 @@ public enum ArgumentMatcherHolder {
   INSTANCE;
 
   private final Map<MatcherSignature, ArgumentMatcher<Object, Object[], ?>> argumentMatchers
-      = new HashMap<>();
+      = new ConcurrentHashMap<>();
 
   {
     /*
@@ -95,6 +104,34 @@ public enum ArgumentMatcherHolder {
     argumentMatchers.put(matcherSignature, (ArgumentMatcher<Object, Object[], ?>) argumentMatcher);
   }
 
+  /**
+   * Generates matcher for wrapper method annotated as {@link Invoker}, unless matcher for its
+   * signature already exists. Generated matcher spreads arguments array into wrapper method with
+   * {@link MethodHandle}, so no reflective calls are made on invocation.
+   *
+   * @param wrapperMethod Wrapper method
+   * @param lookup        Lookup with access to wrapper interface
+   * @throws ReflectionException if wrapper method is not accessible with lookup
+   */
+  public void generateMatcher(Method wrapperMethod, MethodHandles.Lookup lookup) {
+    MatcherSignature matcherSignature = new MatcherSignature(
+        wrapperMethod.getDeclaringClass(), MethodSignature.fromWrapper(wrapperMethod));
+    if (argumentMatchers.containsKey(matcherSignature)) {
+      return;
+    }
+    int parameterCount = wrapperMethod.getParameterCount();
+    MethodHandle spreader = ThrowableOptional.sneaky(
+            () -> lookup.unreflect(wrapperMethod),
+            e -> ReflectionException.format("Wrapper method %s is not accessible", wrapperMethod)
+        )
+        .asType(MethodType.genericMethodType(parameterCount + 1))
+        .asSpreader(Object[].class, parameterCount);
+    argumentMatchers.putIfAbsent(
+        matcherSignature,
+        (holder, original, args) -> invokeSpreader(spreader, holder.getWrapper(), args)
+    );
+  }
+
   /**
    * Checks if there is {@link ArgumentMatcher} exists for given signature.
    *
@@ -116,14 +153,31 @@ public enum ArgumentMatcherHolder {
    * @return Wrapped function result or null if void
    */
   public <T> T apply(WrapperHolder holder, Executable original, Object[] args) {
+    return (T) getMatcher(holder, original).apply(holder, original, args);
+  }
+
+  /**
+   * Searches for {@link ArgumentMatcher} for {@link MethodSignature} of given {@link Executable}.
+   * Can be used to resolve matcher once and call it many times.
+   *
+   * @param holder   Wrapper interface
+   * @param original Original {@link Executable}
+   * @param <W>      Wrapper interface type
+   * @param <R>      Return type
+   * @return {@link ArgumentMatcher}
+   * @throws ReflectionException if no matcher found
+   */
+  public <W, R> ArgumentMatcher<W, Object[], R> getMatcher(WrapperHolder<W> holder,
+                                                          Executable original) {
     MethodSignature signature = MethodSignature.from(original);
     MatcherSignature matcherSignature = new MatcherSignature(holder.getDeclaringInterface(),
                                                              signature
     );
-    BooleanOptional.of(argumentMatchers.containsKey(matcherSignature)).ifFalseThrow(
+    ArgumentMatcher<?, Object[], ?> matcher = argumentMatchers.get(matcherSignature);
+    BooleanOptional.of(Objects.nonNull(matcher)).ifFalseThrow(
         () -> ReflectionException.format(
             "No matchers found for %s!" + "See ArgumentMatcherHolder#addMatcher", original));
-    return (T) argumentMatchers.get(matcherSignature).apply(holder, original, args);
+    return (ArgumentMatcher<W, Object[], R>) matcher;
   }
 
   private void addMatcher(Method method, ArgumentMatcher<LambdaWrapper, Object[], ?> matcher) {
@@ -132,6 +186,14 @@ public enum ArgumentMatcherHolder {
     argumentMatchers.put(matcherSignature, (ArgumentMatcher) matcher);
   }
 
+  private static Object invokeSpreader(MethodHandle spreader, Object wrapper, Object[] args) {
+    try {
+      return spreader.invokeExact(wrapper, args);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
   private Object fromVoid(Action action) {
     action.make();
     return null;
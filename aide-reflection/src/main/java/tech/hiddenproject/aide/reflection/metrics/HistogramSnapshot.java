@@ -0,0 +1,106 @@
+package tech.hiddenproject.aide.reflection.metrics;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+/**
+ * Immutable copy of {@link LatencyHistogram} state. All values are in nanoseconds.
+ *
+ * @author Danila Rassokhin
+ */
+public final class HistogramSnapshot {
+
+  private final long[] counts;
+
+  private final long count;
+
+  private final long sum;
+
+  private final long max;
+
+  HistogramSnapshot(long[] counts, long count, long sum, long max) {
+    this.counts = counts;
+    this.count = count;
+    this.sum = sum;
+    this.max = max;
+  }
+
+  /**
+   * @return Count of recorded values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return Sum of recorded values
+   */
+  public long getSum() {
+    return sum;
+  }
+
+  /**
+   * @return Largest recorded value or 0 if empty
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * @return Mean of recorded values or 0 if empty
+   */
+  public double getMean() {
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * Estimates value at percentile as upper bound of bucket containing it, but not greater than
+   * {@link #getMax()}.
+   *
+   * @param percentile Percentile from 0 to 100
+   * @return Estimated value or 0 if empty
+   * @throws ReflectionException if percentile is out of range
+   */
+  public long getValueAtPercentile(double percentile) {
+    BooleanOptional.of(percentile >= 0 && percentile <= 100)
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Percentile must be in [0, 100]: %s", percentile));
+    long total = 0;
+    for (long bucketCount : counts) {
+      total += bucketCount;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(LatencyHistogram.upperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * @param index Bucket index, see {@link LatencyHistogram#bucketIndex(long)}
+   * @return Count of values in bucket
+   */
+  public long getBucketCount(int index) {
+    return counts[index];
+  }
+
+  /**
+   * @return Copy of counts by bucket index
+   */
+  public long[] getBucketCounts() {
+    return counts.clone();
+  }
+
+  @Override
+  public String toString() {
+    return "HistogramSnapshot{" + "count=" + count + ", mean=" + getMean() + ", p50="
+        + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99) + ", max=" + max + '}';
+  }
+}
@@ -0,0 +1,121 @@
+package tech.hiddenproject.aide.reflection.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with fixed memory. Values are counted in
+ * log-linear buckets: each power of two is split into {@value #SUB_BUCKETS} buckets, so bucket
+ * bounds differ from recorded value by at most 12.5%. Whole {@code long} range fits into
+ * {@value #BUCKET_COUNT} buckets.
+ *
+ * <p>Recording is a few atomic increments and may be called from any thread. Snapshot is not
+ * atomic across buckets: values recorded concurrently with {@link #snapshot()} may be partially
+ * included.
+ *
+ * @author Danila Rassokhin
+ */
+public final class LatencyHistogram {
+
+  /**
+   * Count of buckets per power of two.
+   */
+  public static final int SUB_BUCKETS = 8;
+
+  /**
+   * Total count of buckets.
+   */
+  public static final int BUCKET_COUNT = 488;
+
+  private static final int SUB_BUCKET_BITS = 3;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  private final AtomicLong count = new AtomicLong();
+
+  private final AtomicLong sum = new AtomicLong();
+
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * @param value Value in nanoseconds
+   * @return Index of bucket value falls in
+   */
+  public static int bucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) Math.max(value, 0);
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * @param index Bucket index
+   * @return Smallest value counted in bucket
+   */
+  public static long lowerBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long subBucket = index % SUB_BUCKETS;
+    return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+
+  /**
+   * @param index Bucket index
+   * @return Largest value counted in bucket
+   */
+  public static long upperBound(int index) {
+    return index == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowerBound(index + 1) - 1;
+  }
+
+  /**
+   * Records value. Negative values are recorded as 0.
+   *
+   * @param nanos Latency in nanoseconds
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts.incrementAndGet(bucketIndex(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  /**
+   * @return Copy of current state
+   */
+  public HistogramSnapshot snapshot() {
+    long[] buckets = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = counts.get(i);
+    }
+    return new HistogramSnapshot(buckets, count.get(), sum.get(), max.get());
+  }
+
+  /**
+   * Takes snapshot and resets histogram to empty state, so next snapshot contains only values
+   * recorded after this call.
+   *
+   * @return Copy of state before reset
+   */
+  public HistogramSnapshot snapshotAndReset() {
+    long[] buckets = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = counts.getAndSet(i, 0);
+    }
+    return new HistogramSnapshot(buckets, count.getAndSet(0), sum.getAndSet(0), max.getAndSet(0));
+  }
+
+  /**
+   * Resets histogram to empty state.
+   */
+  public void reset() {
+    snapshotAndReset();
+  }
+}
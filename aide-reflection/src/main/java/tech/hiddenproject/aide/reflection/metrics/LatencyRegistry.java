@@ -0,0 +1,72 @@
+package tech.hiddenproject.aide.reflection.metrics;
+
+import java.lang.reflect.Executable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link LatencyHistogram}s by {@link Executable}. Holders instrumented with same
+ * registry and executable share one histogram.
+ *
+ * <pre>{@code
+ * Map<Executable, HistogramSnapshot> latencies = LatencyRegistry.DEFAULT.snapshotAndReset();
+ * latencies.forEach((executable, snapshot) -> report(executable, snapshot.getValueAtPercentile(99)));
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class LatencyRegistry {
+
+  /**
+   * Shared registry.
+   */
+  public static final LatencyRegistry DEFAULT = new LatencyRegistry();
+
+  private final Map<Executable, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+  /**
+   * Gets histogram of executable, creating it on first call.
+   *
+   * @param executable {@link Executable}
+   * @return {@link LatencyHistogram}
+   */
+  public LatencyHistogram getHistogram(Executable executable) {
+    LatencyHistogram histogram = histograms.get(executable);
+    if (Objects.isNull(histogram)) {
+      histogram = histograms.computeIfAbsent(executable, e -> new LatencyHistogram());
+    }
+    return histogram;
+  }
+
+  /**
+   * @return Snapshots of all histograms
+   */
+  public Map<Executable, HistogramSnapshot> snapshot() {
+    Map<Executable, HistogramSnapshot> snapshots = new LinkedHashMap<>();
+    histograms.forEach((executable, histogram) -> snapshots.put(executable, histogram.snapshot()));
+    return Collections.unmodifiableMap(snapshots);
+  }
+
+  /**
+   * Takes snapshots of all histograms and resets them. See
+   * {@link LatencyHistogram#snapshotAndReset()}.
+   *
+   * @return Snapshots of all histograms before reset
+   */
+  public Map<Executable, HistogramSnapshot> snapshotAndReset() {
+    Map<Executable, HistogramSnapshot> snapshots = new LinkedHashMap<>();
+    histograms.forEach(
+        (executable, histogram) -> snapshots.put(executable, histogram.snapshotAndReset()));
+    return Collections.unmodifiableMap(snapshots);
+  }
+
+  /**
+   * Resets all histograms.
+   */
+  public void reset() {
+    histograms.values().forEach(LatencyHistogram::reset);
+  }
+}
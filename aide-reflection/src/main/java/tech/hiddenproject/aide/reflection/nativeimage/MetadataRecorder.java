@@ -0,0 +1,278 @@
+package tech.hiddenproject.aide.reflection.nativeimage;
+
+import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records executables, fields and interfaces used by
+ * {@link tech.hiddenproject.aide.reflection.LambdaWrapperHolder} and writes them as GraalVM
+ * native-image reachability metadata: legacy {@code reflect-config.json} and
+ * {@code reachability-metadata.json}.
+ *
+ * <p>To collect metadata during test run set {@code aide.native.metadata.output} system property
+ * to output directory, e.g. {@code src/main/resources/META-INF/native-image/group/artifact}.
+ * Metadata is written on JVM shutdown.
+ *
+ * <pre>{@code
+ * MetadataRecorder recorder = new MetadataRecorder();
+ * MetadataRecorder.setGlobal(recorder);
+ * // wrap methods
+ * recorder.write(Paths.get("target/native-image"));
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public class MetadataRecorder {
+
+  /**
+   * System property with directory to write metadata in on JVM shutdown.
+   */
+  public static final String OUTPUT_PROPERTY = "aide.native.metadata.output";
+
+  /**
+   * Legacy reflection metadata file name.
+   */
+  public static final String REFLECT_CONFIG = "reflect-config.json";
+
+  /**
+   * Reachability metadata file name.
+   */
+  public static final String REACHABILITY_METADATA = "reachability-metadata.json";
+
+  private static final Comparator<Executable> EXECUTABLE_ORDER = Comparator
+      .comparing(MetadataRecorder::getName)
+      .thenComparing(executable -> typeNames(executable.getParameterTypes()));
+
+  private static volatile MetadataRecorder global = fromProperty();
+
+  private final Map<Class<?>, TypeEntry> types = new ConcurrentHashMap<>();
+
+  /**
+   * @return Recorder used by holders or null if recording is disabled
+   */
+  public static MetadataRecorder getGlobal() {
+    return global;
+  }
+
+  /**
+   * Sets recorder used by holders.
+   *
+   * @param recorder {@link MetadataRecorder} or null to disable recording
+   */
+  public static void setGlobal(MetadataRecorder recorder) {
+    global = recorder;
+  }
+
+  /**
+   * Records executable in global recorder if recording is enabled.
+   *
+   * @param executable Wrapped {@link Executable}
+   */
+  public static void recordExecutable(Executable executable) {
+    MetadataRecorder recorder = global;
+    if (Objects.nonNull(recorder)) {
+      recorder.addExecutable(executable);
+    }
+  }
+
+  /**
+   * Records field in global recorder if recording is enabled.
+   *
+   * @param field Field read or written with unreflected {@link java.lang.invoke.MethodHandle}
+   */
+  public static void recordField(Field field) {
+    MetadataRecorder recorder = global;
+    if (Objects.nonNull(recorder)) {
+      recorder.addField(field);
+    }
+  }
+
+  /**
+   * Records interface in global recorder if recording is enabled.
+   *
+   * @param type Wrapper or functional interface
+   */
+  public static void recordType(Class<?> type) {
+    MetadataRecorder recorder = global;
+    if (Objects.nonNull(recorder)) {
+      recorder.addType(type);
+    }
+  }
+
+  private static MetadataRecorder fromProperty() {
+    String output = System.getProperty(OUTPUT_PROPERTY);
+    if (Objects.isNull(output) || output.isEmpty()) {
+      return null;
+    }
+    MetadataRecorder recorder = new MetadataRecorder();
+    Path directory = Paths.get(output);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> recorder.write(directory),
+                                                    "aide-native-metadata"));
+    return recorder;
+  }
+
+  private static String getName(Executable executable) {
+    return executable instanceof Constructor ? "<init>" : executable.getName();
+  }
+
+  private static String typeNames(Class<?>[] types) {
+    StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < types.length; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      appendString(builder, types[i].getTypeName());
+    }
+    return builder.append(']').toString();
+  }
+
+  private static void appendString(StringBuilder builder, String value) {
+    builder.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        builder.append('\\');
+      }
+      builder.append(c);
+    }
+    builder.append('"');
+  }
+
+  /**
+   * Records executable to be accessible reflectively.
+   *
+   * @param executable {@link Method} or {@link Constructor}
+   */
+  public void addExecutable(Executable executable) {
+    getEntry(executable.getDeclaringClass()).executables.add(executable);
+  }
+
+  /**
+   * Records field to be accessible reflectively.
+   *
+   * @param field {@link Field}
+   */
+  public void addField(Field field) {
+    getEntry(field.getDeclaringClass()).fields.add(field);
+  }
+
+  /**
+   * Records interface to be accessible reflectively with all its public methods queryable.
+   *
+   * @param type Interface
+   */
+  public void addType(Class<?> type) {
+    getEntry(type).queryPublicMethods = true;
+  }
+
+  /**
+   * @return Recorded classes
+   */
+  public Set<Class<?>> getTypes() {
+    return types.keySet();
+  }
+
+  /**
+   * @return Content of {@code reflect-config.json}
+   */
+  public String toReflectConfig() {
+    return toJson("[", "  ", "name", "]");
+  }
+
+  /**
+   * @return Content of {@code reachability-metadata.json}
+   */
+  public String toReachabilityMetadata() {
+    return toJson("{\n  \"reflection\": [", "    ", "type", "  ]\n}");
+  }
+
+  /**
+   * Writes {@code reflect-config.json} and {@code reachability-metadata.json} in directory.
+   *
+   * @param directory Directory to write in, will be created if absent
+   * @throws ReflectionException if files can't be written
+   */
+  public void write(Path directory) {
+    ThrowableOptional.sneaky(() -> {
+      Files.createDirectories(directory);
+      Files.write(directory.resolve(REFLECT_CONFIG),
+                  toReflectConfig().getBytes(StandardCharsets.UTF_8));
+      Files.write(directory.resolve(REACHABILITY_METADATA),
+                  toReachabilityMetadata().getBytes(StandardCharsets.UTF_8));
+    }, e -> new ReflectionException("Can't write native image metadata to " + directory, e));
+  }
+
+  private TypeEntry getEntry(Class<?> type) {
+    return types.computeIfAbsent(type, t -> new TypeEntry());
+  }
+
+  private String toJson(String prefix, String indent, String typeKey, String suffix) {
+    List<Class<?>> sortedTypes = new ArrayList<>(types.keySet());
+    sortedTypes.sort(Comparator.comparing(Class::getTypeName));
+    StringBuilder builder = new StringBuilder(prefix);
+    for (int i = 0; i < sortedTypes.size(); i++) {
+      builder.append(i > 0 ? ",\n" : "\n");
+      appendType(builder, indent, typeKey, sortedTypes.get(i));
+    }
+    return builder.append('\n').append(suffix).append('\n').toString();
+  }
+
+  private void appendType(StringBuilder builder, String indent, String typeKey, Class<?> type) {
+    TypeEntry entry = types.get(type);
+    builder.append(indent).append("{\n").append(indent).append("  ");
+    appendString(builder, typeKey);
+    builder.append(": ");
+    appendString(builder, type.getTypeName());
+    if (entry.queryPublicMethods) {
+      builder.append(",\n").append(indent).append("  \"queryAllPublicMethods\": true");
+    }
+    List<Executable> executables = new ArrayList<>(entry.executables);
+    executables.sort(EXECUTABLE_ORDER);
+    if (!executables.isEmpty()) {
+      builder.append(",\n").append(indent).append("  \"methods\": [");
+      for (int i = 0; i < executables.size(); i++) {
+        Executable executable = executables.get(i);
+        builder.append(i > 0 ? ",\n" : "\n").append(indent).append("    {\"name\": ");
+        appendString(builder, getName(executable));
+        builder.append(", \"parameterTypes\": ")
+            .append(typeNames(executable.getParameterTypes())).append('}');
+      }
+      builder.append('\n').append(indent).append("  ]");
+    }
+    List<Field> fields = new ArrayList<>(entry.fields);
+    fields.sort(Comparator.comparing(Field::getName));
+    if (!fields.isEmpty()) {
+      builder.append(",\n").append(indent).append("  \"fields\": [");
+      for (int i = 0; i < fields.size(); i++) {
+        builder.append(i > 0 ? ",\n" : "\n").append(indent).append("    {\"name\": ");
+        appendString(builder, fields.get(i).getName());
+        builder.append('}');
+      }
+      builder.append('\n').append(indent).append("  ]");
+    }
+    builder.append('\n').append(indent).append('}');
+  }
+
+  private static final class TypeEntry {
+
+    private final Set<Executable> executables = ConcurrentHashMap.newKeySet();
+    private final Set<Field> fields = ConcurrentHashMap.newKeySet();
+    private volatile boolean queryPublicMethods;
+  }
+}
@@ -0,0 +1,152 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents bean property, i.e. public getter and setter pair. Getter must be named as
+ * {@code getName} or {@code isName} for boolean properties, setter as {@code setName} with single
+ * parameter of getter return type, other overloads of setter are ignored. If boolean property has
+ * both getters, {@code isName} is used.
+ *
+ * @author Danila Rassokhin
+ */
+public class BeanProperty {
+
+  private static final ClassValue<List<BeanProperty>> PROPERTIES =
+      new ClassValue<List<BeanProperty>>() {
+        @Override
+        protected List<BeanProperty> computeValue(Class<?> type) {
+          return Collections.unmodifiableList(collect(type));
+        }
+      };
+
+  private final String name;
+
+  private final Class<?> type;
+
+  private final Method getter;
+
+  private final Method setter;
+
+  private BeanProperty(String name, Method getter, Method setter) {
+    this.name = name;
+    this.type = getter.getReturnType();
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  /**
+   * Collects readable and writable properties of class sorted by name, so properties order is
+   * stable between JVM runs. Result is cached per class.
+   *
+   * @param type Class to collect properties from
+   * @return Unmodifiable list of {@link BeanProperty}
+   */
+  public static List<BeanProperty> of(Class<?> type) {
+    return PROPERTIES.get(type);
+  }
+
+  /**
+   * Searches for property of class by name.
+   *
+   * @param type Class to search property in
+   * @param name Property name
+   * @return {@link BeanProperty}
+   * @throws ReflectionException if class has no such property
+   */
+  public static BeanProperty of(Class<?> type, String name) {
+    for (BeanProperty property : of(type)) {
+      if (property.getName().equals(name)) {
+        return property;
+      }
+    }
+    throw ReflectionException.format("Property %s not found in %s", name, type);
+  }
+
+  private static List<BeanProperty> collect(Class<?> type) {
+    Map<String, Method> getters = new HashMap<>();
+    Map<String, List<Method>> setters = new HashMap<>();
+    for (Method method : type.getMethods()) {
+      if (Modifier.isStatic(method.getModifiers()) || method.isBridge()
+          || method.getDeclaringClass() == Object.class) {
+        continue;
+      }
+      String name = method.getName();
+      if (method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+        if (name.startsWith("get") && name.length() > 3) {
+          getters.putIfAbsent(decapitalize(name.substring(3)), method);
+        } else if (name.startsWith("is") && name.length() > 2
+            && method.getReturnType() == boolean.class) {
+          getters.put(decapitalize(name.substring(2)), method);
+        }
+      } else if (method.getParameterCount() == 1 && name.startsWith("set") && name.length() > 3) {
+        setters.computeIfAbsent(decapitalize(name.substring(3)), key -> new ArrayList<>())
+            .add(method);
+      }
+    }
+    List<BeanProperty> properties = new ArrayList<>();
+    for (Map.Entry<String, Method> getter : getters.entrySet()) {
+      Method setter = findSetter(setters.get(getter.getKey()), getter.getValue().getReturnType());
+      if (Objects.nonNull(setter)) {
+        properties.add(new BeanProperty(getter.getKey(), getter.getValue(), setter));
+      }
+    }
+    properties.sort(Comparator.comparing(BeanProperty::getName));
+    return properties;
+  }
+
+  /**
+   * Overloaded setters are not ordered by {@link Class#getMethods()}, so setter is chosen by exact
+   * getter type.
+   */
+  private static Method findSetter(List<Method> setters, Class<?> type) {
+    if (Objects.isNull(setters)) {
+      return null;
+    }
+    for (Method setter : setters) {
+      if (setter.getParameterTypes()[0] == type) {
+        return setter;
+      }
+    }
+    return null;
+  }
+
+  private static String decapitalize(String name) {
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1))
+        && Character.isUpperCase(name.charAt(0))) {
+      return name;
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Class<?> getType() {
+    return type;
+  }
+
+  public Method getGetter() {
+    return getter;
+  }
+
+  public Method getSetter() {
+    return setter;
+  }
+
+  @Override
+  public String toString() {
+    return "BeanProperty{" + "name='" + name + '\'' + ", type=" + type + '}';
+  }
+}
@@ -0,0 +1,396 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Binds {@code Map<String, Object>} and {@code Object[]} rows to objects and converts objects
+ * back. Plan is compiled once per class: public no-arg constructor wrapped with
+ * {@link LambdaWrapperHolder#wrapSupplier(java.lang.reflect.Executable)} and wrapped setters or
+ * public fields, or public constructor with most parameters if class has no no-arg constructor.
+ * Constructor parameters are matched by name, so class must be compiled with {@code -parameters}.
+ *
+ * <p>Properties are public getters ({@code getName}, {@code isName} for booleans) and public
+ * instance fields. Numbers are converted to property type, e.g. {@link Long} column is bound to
+ * {@code int} property. Null is not written to primitive property and is passed to constructor
+ * as zero value.
+ *
+ * <pre>{@code
+ * Binder<User> binder = Binder.of(User.class);
+ * User user = binder.bind(config);
+ * RowBinder<User> rows = binder.schema("id", "name", "email");
+ * List<User> users = rows.bindAll(resultRows);
+ * }</pre>
+ *
+ * @param <T> Bound objects type
+ * @author Danila Rassokhin
+ */
+public final class Binder<T> {
+
+  private static final ClassValue<Binder<?>> BINDERS = new ClassValue<Binder<?>>() {
+    @Override
+    protected Binder<?> computeValue(Class<?> type) {
+      return new Binder<>(type, LambdaWrapperHolder.DEFAULT);
+    }
+  };
+
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(
+      Object.class, Object[].class);
+
+  private final Class<T> type;
+
+  private final List<BindProperty> properties;
+
+  private final Map<String, BindProperty> propertiesByName;
+
+  private final Supplier<T> constructor;
+
+  private final MethodHandle argsConstructor;
+
+  private final List<String> parameterNames;
+
+  private final Set<String> parameterSet;
+
+  private final Class<?>[] parameterTypes;
+
+  private final Map<List<String>, RowBinder<T>> schemas = new ConcurrentHashMap<>();
+
+  private Binder(Class<T> type, LambdaWrapperHolder holder) {
+    this.type = type;
+    this.properties = collect(type, holder);
+    Map<String, BindProperty> byName = new HashMap<>();
+    for (BindProperty property : properties) {
+      byName.put(property.name, property);
+    }
+    this.propertiesByName = byName;
+    Constructor<?> noArgs = findConstructor(type, true);
+    if (Objects.nonNull(noArgs)) {
+      this.constructor = holder.wrapSupplier(noArgs);
+      this.argsConstructor = null;
+      this.parameterNames = Collections.emptyList();
+      this.parameterSet = Collections.emptySet();
+      this.parameterTypes = new Class<?>[0];
+      return;
+    }
+    Constructor<?> allArgs = findConstructor(type, false);
+    BooleanOptional.of(Objects.isNull(allArgs))
+        .ifTrueThrow(() -> ReflectionException.format("No public constructor in %s", type));
+    List<String> names = new ArrayList<>();
+    for (Parameter parameter : allArgs.getParameters()) {
+      BooleanOptional.of(parameter.isNamePresent())
+          .ifFalseThrow(() -> ReflectionException.format(
+              "Constructor parameter names of %s are not present, compile with -parameters",
+              type));
+      names.add(parameter.getName());
+    }
+    this.constructor = null;
+    this.argsConstructor = holder.findHandle(allArgs)
+        .asSpreader(Object[].class, allArgs.getParameterCount())
+        .asType(CONSTRUCTOR_TYPE);
+    this.parameterNames = Collections.unmodifiableList(names);
+    this.parameterSet = new HashSet<>(names);
+    this.parameterTypes = allArgs.getParameterTypes();
+  }
+
+  /**
+   * Gets binder which wraps members with {@link LambdaWrapperHolder#DEFAULT}. Binders are cached
+   * per class.
+   *
+   * @param type Class to bind
+   * @param <T>  Bound objects type
+   * @return {@link Binder}
+   * @throws ReflectionException if class has no suitable public constructor
+   */
+  public static <T> Binder<T> of(Class<T> type) {
+    return (Binder<T>) BINDERS.get(type);
+  }
+
+  /**
+   * Creates binder which wraps members with given holder. Result is not cached.
+   *
+   * @param type   Class to bind
+   * @param holder {@link LambdaWrapperHolder} to wrap constructor, getters and setters with
+   * @param <T>    Bound objects type
+   * @return {@link Binder}
+   * @throws ReflectionException if class has no suitable public constructor
+   */
+  public static <T> Binder<T> create(Class<T> type, LambdaWrapperHolder holder) {
+    return new Binder<>(type, holder);
+  }
+
+  private static Constructor<?> findConstructor(Class<?> type, boolean noArgs) {
+    Constructor<?> found = null;
+    for (Constructor<?> constructor : type.getConstructors()) {
+      int count = constructor.getParameterCount();
+      if (noArgs && count == 0) {
+        return constructor;
+      }
+      if (!noArgs && (Objects.isNull(found) || count > found.getParameterCount())) {
+        found = constructor;
+      }
+    }
+    return noArgs ? null : found;
+  }
+
+  private static List<BindProperty> collect(Class<?> type, LambdaWrapperHolder holder) {
+    TreeSet<String> names = new TreeSet<>();
+    for (Method method : type.getMethods()) {
+      String name = method.getName();
+      if (Modifier.isStatic(method.getModifiers()) || method.isBridge()
+          || method.getDeclaringClass() == Object.class || method.getParameterCount() != 0) {
+        continue;
+      }
+      if (name.startsWith("get") && name.length() > 3 && method.getReturnType() != void.class) {
+        names.add(decapitalize(name.substring(3)));
+      } else if (name.startsWith("is") && name.length() > 2
+          && method.getReturnType() == boolean.class) {
+        names.add(decapitalize(name.substring(2)));
+      }
+    }
+    for (Field field : type.getFields()) {
+      if (!Modifier.isStatic(field.getModifiers())) {
+        names.add(field.getName());
+      }
+    }
+    List<BindProperty> properties = new ArrayList<>(names.size());
+    for (String name : names) {
+      properties.add(new BindProperty(name, PropertyPath.compile(holder, type, name), holder));
+    }
+    return Collections.unmodifiableList(properties);
+  }
+
+  private static String decapitalize(String name) {
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1))
+        && Character.isUpperCase(name.charAt(0))) {
+      return name;
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  static Object coerce(Object value, Class<?> type) {
+    if (!(value instanceof Number) || type.isInstance(value)) {
+      return value;
+    }
+    Number number = (Number) value;
+    if (type == int.class || type == Integer.class) {
+      return number.intValue();
+    }
+    if (type == long.class || type == Long.class) {
+      return number.longValue();
+    }
+    if (type == double.class || type == Double.class) {
+      return number.doubleValue();
+    }
+    if (type == float.class || type == Float.class) {
+      return number.floatValue();
+    }
+    if (type == short.class || type == Short.class) {
+      return number.shortValue();
+    }
+    if (type == byte.class || type == Byte.class) {
+      return number.byteValue();
+    }
+    return value;
+  }
+
+  static Object zeroValue(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return null;
+    }
+    if (type == boolean.class) {
+      return false;
+    }
+    if (type == char.class) {
+      return '\0';
+    }
+    return coerce(0, type);
+  }
+
+  /**
+   * Creates object from map. Keys which are not properties or constructor parameters are ignored.
+   *
+   * @param values Values by property name
+   * @return Bound object
+   */
+  public T bind(Map<String, ?> values) {
+    T target;
+    if (Objects.isNull(constructor)) {
+      Object[] args = new Object[parameterTypes.length];
+      for (int i = 0; i < args.length; i++) {
+        args[i] = argument(values.get(parameterNames.get(i)), parameterTypes[i]);
+      }
+      target = construct(args);
+    } else {
+      target = constructor.get();
+    }
+    for (BindProperty property : properties) {
+      if (property.isWritable() && !parameterSet.contains(property.name)
+          && values.containsKey(property.name)) {
+        property.write(target, values.get(property.name));
+      }
+    }
+    return target;
+  }
+
+  /**
+   * Converts object to map of readable properties sorted by name.
+   *
+   * @param target Object to convert
+   * @return Mutable map of property values
+   */
+  public Map<String, Object> toMap(T target) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (BindProperty property : properties) {
+      values.put(property.name, property.reader.apply(target));
+    }
+    return values;
+  }
+
+  /**
+   * Gets binder of rows with given columns. Columns are resolved to constructor arguments and
+   * properties once, binders are cached per columns list.
+   *
+   * @param columns Column names in rows order
+   * @return {@link RowBinder}
+   * @throws ReflectionException if column is not a constructor parameter or writable property
+   */
+  public RowBinder<T> schema(String... columns) {
+    return schema(Arrays.asList(columns));
+  }
+
+  /**
+   * See {@link #schema(String...)}.
+   */
+  public RowBinder<T> schema(List<String> columns) {
+    RowBinder<T> rowBinder = schemas.get(columns);
+    if (Objects.isNull(rowBinder)) {
+      rowBinder = schemas.computeIfAbsent(new ArrayList<>(columns),
+                                          c -> new RowBinder<>(this, c));
+    }
+    return rowBinder;
+  }
+
+  /**
+   * @return Names of properties sorted by name
+   */
+  public List<String> getPropertyNames() {
+    List<String> names = new ArrayList<>(properties.size());
+    for (BindProperty property : properties) {
+      names.add(property.name);
+    }
+    return names;
+  }
+
+  /**
+   * @return Constructor parameter names or empty list if no-arg constructor is used
+   */
+  public List<String> getParameterNames() {
+    return parameterNames;
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  Object argument(Object value, Class<?> parameterType) {
+    return Objects.isNull(value) ? zeroValue(parameterType) : coerce(value, parameterType);
+  }
+
+  T construct(Object[] args) {
+    try {
+      return (T) argsConstructor.invokeExact(args);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
+  T construct() {
+    return constructor.get();
+  }
+
+  boolean isNoArgs() {
+    return Objects.nonNull(constructor);
+  }
+
+  Class<?>[] getParameterTypes() {
+    return parameterTypes;
+  }
+
+  BindProperty getProperty(String name) {
+    return propertiesByName.get(name);
+  }
+
+  static final class BindProperty {
+
+    final String name;
+
+    final Class<?> type;
+
+    final Function<Object, Object> reader;
+
+    final BiConsumer<Object, Object> writer;
+
+    private BindProperty(String name, PropertyPath path, LambdaWrapperHolder holder) {
+      this.name = name;
+      this.type = path.getType();
+      Member member = path.getMember();
+      if (member instanceof Method) {
+        Method setter = findSetter(path.getRootType(), name, type);
+        this.reader = holder.wrapFunction((Method) member);
+        this.writer = Objects.isNull(setter) || Modifier.isStatic(setter.getModifiers())
+            ? null : holder.wrapBiConsumer(setter);
+      } else {
+        this.reader = path::read;
+        this.writer = path.isWritable() ? path::write : null;
+      }
+    }
+
+    private static Method findSetter(Class<?> owner, String name, Class<?> type) {
+      try {
+        return owner.getMethod("set" + Character.toUpperCase(name.charAt(0)) + name.substring(1),
+                               type);
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+
+    boolean isWritable() {
+      return Objects.nonNull(writer);
+    }
+
+    void write(Object target, Object value) {
+      if (Objects.isNull(value)) {
+        if (!type.isPrimitive()) {
+          writer.accept(target, null);
+        }
+        return;
+      }
+      writer.accept(target, coerce(value, type));
+    }
+  }
+}
@@ -0,0 +1,344 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compiles comparators from {@link SortKey}s. Each key is resolved to {@link PropertyPath} once:
+ * intermediate segments are read with fused path reader and last getter is wrapped by
+ * {@link LambdaWrapperHolder}, so primitive properties are compared without boxing. Public fields
+ * are read with primitive typed {@link MethodHandle} from holder lookup. Compiled
+ * comparators are cached per class and keys.
+ *
+ * <pre>{@code
+ * Comparator<Order> comparator = ComparatorFactory.DEFAULT.getComparator(
+ *     Order.class, "customer.name, total desc nulls first");
+ * orders.sort(comparator);
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class ComparatorFactory {
+
+  /**
+   * Factory which wraps getters with {@link LambdaWrapperHolder#DEFAULT}.
+   */
+  public static final ComparatorFactory DEFAULT = new ComparatorFactory(
+      LambdaWrapperHolder.DEFAULT);
+
+  private final LambdaWrapperHolder holder;
+
+  private final ClassValue<Map<List<SortKey>, Comparator<?>>> comparators
+      = new ClassValue<Map<List<SortKey>, Comparator<?>>>() {
+    @Override
+    protected Map<List<SortKey>, Comparator<?>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private ComparatorFactory(LambdaWrapperHolder holder) {
+    this.holder = holder;
+  }
+
+  /**
+   * Creates factory with own cache.
+   *
+   * @param holder {@link LambdaWrapperHolder} to wrap getters with
+   * @return {@link ComparatorFactory}
+   */
+  public static ComparatorFactory create(LambdaWrapperHolder holder) {
+    return new ComparatorFactory(holder);
+  }
+
+  /**
+   * Gets comparator for keys specification. See {@link SortKey#parse(String)}.
+   *
+   * @param type Class of compared objects
+   * @param spec Keys specification
+   * @param <T>  Compared objects type
+   * @return {@link Comparator}
+   */
+  public <T> Comparator<T> getComparator(Class<T> type, String spec) {
+    return getComparator(type, SortKey.parse(spec));
+  }
+
+  /**
+   * Gets comparator for keys. See {@link #getComparator(Class, List)}.
+   */
+  public <T> Comparator<T> getComparator(Class<T> type, SortKey... keys) {
+    return getComparator(type, Arrays.asList(keys));
+  }
+
+  /**
+   * Gets comparator which compares objects by keys in given order.
+   *
+   * @param type Class of compared objects
+   * @param keys {@link SortKey}s
+   * @param <T>  Compared objects type
+   * @return Cached {@link Comparator}
+   * @throws ReflectionException if keys are empty, property not found or not comparable
+   */
+  public <T> Comparator<T> getComparator(Class<T> type, List<SortKey> keys) {
+    BooleanOptional.of(keys.isEmpty())
+        .ifTrueThrow(() -> ReflectionException.format("At least one sort key required"));
+    Map<List<SortKey>, Comparator<?>> typeComparators = comparators.get(type);
+    Comparator<?> comparator = typeComparators.get(keys);
+    if (Objects.isNull(comparator)) {
+      comparator = typeComparators.computeIfAbsent(new ArrayList<>(keys),
+                                                   k -> compile(type, k));
+    }
+    return (Comparator<T>) comparator;
+  }
+
+  private Comparator<Object> compile(Class<?> type, List<SortKey> keys) {
+    KeyComparator[] keyComparators = new KeyComparator[keys.size()];
+    for (int i = 0; i < keyComparators.length; i++) {
+      keyComparators[i] = compile(type, keys.get(i));
+    }
+    return keyComparators.length == 1
+        ? keyComparators[0] : new CompositeComparator(keyComparators);
+  }
+
+  private KeyComparator compile(Class<?> type, SortKey key) {
+    PropertyPath path = PropertyPath.compile(holder, type, key.getPath());
+    Class<?> valueType = path.getType();
+    BooleanOptional.of(valueType.isPrimitive() || Comparable.class.isAssignableFrom(valueType))
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Property %s of %s is not comparable", key.getPath(), type));
+    PropertyPath parentPath = path.getParent();
+    Function<Object, Object> parent = Objects.isNull(parentPath) ? null : parentPath::read;
+    if (path.getMember() instanceof Field) {
+      return compileField(key, parent, holder.findGetter((Field) path.getMember()), valueType);
+    }
+    Method getter = (Method) path.getMember();
+    if (valueType == int.class || valueType == short.class || valueType == byte.class
+        || valueType == char.class) {
+      return new IntKey(key, parent, holder.wrapToIntFunction(getter));
+    }
+    if (valueType == long.class) {
+      return new LongKey(key, parent, holder.wrapToLongFunction(getter));
+    }
+    if (valueType == double.class || valueType == float.class) {
+      return new DoubleKey(key, parent, holder.wrapToDoubleFunction(getter));
+    }
+    if (valueType == boolean.class) {
+      return new BooleanKey(key, parent, holder.wrapPredicate(getter));
+    }
+    return new ComparableKey(key, parent, holder.wrapFunction(getter));
+  }
+
+  private KeyComparator compileField(SortKey key, Function<Object, Object> parent,
+                                     MethodHandle getter, Class<?> valueType) {
+    if (valueType == int.class || valueType == short.class || valueType == byte.class
+        || valueType == char.class) {
+      MethodHandle reader = getter.asType(MethodType.methodType(int.class, Object.class));
+      return new IntKey(key, parent, object -> {
+        try {
+          return (int) reader.invokeExact(object);
+        } catch (Throwable t) {
+          throw ReflectionException.rethrow(t);
+        }
+      });
+    }
+    if (valueType == long.class) {
+      MethodHandle reader = getter.asType(MethodType.methodType(long.class, Object.class));
+      return new LongKey(key, parent, object -> {
+        try {
+          return (long) reader.invokeExact(object);
+        } catch (Throwable t) {
+          throw ReflectionException.rethrow(t);
+        }
+      });
+    }
+    if (valueType == double.class || valueType == float.class) {
+      MethodHandle reader = getter.asType(MethodType.methodType(double.class, Object.class));
+      return new DoubleKey(key, parent, object -> {
+        try {
+          return (double) reader.invokeExact(object);
+        } catch (Throwable t) {
+          throw ReflectionException.rethrow(t);
+        }
+      });
+    }
+    if (valueType == boolean.class) {
+      MethodHandle reader = getter.asType(MethodType.methodType(boolean.class, Object.class));
+      return new BooleanKey(key, parent, object -> {
+        try {
+          return (boolean) reader.invokeExact(object);
+        } catch (Throwable t) {
+          throw ReflectionException.rethrow(t);
+        }
+      });
+    }
+    MethodHandle reader = getter.asType(MethodType.methodType(Comparable.class, Object.class));
+    return new ComparableKey(key, parent, object -> {
+      try {
+        return (Comparable<Object>) reader.invokeExact(object);
+      } catch (Throwable t) {
+        throw ReflectionException.rethrow(t);
+      }
+    });
+  }
+
+  private abstract static class KeyComparator implements Comparator<Object> {
+
+    protected final boolean descending;
+    private final Function<Object, Object> parent;
+    private final int nullOrder;
+
+    private KeyComparator(SortKey key, Function<Object, Object> parent) {
+      this.descending = key.getDirection() == SortKey.Direction.DESC;
+      this.parent = parent;
+      this.nullOrder = key.getNulls() == SortKey.Nulls.FIRST ? -1 : 1;
+    }
+
+    @Override
+    public int compare(Object first, Object second) {
+      if (Objects.nonNull(parent)) {
+        first = parent.apply(first);
+        second = parent.apply(second);
+      }
+      if (first == null || second == null) {
+        return compareNulls(first, second);
+      }
+      return compareValues(first, second);
+    }
+
+    protected int compareNulls(Object first, Object second) {
+      if (first == second) {
+        return 0;
+      }
+      return first == null ? nullOrder : -nullOrder;
+    }
+
+    protected abstract int compareValues(Object first, Object second);
+  }
+
+  private static final class IntKey extends KeyComparator {
+
+    private final ToIntFunction<Object> getter;
+
+    private IntKey(SortKey key, Function<Object, Object> parent, ToIntFunction<Object> getter) {
+      super(key, parent);
+      this.getter = getter;
+    }
+
+    @Override
+    protected int compareValues(Object first, Object second) {
+      int x = getter.applyAsInt(first);
+      int y = getter.applyAsInt(second);
+      return descending ? Integer.compare(y, x) : Integer.compare(x, y);
+    }
+  }
+
+  private static final class LongKey extends KeyComparator {
+
+    private final ToLongFunction<Object> getter;
+
+    private LongKey(SortKey key, Function<Object, Object> parent, ToLongFunction<Object> getter) {
+      super(key, parent);
+      this.getter = getter;
+    }
+
+    @Override
+    protected int compareValues(Object first, Object second) {
+      long x = getter.applyAsLong(first);
+      long y = getter.applyAsLong(second);
+      return descending ? Long.compare(y, x) : Long.compare(x, y);
+    }
+  }
+
+  private static final class DoubleKey extends KeyComparator {
+
+    private final ToDoubleFunction<Object> getter;
+
+    private DoubleKey(SortKey key, Function<Object, Object> parent,
+                      ToDoubleFunction<Object> getter) {
+      super(key, parent);
+      this.getter = getter;
+    }
+
+    @Override
+    protected int compareValues(Object first, Object second) {
+      double x = getter.applyAsDouble(first);
+      double y = getter.applyAsDouble(second);
+      return descending ? Double.compare(y, x) : Double.compare(x, y);
+    }
+  }
+
+  private static final class BooleanKey extends KeyComparator {
+
+    private final Predicate<Object> getter;
+
+    private BooleanKey(SortKey key, Function<Object, Object> parent, Predicate<Object> getter) {
+      super(key, parent);
+      this.getter = getter;
+    }
+
+    @Override
+    protected int compareValues(Object first, Object second) {
+      boolean x = getter.test(first);
+      boolean y = getter.test(second);
+      return descending ? Boolean.compare(y, x) : Boolean.compare(x, y);
+    }
+  }
+
+  private static final class ComparableKey extends KeyComparator {
+
+    private final Function<Object, Comparable<Object>> getter;
+
+    private ComparableKey(SortKey key, Function<Object, Object> parent,
+                          Function<Object, Comparable<Object>> getter) {
+      super(key, parent);
+      this.getter = getter;
+    }
+
+    @Override
+    protected int compareValues(Object first, Object second) {
+      Comparable<Object> x = getter.apply(first);
+      Comparable<Object> y = getter.apply(second);
+      if (x == null || y == null) {
+        return compareNulls(x, y);
+      }
+      return descending ? y.compareTo(x) : x.compareTo(y);
+    }
+  }
+
+  private static final class CompositeComparator implements Comparator<Object> {
+
+    private final KeyComparator[] keys;
+
+    private CompositeComparator(KeyComparator[] keys) {
+      this.keys = keys;
+    }
+
+    @Override
+    public int compare(Object first, Object second) {
+      for (KeyComparator key : keys) {
+        int result = key.compare(first, second);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+
+import java.lang.reflect.Method;
+import java.nio.DoubleBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Projects {@code double} property of objects into {@code double[]} or {@link DoubleBuffer} and writes
+ * values back. Property is read and written with getter and setter wrapped into
+ * {@link ToDoubleFunction} and {@link ObjDoubleConsumer}, so values are never boxed.
+ *
+ * <pre>{@code
+ * DoubleColumn<Trade> prices = DoubleColumn.of(Trade.class, "price");
+ * double[] values = prices.extractParallel(trades);
+ * }</pre>
+ *
+ * @param <T> Objects type
+ * @author Danila Rassokhin
+ */
+public final class DoubleColumn<T> extends PrimitiveColumn<T, double[], DoubleBuffer> {
+
+  private final ToDoubleFunction<T> getter;
+
+  private final ObjDoubleConsumer<T> setter;
+
+  private DoubleColumn(ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter) {
+    super(Objects.nonNull(setter));
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  /**
+   * Creates column for bean property using {@link LambdaWrapperHolder#DEFAULT}.
+   *
+   * @param type     Objects class
+   * @param property Property name, see {@link BeanProperty}
+   * @param <T>      Objects type
+   * @return {@link DoubleColumn}
+   */
+  public static <T> DoubleColumn<T> of(Class<T> type, String property) {
+    BeanProperty beanProperty = BeanProperty.of(type, property);
+    return of(LambdaWrapperHolder.DEFAULT, beanProperty.getGetter(), beanProperty.getSetter());
+  }
+
+  /**
+   * Creates column from getter and setter.
+   *
+   * @param holder {@link LambdaWrapperHolder} to wrap methods with
+   * @param getter Getter returning {@code double} or narrower primitive
+   * @param setter Setter accepting {@code double} or null for read only column
+   * @param <T>    Objects type
+   * @return {@link DoubleColumn}
+   */
+  public static <T> DoubleColumn<T> of(LambdaWrapperHolder holder, Method getter, Method setter) {
+    return new DoubleColumn<>(
+        holder.wrapFunctional(getter, ToDoubleFunction.class),
+        Objects.isNull(setter) ? null : holder.wrapFunctional(setter, ObjDoubleConsumer.class)
+    );
+  }
+
+  /**
+   * Creates column from functions.
+   *
+   * @param getter Property getter
+   * @param setter Property setter or null for read only column
+   * @param <T>    Objects type
+   * @return {@link DoubleColumn}
+   */
+  public static <T> DoubleColumn<T> of(ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter) {
+    return new DoubleColumn<>(getter, setter);
+  }
+
+  @Override
+  double[] newArray(int size) {
+    return new double[size];
+  }
+
+  @Override
+  int length(double[] values) {
+    return values.length;
+  }
+
+  @Override
+  void read(List<? extends T> objects, int from, int to, double[] target) {
+    for (int i = from; i < to; i++) {
+      target[i] = getter.applyAsDouble(objects.get(i));
+    }
+  }
+
+  @Override
+  void read(List<? extends T> objects, int from, int to, DoubleBuffer buffer, int position) {
+    for (int i = from; i < to; i++) {
+      buffer.put(position + i, getter.applyAsDouble(objects.get(i)));
+    }
+  }
+
+  @Override
+  void write(List<? extends T> objects, int from, int to, double[] values) {
+    for (int i = from; i < to; i++) {
+      setter.accept(objects.get(i), values[i]);
+    }
+  }
+
+  @Override
+  void write(List<? extends T> objects, int from, int to, DoubleBuffer buffer, int position) {
+    for (int i = from; i < to; i++) {
+      setter.accept(objects.get(i), buffer.get(position + i));
+    }
+  }
+}
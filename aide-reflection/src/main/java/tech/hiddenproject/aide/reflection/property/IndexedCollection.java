@@ -0,0 +1,649 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory collection with secondary indexes over {@link PropertyPath}s. Hash index answers
+ * equality queries, sorted index answers equality and range queries. Indexes are updated on
+ * {@link #add(Object)} and {@link #remove(Object)}, so indexed properties must not change while
+ * element is in collection.
+ *
+ * <p>Compound query starts from condition with smallest index candidates and checks the rest
+ * against other indexes, conditions without index are checked by reading property. Query without
+ * any indexed condition scans all elements. Elements are distinct by {@link Object#equals(Object)}
+ * and results of single index lookup keep insertion order. Collection is thread safe: queries
+ * run under read lock, modifications under write lock.
+ *
+ * <pre>{@code
+ * IndexedCollection<Order> orders = IndexedCollection.create(Order.class)
+ *     .addHashIndex("customer.country")
+ *     .addSortedIndex("total");
+ * orders.addAll(loaded);
+ * List<Order> result = orders.query()
+ *     .eq("customer.country", "DE")
+ *     .range("total", 100.0, true, 500.0, false)
+ *     .list();
+ * }</pre>
+ *
+ * @param <T> Elements type
+ * @author Danila Rassokhin
+ */
+public final class IndexedCollection<T> {
+
+  private final Class<T> type;
+
+  private final LambdaWrapperHolder holder;
+
+  private final Set<T> elements = new LinkedHashSet<>();
+
+  private final Map<String, Index<T>> indexes = new LinkedHashMap<>();
+
+  private final Map<String, PropertyPath> paths = new ConcurrentHashMap<>();
+
+  private final Lock readLock;
+
+  private final Lock writeLock;
+
+  private IndexedCollection(Class<T> type, LambdaWrapperHolder holder) {
+    this.type = type;
+    this.holder = holder;
+    ReadWriteLock lock = new ReentrantReadWriteLock();
+    this.readLock = lock.readLock();
+    this.writeLock = lock.writeLock();
+  }
+
+  /**
+   * Creates collection which resolves paths with {@link PropertyPath#of(Class, String)}.
+   *
+   * @param type Elements class
+   * @param <T>  Elements type
+   * @return Empty {@link IndexedCollection}
+   */
+  public static <T> IndexedCollection<T> create(Class<T> type) {
+    return new IndexedCollection<>(type, null);
+  }
+
+  /**
+   * Creates collection which resolves paths with
+   * {@link PropertyPath#compile(LambdaWrapperHolder, Class, String)}.
+   *
+   * @param type   Elements class
+   * @param holder {@link LambdaWrapperHolder} to unreflect getters with
+   * @param <T>    Elements type
+   * @return Empty {@link IndexedCollection}
+   */
+  public static <T> IndexedCollection<T> create(Class<T> type, LambdaWrapperHolder holder) {
+    return new IndexedCollection<>(type, Objects.requireNonNull(holder));
+  }
+
+  /**
+   * Adds hash index over path. Existing elements are indexed immediately.
+   *
+   * @param path Property name or dotted path
+   * @return This collection
+   * @throws ReflectionException if path not found or already indexed
+   */
+  public IndexedCollection<T> addHashIndex(String path) {
+    return addIndex(new HashIndex<>(resolve(path)));
+  }
+
+  /**
+   * Adds sorted index over path. Existing elements are indexed immediately.
+   *
+   * @param path Property name or dotted path
+   * @return This collection
+   * @throws ReflectionException if path not found, not comparable or already indexed
+   */
+  public IndexedCollection<T> addSortedIndex(String path) {
+    PropertyPath propertyPath = resolve(path);
+    Class<?> valueType = propertyPath.getType();
+    BooleanOptional.of(valueType.isPrimitive() || Comparable.class.isAssignableFrom(valueType))
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Property %s of %s is not comparable", path, type));
+    return addIndex(new SortedIndex<>(propertyPath));
+  }
+
+  private IndexedCollection<T> addIndex(Index<T> index) {
+    writeLock.lock();
+    try {
+      BooleanOptional.of(indexes.containsKey(index.path.getPath()))
+          .ifTrueThrow(() -> ReflectionException.format(
+              "Path %s of %s is already indexed", index.path.getPath(), type));
+      for (T element : elements) {
+        index.add(element);
+      }
+      indexes.put(index.path.getPath(), index);
+      return this;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private PropertyPath resolve(String path) {
+    PropertyPath propertyPath = paths.get(path);
+    if (Objects.isNull(propertyPath)) {
+      propertyPath = paths.computeIfAbsent(path, p -> Objects.isNull(holder)
+          ? PropertyPath.of(type, p) : PropertyPath.compile(holder, type, p));
+    }
+    return propertyPath;
+  }
+
+  /**
+   * Adds element and updates indexes.
+   *
+   * @param element Element to add
+   * @return true if element was not present
+   */
+  public boolean add(T element) {
+    Objects.requireNonNull(element);
+    writeLock.lock();
+    try {
+      if (!elements.add(element)) {
+        return false;
+      }
+      for (Index<T> index : indexes.values()) {
+        index.add(element);
+      }
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Adds all elements under single write lock.
+   *
+   * @param elements Elements to add
+   * @return true if any element was added
+   */
+  public boolean addAll(Collection<? extends T> elements) {
+    writeLock.lock();
+    try {
+      boolean changed = false;
+      for (T element : elements) {
+        changed |= add(element);
+      }
+      return changed;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Removes element and updates indexes.
+   *
+   * @param element Element to remove
+   * @return true if element was present
+   */
+  public boolean remove(T element) {
+    writeLock.lock();
+    try {
+      if (!elements.remove(element)) {
+        return false;
+      }
+      for (Index<T> index : indexes.values()) {
+        index.remove(element);
+      }
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Removes all elements and clears indexes.
+   */
+  public void clear() {
+    writeLock.lock();
+    try {
+      elements.clear();
+      for (Index<T> index : indexes.values()) {
+        index.clear();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public boolean contains(T element) {
+    readLock.lock();
+    try {
+      return elements.contains(element);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  public int size() {
+    readLock.lock();
+    try {
+      return elements.size();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * @return Copy of all elements in insertion order
+   */
+  public List<T> toList() {
+    readLock.lock();
+    try {
+      return new ArrayList<>(elements);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * Finds elements which path value equals to given value. See {@link Query#eq(String, Object)}.
+   */
+  public List<T> findEqual(String path, Object value) {
+    return query().eq(path, value).list();
+  }
+
+  /**
+   * @return New {@link Query} over this collection
+   */
+  public Query<T> query() {
+    return new Query<>(this);
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  private List<T> execute(List<Condition> conditions) {
+    readLock.lock();
+    try {
+      List<Condition> resolved = new ArrayList<>(conditions.size());
+      IndexedCondition driver = null;
+      for (Condition condition : conditions) {
+        Condition bound = condition.bind(indexes.get(condition.path.getPath()));
+        resolved.add(bound);
+        if (!(bound instanceof IndexedCondition)) {
+          continue;
+        }
+        IndexedCondition indexed = (IndexedCondition) bound;
+        if (indexed.estimate() == 0) {
+          return new ArrayList<>();
+        }
+        if (Objects.isNull(driver) || indexed.estimate() < driver.estimate()) {
+          driver = indexed;
+        }
+      }
+      Collection<T> candidates = elements;
+      if (Objects.nonNull(driver)) {
+        resolved.remove(driver);
+        candidates = (Collection<T>) driver.candidates();
+      }
+      List<T> result = new ArrayList<>();
+      for (T candidate : candidates) {
+        if (matches(resolved, candidate)) {
+          result.add(candidate);
+        }
+      }
+      return result;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private boolean matches(List<Condition> conditions, T candidate) {
+    for (Condition condition : conditions) {
+      if (!condition.test(candidate)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int compare(Object first, Object second) {
+    return ((Comparable<Object>) first).compareTo(second);
+  }
+
+  /**
+   * Compound query. All conditions must match.
+   *
+   * @param <T> Elements type
+   */
+  public static final class Query<T> {
+
+    private final IndexedCollection<T> collection;
+
+    private final List<Condition> conditions = new ArrayList<>();
+
+    private Query(IndexedCollection<T> collection) {
+      this.collection = collection;
+    }
+
+    /**
+     * Matches elements which path value equals to given value. Value must be of boxed property
+     * type, e.g. {@link Integer} for {@code int} property.
+     *
+     * @param path  Property name or dotted path
+     * @param value Value to match, may be null
+     * @return This query
+     */
+    public Query<T> eq(String path, Object value) {
+      conditions.add(new Condition(collection.resolve(path), value, value, true, true, true));
+      return this;
+    }
+
+    /**
+     * Matches elements which path value is in range. Null values never match range.
+     *
+     * @param path          Property name or dotted path
+     * @param from          Lower bound or null if unbounded
+     * @param fromInclusive true if lower bound is inclusive
+     * @param to            Upper bound or null if unbounded
+     * @param toInclusive   true if upper bound is inclusive
+     * @return This query
+     */
+    public Query<T> range(String path, Comparable<?> from, boolean fromInclusive,
+                          Comparable<?> to, boolean toInclusive) {
+      conditions.add(new Condition(collection.resolve(path), from, to, fromInclusive, toInclusive,
+                                   false));
+      return this;
+    }
+
+    /**
+     * Matches elements which path value is between bounds inclusive.
+     */
+    public Query<T> between(String path, Comparable<?> from, Comparable<?> to) {
+      return range(path, from, true, to, true);
+    }
+
+    /**
+     * @return Matched elements
+     */
+    public List<T> list() {
+      return collection.execute(conditions);
+    }
+
+    /**
+     * @return Count of matched elements
+     */
+    public int count() {
+      return list().size();
+    }
+  }
+
+  private static class Condition {
+
+    protected final PropertyPath path;
+    protected final Object from;
+    protected final Object to;
+    protected final boolean fromInclusive;
+    protected final boolean toInclusive;
+    protected final boolean equality;
+
+    private Condition(PropertyPath path, Object from, Object to, boolean fromInclusive,
+                      boolean toInclusive, boolean equality) {
+      this.path = path;
+      this.from = from;
+      this.to = to;
+      this.fromInclusive = fromInclusive;
+      this.toInclusive = toInclusive;
+      this.equality = equality;
+    }
+
+    private Condition(Condition condition) {
+      this(condition.path, condition.from, condition.to, condition.fromInclusive,
+           condition.toInclusive, condition.equality);
+    }
+
+    protected Condition bind(Index<?> index) {
+      if (index instanceof HashIndex && equality) {
+        return new HashCondition<>(this, (HashIndex<?>) index);
+      }
+      if (index instanceof SortedIndex) {
+        return new SortedCondition<>(this, (SortedIndex<?>) index);
+      }
+      return this;
+    }
+
+    protected boolean test(Object element) {
+      return matches(path.read(element));
+    }
+
+    protected boolean matches(Object value) {
+      if (equality) {
+        return Objects.equals(from, value);
+      }
+      if (Objects.isNull(value)) {
+        return false;
+      }
+      if (Objects.nonNull(from)) {
+        int result = compare(value, from);
+        if (result < 0 || (result == 0 && !fromInclusive)) {
+          return false;
+        }
+      }
+      if (Objects.nonNull(to)) {
+        int result = compare(value, to);
+        return result < 0 || (result == 0 && toInclusive);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Condition bound to index, which can drive query with its candidates.
+   */
+  private abstract static class IndexedCondition extends Condition {
+
+    private IndexedCondition(Condition condition) {
+      super(condition);
+    }
+
+    /**
+     * @return Count of candidates
+     */
+    protected abstract int estimate();
+
+    /**
+     * @return Elements which may match condition
+     */
+    protected abstract Collection<?> candidates();
+  }
+
+  private static final class HashCondition<T> extends IndexedCondition {
+
+    private final Set<T> bucket;
+
+    private HashCondition(Condition condition, HashIndex<T> index) {
+      super(condition);
+      this.bucket = index.get(from);
+    }
+
+    @Override
+    protected int estimate() {
+      return bucket.size();
+    }
+
+    @Override
+    protected Collection<?> candidates() {
+      return bucket;
+    }
+
+    @Override
+    protected boolean test(Object element) {
+      return bucket.contains(element);
+    }
+  }
+
+  private static final class SortedCondition<T> extends IndexedCondition {
+
+    private final Collection<Set<T>> buckets;
+
+    private final int size;
+
+    private SortedCondition(Condition condition, SortedIndex<T> index) {
+      super(condition);
+      this.buckets = index.get(from, fromInclusive, to, toInclusive, equality);
+      int count = 0;
+      for (Set<T> bucket : buckets) {
+        count += bucket.size();
+      }
+      this.size = count;
+    }
+
+    @Override
+    protected int estimate() {
+      return size;
+    }
+
+    @Override
+    protected Collection<?> candidates() {
+      if (buckets.size() == 1) {
+        return buckets.iterator().next();
+      }
+      List<T> candidates = new ArrayList<>(size);
+      for (Set<T> bucket : buckets) {
+        candidates.addAll(bucket);
+      }
+      return candidates;
+    }
+
+    @Override
+    protected boolean test(Object element) {
+      if (buckets.size() == 1) {
+        return buckets.iterator().next().contains(element);
+      }
+      return matches(path.read(element));
+    }
+  }
+
+  private abstract static class Index<T> {
+
+    protected final PropertyPath path;
+
+    private Index(PropertyPath path) {
+      this.path = path;
+    }
+
+    protected void add(T element) {
+      bucket(path.read(element), true).add(element);
+    }
+
+    protected void remove(T element) {
+      Object key = path.read(element);
+      Set<T> bucket = bucket(key, false);
+      if (Objects.nonNull(bucket) && bucket.remove(element) && bucket.isEmpty()) {
+        removeBucket(key);
+      }
+    }
+
+    protected abstract Set<T> bucket(Object key, boolean create);
+
+    protected abstract void removeBucket(Object key);
+
+    protected abstract void clear();
+  }
+
+  private static final class HashIndex<T> extends Index<T> {
+
+    private final Map<Object, Set<T>> buckets = new HashMap<>();
+
+    private HashIndex(PropertyPath path) {
+      super(path);
+    }
+
+    private Set<T> get(Object key) {
+      Set<T> bucket = buckets.get(key);
+      return Objects.isNull(bucket) ? Collections.emptySet() : bucket;
+    }
+
+    @Override
+    protected Set<T> bucket(Object key, boolean create) {
+      return create
+          ? buckets.computeIfAbsent(key, k -> new LinkedHashSet<>()) : buckets.get(key);
+    }
+
+    @Override
+    protected void removeBucket(Object key) {
+      buckets.remove(key);
+    }
+
+    @Override
+    protected void clear() {
+      buckets.clear();
+    }
+  }
+
+  private static final class SortedIndex<T> extends Index<T> {
+
+    private final NavigableMap<Object, Set<T>> buckets = new TreeMap<>();
+
+    private final Set<T> nulls = new LinkedHashSet<>();
+
+    private SortedIndex(PropertyPath path) {
+      super(path);
+    }
+
+    private Collection<Set<T>> get(Object from, boolean fromInclusive, Object to,
+                                   boolean toInclusive, boolean equality) {
+      if (equality) {
+        Set<T> bucket = Objects.isNull(from) ? nulls : buckets.get(from);
+        return Objects.isNull(bucket)
+            ? Collections.emptyList() : Collections.singletonList(bucket);
+      }
+      if (Objects.nonNull(from) && Objects.nonNull(to)) {
+        int result = compare(from, to);
+        if (result > 0 || (result == 0 && !(fromInclusive && toInclusive))) {
+          return Collections.emptyList();
+        }
+      }
+      NavigableMap<Object, Set<T>> range = buckets;
+      if (Objects.nonNull(from)) {
+        range = range.tailMap(from, fromInclusive);
+      }
+      if (Objects.nonNull(to)) {
+        range = range.headMap(to, toInclusive);
+      }
+      return range.values();
+    }
+
+    @Override
+    protected Set<T> bucket(Object key, boolean create) {
+      if (Objects.isNull(key)) {
+        return nulls;
+      }
+      return create
+          ? buckets.computeIfAbsent(key, k -> new LinkedHashSet<>()) : buckets.get(key);
+    }
+
+    @Override
+    protected void removeBucket(Object key) {
+      if (Objects.nonNull(key)) {
+        buckets.remove(key);
+      }
+    }
+
+    @Override
+    protected void clear() {
+      buckets.clear();
+      nulls.clear();
+    }
+  }
+}
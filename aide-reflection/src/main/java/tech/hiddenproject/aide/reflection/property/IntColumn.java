@@ -0,0 +1,115 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+
+import java.lang.reflect.Method;
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Projects {@code int} property of objects into {@code int[]} or {@link IntBuffer} and writes
+ * values back. Property is read and written with getter and setter wrapped into
+ * {@link ToIntFunction} and {@link ObjIntConsumer}, so values are never boxed.
+ *
+ * <pre>{@code
+ * IntColumn<Trade> quantities = IntColumn.of(Trade.class, "quantity");
+ * int[] values = quantities.extractParallel(trades);
+ * }</pre>
+ *
+ * @param <T> Objects type
+ * @author Danila Rassokhin
+ */
+public final class IntColumn<T> extends PrimitiveColumn<T, int[], IntBuffer> {
+
+  private final ToIntFunction<T> getter;
+
+  private final ObjIntConsumer<T> setter;
+
+  private IntColumn(ToIntFunction<T> getter, ObjIntConsumer<T> setter) {
+    super(Objects.nonNull(setter));
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  /**
+   * Creates column for bean property using {@link LambdaWrapperHolder#DEFAULT}.
+   *
+   * @param type     Objects class
+   * @param property Property name, see {@link BeanProperty}
+   * @param <T>      Objects type
+   * @return {@link IntColumn}
+   */
+  public static <T> IntColumn<T> of(Class<T> type, String property) {
+    BeanProperty beanProperty = BeanProperty.of(type, property);
+    return of(LambdaWrapperHolder.DEFAULT, beanProperty.getGetter(), beanProperty.getSetter());
+  }
+
+  /**
+   * Creates column from getter and setter.
+   *
+   * @param holder {@link LambdaWrapperHolder} to wrap methods with
+   * @param getter Getter returning {@code int} or narrower primitive
+   * @param setter Setter accepting {@code int} or null for read only column
+   * @param <T>    Objects type
+   * @return {@link IntColumn}
+   */
+  public static <T> IntColumn<T> of(LambdaWrapperHolder holder, Method getter, Method setter) {
+    return new IntColumn<>(
+        holder.wrapFunctional(getter, ToIntFunction.class),
+        Objects.isNull(setter) ? null : holder.wrapFunctional(setter, ObjIntConsumer.class)
+    );
+  }
+
+  /**
+   * Creates column from functions.
+   *
+   * @param getter Property getter
+   * @param setter Property setter or null for read only column
+   * @param <T>    Objects type
+   * @return {@link IntColumn}
+   */
+  public static <T> IntColumn<T> of(ToIntFunction<T> getter, ObjIntConsumer<T> setter) {
+    return new IntColumn<>(getter, setter);
+  }
+
+  @Override
+  int[] newArray(int size) {
+    return new int[size];
+  }
+
+  @Override
+  int length(int[] values) {
+    return values.length;
+  }
+
+  @Override
+  void read(List<? extends T> objects, int from, int to, int[] target) {
+    for (int i = from; i < to; i++) {
+      target[i] = getter.applyAsInt(objects.get(i));
+    }
+  }
+
+  @Override
+  void read(List<? extends T> objects, int from, int to, IntBuffer buffer, int position) {
+    for (int i = from; i < to; i++) {
+      buffer.put(position + i, getter.applyAsInt(objects.get(i)));
+    }
+  }
+
+  @Override
+  void write(List<? extends T> objects, int from, int to, int[] values) {
+    for (int i = from; i < to; i++) {
+      setter.accept(objects.get(i), values[i]);
+    }
+  }
+
+  @Override
+  void write(List<? extends T> objects, int from, int to, IntBuffer buffer, int position) {
+    for (int i = from; i < to; i++) {
+      setter.accept(objects.get(i), buffer.get(position + i));
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+
+import java.lang.reflect.Method;
+import java.nio.LongBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Projects {@code long} property of objects into {@code long[]} or {@link LongBuffer} and writes
+ * values back. Property is read and written with getter and setter wrapped into
+ * {@link ToLongFunction} and {@link ObjLongConsumer}, so values are never boxed.
+ *
+ * <pre>{@code
+ * LongColumn<Trade> volumes = LongColumn.of(Trade.class, "volume");
+ * long[] values = volumes.extractParallel(trades);
+ * }</pre>
+ *
+ * @param <T> Objects type
+ * @author Danila Rassokhin
+ */
+public final class LongColumn<T> extends PrimitiveColumn<T, long[], LongBuffer> {
+
+  private final ToLongFunction<T> getter;
+
+  private final ObjLongConsumer<T> setter;
+
+  private LongColumn(ToLongFunction<T> getter, ObjLongConsumer<T> setter) {
+    super(Objects.nonNull(setter));
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  /**
+   * Creates column for bean property using {@link LambdaWrapperHolder#DEFAULT}.
+   *
+   * @param type     Objects class
+   * @param property Property name, see {@link BeanProperty}
+   * @param <T>      Objects type
+   * @return {@link LongColumn}
+   */
+  public static <T> LongColumn<T> of(Class<T> type, String property) {
+    BeanProperty beanProperty = BeanProperty.of(type, property);
+    return of(LambdaWrapperHolder.DEFAULT, beanProperty.getGetter(), beanProperty.getSetter());
+  }
+
+  /**
+   * Creates column from getter and setter.
+   *
+   * @param holder {@link LambdaWrapperHolder} to wrap methods with
+   * @param getter Getter returning {@code long} or narrower primitive
+   * @param setter Setter accepting {@code long} or null for read only column
+   * @param <T>    Objects type
+   * @return {@link LongColumn}
+   */
+  public static <T> LongColumn<T> of(LambdaWrapperHolder holder, Method getter, Method setter) {
+    return new LongColumn<>(
+        holder.wrapFunctional(getter, ToLongFunction.class),
+        Objects.isNull(setter) ? null : holder.wrapFunctional(setter, ObjLongConsumer.class)
+    );
+  }
+
+  /**
+   * Creates column from functions.
+   *
+   * @param getter Property getter
+   * @param setter Property setter or null for read only column
+   * @param <T>    Objects type
+   * @return {@link LongColumn}
+   */
+  public static <T> LongColumn<T> of(ToLongFunction<T> getter, ObjLongConsumer<T> setter) {
+    return new LongColumn<>(getter, setter);
+  }
+
+  @Override
+  long[] newArray(int size) {
+    return new long[size];
+  }
+
+  @Override
+  int length(long[] values) {
+    return values.length;
+  }
+
+  @Override
+  void read(List<? extends T> objects, int from, int to, long[] target) {
+    for (int i = from; i < to; i++) {
+      target[i] = getter.applyAsLong(objects.get(i));
+    }
+  }
+
+  @Override
+  void read(List<? extends T> objects, int from, int to, LongBuffer buffer, int position) {
+    for (int i = from; i < to; i++) {
+      buffer.put(position + i, getter.applyAsLong(objects.get(i)));
+    }
+  }
+
+  @Override
+  void write(List<? extends T> objects, int from, int to, long[] values) {
+    for (int i = from; i < to; i++) {
+      setter.accept(objects.get(i), values[i]);
+    }
+  }
+
+  @Override
+  void write(List<? extends T> objects, int from, int to, LongBuffer buffer, int position) {
+    for (int i = from; i < to; i++) {
+      setter.accept(objects.get(i), buffer.get(position + i));
+    }
+  }
+}
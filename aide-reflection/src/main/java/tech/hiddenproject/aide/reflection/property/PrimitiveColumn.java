@@ -0,0 +1,200 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.util.RangeTask;
+
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Base class of primitive columns. Checks, chunking and buffer positions are handled here, so
+ * columns implement only loops over index range with their primitive getter and setter.
+ *
+ * @param <T> Objects type
+ * @param <A> Primitive array type
+ * @param <B> Primitive buffer type
+ * @author Danila Rassokhin
+ */
+abstract class PrimitiveColumn<T, A, B extends Buffer> {
+
+  private final boolean writable;
+
+  PrimitiveColumn(boolean writable) {
+    this.writable = writable;
+  }
+
+  /**
+   * @param objects Objects to read property from
+   * @return Property values
+   */
+  public A extract(List<? extends T> objects) {
+    return extract(objects, newArray(objects.size()));
+  }
+
+  /**
+   * @param objects Objects to read property from
+   * @param target  Array to write values in, must be at least of objects size
+   * @return target
+   */
+  public A extract(List<? extends T> objects, A target) {
+    checkLength(objects.size(), length(target));
+    read(randomAccess(objects), 0, objects.size(), target);
+    return target;
+  }
+
+  /**
+   * Reads property in {@link ForkJoinPool#commonPool()}. See
+   * {@link #extractParallel(ForkJoinPool, List, Object)}.
+   *
+   * @param objects Objects to read property from
+   * @return Property values
+   */
+  public A extractParallel(List<? extends T> objects) {
+    return extractParallel(ForkJoinPool.commonPool(), objects, newArray(objects.size()));
+  }
+
+  /**
+   * Reads property in chunks in parallel. Small lists are processed in current thread.
+   *
+   * @param pool    {@link ForkJoinPool} to read in
+   * @param objects Objects to read property from
+   * @param target  Array to write values in, must be at least of objects size
+   * @return target
+   */
+  public A extractParallel(ForkJoinPool pool, List<? extends T> objects, A target) {
+    checkLength(objects.size(), length(target));
+    List<? extends T> list = randomAccess(objects);
+    RangeTask.invoke(pool, list.size(), (from, to) -> read(list, from, to, target));
+    return target;
+  }
+
+  /**
+   * Writes property values in buffer starting at its position. Buffer position is advanced by
+   * objects size.
+   *
+   * @param objects Objects to read property from
+   * @param buffer  Heap or direct buffer
+   * @return buffer
+   */
+  public B extract(List<? extends T> objects, B buffer) {
+    checkLength(objects.size(), buffer.remaining());
+    int position = buffer.position();
+    read(randomAccess(objects), 0, objects.size(), buffer, position);
+    // Buffer.position(int) is covariant in subclasses only since JDK 9
+    ((Buffer) buffer).position(position + objects.size());
+    return buffer;
+  }
+
+  /**
+   * Writes property values in buffer in parallel. See {@link #extract(List, Buffer)}.
+   *
+   * @param pool    {@link ForkJoinPool} to read in
+   * @param objects Objects to read property from
+   * @param buffer  Heap or direct buffer
+   * @return buffer
+   */
+  public B extractParallel(ForkJoinPool pool, List<? extends T> objects, B buffer) {
+    checkLength(objects.size(), buffer.remaining());
+    List<? extends T> list = randomAccess(objects);
+    int position = buffer.position();
+    RangeTask.invoke(pool, list.size(), (from, to) -> read(list, from, to, buffer, position));
+    ((Buffer) buffer).position(position + list.size());
+    return buffer;
+  }
+
+  /**
+   * Writes values back to objects with setter.
+   *
+   * @param objects Objects to write property in
+   * @param values  Values, must be at least of objects size
+   * @throws ReflectionException if column is read only
+   */
+  public void apply(List<? extends T> objects, A values) {
+    checkWritable();
+    checkLength(objects.size(), length(values));
+    write(randomAccess(objects), 0, objects.size(), values);
+  }
+
+  /**
+   * Writes values back to objects in parallel. See {@link #apply(List, Object)}.
+   *
+   * @param pool    {@link ForkJoinPool} to write in
+   * @param objects Objects to write property in
+   * @param values  Values, must be at least of objects size
+   * @throws ReflectionException if column is read only
+   */
+  public void applyParallel(ForkJoinPool pool, List<? extends T> objects, A values) {
+    checkWritable();
+    checkLength(objects.size(), length(values));
+    List<? extends T> list = randomAccess(objects);
+    RangeTask.invoke(pool, list.size(), (from, to) -> write(list, from, to, values));
+  }
+
+  /**
+   * Writes values from buffer starting at its position back to objects. Buffer position is
+   * advanced by objects size.
+   *
+   * @param objects Objects to write property in
+   * @param buffer  Heap or direct buffer
+   * @throws ReflectionException if column is read only
+   */
+  public void apply(List<? extends T> objects, B buffer) {
+    checkWritable();
+    checkLength(objects.size(), buffer.remaining());
+    int position = buffer.position();
+    write(randomAccess(objects), 0, objects.size(), buffer, position);
+    ((Buffer) buffer).position(position + objects.size());
+  }
+
+  /**
+   * @return true if column has setter
+   */
+  public boolean isWritable() {
+    return writable;
+  }
+
+  abstract A newArray(int size);
+
+  abstract int length(A values);
+
+  /**
+   * Reads property of objects in range into array at same indexes.
+   */
+  abstract void read(List<? extends T> objects, int from, int to, A target);
+
+  /**
+   * Reads property of objects in range into buffer at {@code position + index} without changing
+   * buffer position.
+   */
+  abstract void read(List<? extends T> objects, int from, int to, B buffer, int position);
+
+  /**
+   * Writes values at same indexes to objects in range.
+   */
+  abstract void write(List<? extends T> objects, int from, int to, A values);
+
+  /**
+   * Writes values at {@code position + index} of buffer to objects in range without changing
+   * buffer position.
+   */
+  abstract void write(List<? extends T> objects, int from, int to, B buffer, int position);
+
+  private List<? extends T> randomAccess(List<? extends T> objects) {
+    return objects instanceof RandomAccess ? objects : new ArrayList<>(objects);
+  }
+
+  private void checkWritable() {
+    BooleanOptional.of(isWritable())
+        .ifFalseThrow(() -> ReflectionException.format("Column is read only"));
+  }
+
+  private void checkLength(int required, int available) {
+    BooleanOptional.of(available < required)
+        .ifTrueThrow(() -> ReflectionException.format(
+            "Column requires %d values, but only %d available", required, available));
+  }
+}
@@ -0,0 +1,311 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dotted property path, e.g. {@code order.customer.address.city}. Each segment is resolved once
+ * to public getter ({@code getName} or {@code isName}) or public field, and all segments are fused
+ * into single {@link MethodHandle} with {@link MethodHandles#filterReturnValue} and null guards,
+ * so reading the path is one handle invocation.
+ *
+ * <p>If any intermediate value is null, {@link #read(Object)} returns null and
+ * {@link #write(Object, Object)} throws {@link ReflectionException}. Last segment is written with
+ * public setter {@code setName} accepting segment type or public non-final field.
+ *
+ * <pre>{@code
+ * PropertyPath city = PropertyPath.of(Order.class, "customer.address.city");
+ * String value = city.read(order);
+ * city.write(order, "Berlin");
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class PropertyPath {
+
+  private static final ClassValue<Map<String, PropertyPath>> PATHS
+      = new ClassValue<Map<String, PropertyPath>>() {
+    @Override
+    protected Map<String, PropertyPath> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private static final MethodHandle IS_NULL;
+
+  private static final MethodHandle NULL_SEGMENT;
+
+  private static final MethodType READER_TYPE = MethodType.genericMethodType(1);
+
+  private static final MethodType WRITER_TYPE = MethodType.methodType(
+      void.class, Object.class, Object.class);
+
+  static {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    IS_NULL = ThrowableOptional.sneaky(() -> lookup.findStatic(
+        Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class)));
+    NULL_SEGMENT = ThrowableOptional.sneaky(() -> lookup.findStatic(
+        PropertyPath.class, "nullSegment",
+        MethodType.methodType(void.class, String.class, Object.class, Object.class)
+    ));
+  }
+
+  private final Class<?> rootType;
+
+  private final String path;
+
+  private final PropertyPath parent;
+
+  private final Member member;
+
+  private final Class<?> type;
+
+  private final MethodHandle reader;
+
+  private final MethodHandle writer;
+
+  private PropertyPath(Class<?> rootType, String path, PropertyPath parent, Member member,
+                       MethodHandle segmentReader, MethodHandle segmentWriter) {
+    this.rootType = rootType;
+    this.path = path;
+    this.parent = parent;
+    this.member = member;
+    this.type = segmentReader.type().returnType();
+    this.reader = fuseReader(parent, segmentReader).asType(READER_TYPE);
+    this.writer = Objects.isNull(segmentWriter)
+        ? null : fuseWriter(path, parent, segmentWriter).asType(WRITER_TYPE);
+  }
+
+  /**
+   * Gets cached path compiled with {@link LambdaWrapperHolder#DEFAULT}.
+   *
+   * @param rootType Class to resolve path from
+   * @param path     Dotted property path
+   * @return {@link PropertyPath}
+   * @throws ReflectionException if any segment not found
+   */
+  public static PropertyPath of(Class<?> rootType, String path) {
+    Map<String, PropertyPath> paths = PATHS.get(rootType);
+    PropertyPath propertyPath = paths.get(path);
+    if (Objects.isNull(propertyPath)) {
+      propertyPath = paths.computeIfAbsent(
+          path, p -> compile(LambdaWrapperHolder.DEFAULT, rootType, p));
+    }
+    return propertyPath;
+  }
+
+  /**
+   * Compiles path without caching. Getters and setters are unreflected with
+   * {@link LambdaWrapperHolder#findHandle(java.lang.reflect.Executable)}, so they are checked by
+   * holder filter. Public fields are unreflected with {@link LambdaWrapperHolder#findGetter(Field)}
+   * and {@link LambdaWrapperHolder#findSetter(Field)}, so only holder lookup applies to them.
+   *
+   * @param holder   {@link LambdaWrapperHolder} to unreflect members with
+   * @param rootType Class to resolve path from
+   * @param path     Dotted property path
+   * @return {@link PropertyPath}
+   * @throws ReflectionException if any segment not found
+   */
+  public static PropertyPath compile(LambdaWrapperHolder holder, Class<?> rootType,
+                                     String path) {
+    PropertyPath propertyPath = null;
+    Class<?> current = rootType;
+    int from = 0;
+    while (from <= path.length()) {
+      int to = path.indexOf('.', from);
+      to = to < 0 ? path.length() : to;
+      String name = path.substring(from, to);
+      Class<?> owner = current;
+      BooleanOptional.of(name.isEmpty())
+          .ifTrueThrow(() -> ReflectionException.format(
+              "Empty segment in path '%s' of %s", path, rootType));
+      BooleanOptional.of(Objects.nonNull(propertyPath) && propertyPath.type.isPrimitive())
+          .ifTrueThrow(() -> ReflectionException.format(
+              "Segment %s of path '%s' can't be resolved in primitive %s", name, path, owner));
+      propertyPath = resolve(holder, rootType, path.substring(0, to), propertyPath, owner, name);
+      current = propertyPath.type;
+      from = to + 1;
+    }
+    return propertyPath;
+  }
+
+  private static PropertyPath resolve(LambdaWrapperHolder holder, Class<?> rootType, String path,
+                                      PropertyPath parent, Class<?> owner, String name) {
+    String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    Method getter = findMethod(owner, "get" + capitalized);
+    if (Objects.isNull(getter) || getter.getReturnType() == void.class) {
+      getter = findMethod(owner, "is" + capitalized);
+    }
+    if (Objects.nonNull(getter) && getter.getReturnType() != void.class) {
+      Method setter = findMethod(owner, "set" + capitalized, getter.getReturnType());
+      return new PropertyPath(rootType, path, parent, getter, holder.findHandle(getter),
+                              Objects.isNull(setter) ? null : holder.findHandle(setter));
+    }
+    Field field = findField(owner, name);
+    BooleanOptional.of(Objects.nonNull(field))
+        .ifFalseThrow(() -> ReflectionException.format(
+            "Property %s not found in %s", name, owner));
+    MethodHandle fieldWriter = Modifier.isFinal(field.getModifiers())
+        ? null : holder.findSetter(field);
+    return new PropertyPath(rootType, path, parent, field, holder.findGetter(field), fieldWriter);
+  }
+
+  private static Method findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+    try {
+      Method method = owner.getMethod(name, parameterTypes);
+      return Modifier.isStatic(method.getModifiers()) ? null : method;
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static Field findField(Class<?> owner, String name) {
+    try {
+      Field field = owner.getField(name);
+      return Modifier.isStatic(field.getModifiers()) ? null : field;
+    } catch (NoSuchFieldException e) {
+      return null;
+    }
+  }
+
+  private static MethodHandle fuseReader(PropertyPath parent, MethodHandle segmentReader) {
+    Class<?> ownerType = segmentReader.type().parameterType(0);
+    Class<?> valueType = MethodType.methodType(segmentReader.type().returnType()).wrap()
+        .returnType();
+    MethodHandle reader = segmentReader.asType(MethodType.methodType(valueType, ownerType));
+    MethodHandle guarded = MethodHandles.guardWithTest(
+        IS_NULL.asType(MethodType.methodType(boolean.class, ownerType)),
+        MethodHandles.dropArguments(MethodHandles.constant(valueType, null), 0, ownerType),
+        reader
+    );
+    if (Objects.isNull(parent)) {
+      return guarded;
+    }
+    return MethodHandles.filterReturnValue(
+        parent.reader.asType(MethodType.methodType(ownerType, Object.class)), guarded);
+  }
+
+  private static MethodHandle fuseWriter(String path, PropertyPath parent,
+                                         MethodHandle segmentWriter) {
+    MethodType writerType = segmentWriter.type();
+    MethodHandle guarded = MethodHandles.guardWithTest(
+        IS_NULL.asType(MethodType.methodType(boolean.class, writerType.parameterType(0))),
+        MethodHandles.insertArguments(NULL_SEGMENT, 0, path).asType(writerType),
+        segmentWriter
+    );
+    if (Objects.isNull(parent)) {
+      return guarded;
+    }
+    return MethodHandles.filterArguments(
+        guarded, 0,
+        parent.reader.asType(MethodType.methodType(writerType.parameterType(0), Object.class))
+    );
+  }
+
+  private static void nullSegment(String path, Object owner, Object value) {
+    throw ReflectionException.format("Can't write '%s': intermediate value is null", path);
+  }
+
+  /**
+   * Reads value of path.
+   *
+   * @param root Root object
+   * @param <T>  Value type
+   * @return Value or null if root or any intermediate value is null
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T read(Object root) {
+    try {
+      return (T) (Object) reader.invokeExact(root);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
+  /**
+   * Writes value of last segment.
+   *
+   * @param root  Root object
+   * @param value Value to write
+   * @throws ReflectionException if path is read only or intermediate value is null
+   */
+  public void write(Object root, Object value) {
+    if (Objects.isNull(writer)) {
+      throw ReflectionException.format("Path '%s' is read only", path);
+    }
+    try {
+      writer.invokeExact(root, value);
+    } catch (Throwable t) {
+      throw ReflectionException.rethrow(t);
+    }
+  }
+
+  /**
+   * @return true if last segment has setter or is non-final field
+   */
+  public boolean isWritable() {
+    return Objects.nonNull(writer);
+  }
+
+  /**
+   * @return Fused reader with type {@code (Object)Object}
+   */
+  public MethodHandle getReader() {
+    return reader;
+  }
+
+  /**
+   * @return Fused writer with type {@code (Object, Object)void} or null if path is read only
+   */
+  public MethodHandle getWriter() {
+    return writer;
+  }
+
+  /**
+   * @return Path without last segment or null if path has single segment
+   */
+  public PropertyPath getParent() {
+    return parent;
+  }
+
+  /**
+   * @return Getter {@link Method} or {@link Field} of last segment
+   */
+  public Member getMember() {
+    return member;
+  }
+
+  /**
+   * @return Type of last segment
+   */
+  public Class<?> getType() {
+    return type;
+  }
+
+  public Class<?> getRootType() {
+    return rootType;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyPath{" + "rootType=" + rootType + ", path='" + path + '\'' + ", type=" + type
+        + '}';
+  }
+}
@@ -0,0 +1,137 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Binds {@code Object[]} rows with fixed columns order to objects. Created by
+ * {@link Binder#schema(String...)}: each column is resolved once to constructor argument position
+ * or property, so binding row is index based without name lookups.
+ *
+ * @param <T> Bound objects type
+ * @author Danila Rassokhin
+ */
+public final class RowBinder<T> {
+
+  private final Binder<T> binder;
+
+  private final List<String> columns;
+
+  private final Class<?>[] parameterTypes;
+
+  private final int[] argumentColumns;
+
+  private final int[] propertyColumns;
+
+  private final Binder.BindProperty[] writers;
+
+  private final Binder.BindProperty[] readers;
+
+  RowBinder(Binder<T> binder, List<String> columns) {
+    this.binder = binder;
+    this.columns = Collections.unmodifiableList(columns);
+    this.parameterTypes = binder.getParameterTypes();
+    List<String> parameterNames = binder.getParameterNames();
+    this.argumentColumns = new int[parameterTypes.length];
+    for (int i = 0; i < argumentColumns.length; i++) {
+      argumentColumns[i] = columns.indexOf(parameterNames.get(i));
+    }
+    List<Integer> indexes = new ArrayList<>();
+    List<Binder.BindProperty> properties = new ArrayList<>();
+    this.readers = new Binder.BindProperty[columns.size()];
+    for (int i = 0; i < columns.size(); i++) {
+      String column = columns.get(i);
+      Binder.BindProperty property = binder.getProperty(column);
+      readers[i] = property;
+      if (parameterNames.contains(column)) {
+        continue;
+      }
+      BooleanOptional.of(Objects.nonNull(property) && property.isWritable())
+          .ifFalseThrow(() -> ReflectionException.format(
+              "Column %s is not constructor parameter or writable property of %s",
+              column, binder.getType()));
+      indexes.add(i);
+      properties.add(property);
+    }
+    this.propertyColumns = new int[indexes.size()];
+    for (int i = 0; i < propertyColumns.length; i++) {
+      propertyColumns[i] = indexes.get(i);
+    }
+    this.writers = properties.toArray(new Binder.BindProperty[0]);
+  }
+
+  /**
+   * Creates object from row.
+   *
+   * @param row Values in columns order
+   * @return Bound object
+   * @throws ReflectionException if row length differs from columns count
+   */
+  public T bind(Object[] row) {
+    if (row.length != readers.length) {
+      throw ReflectionException.format(
+          "Row length %d differs from columns count %d", row.length, readers.length);
+    }
+    T target;
+    if (binder.isNoArgs()) {
+      target = binder.construct();
+    } else {
+      Object[] args = new Object[argumentColumns.length];
+      for (int i = 0; i < args.length; i++) {
+        int column = argumentColumns[i];
+        args[i] = binder.argument(column < 0 ? null : row[column], parameterTypes[i]);
+      }
+      target = binder.construct(args);
+    }
+    for (int i = 0; i < writers.length; i++) {
+      writers[i].write(target, row[propertyColumns[i]]);
+    }
+    return target;
+  }
+
+  /**
+   * Creates objects from rows.
+   *
+   * @param rows Rows to bind
+   * @return Bound objects in rows order
+   */
+  public List<T> bindAll(List<Object[]> rows) {
+    List<T> result = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      result.add(bind(row));
+    }
+    return result;
+  }
+
+  /**
+   * Converts object to row.
+   *
+   * @param target Object to convert
+   * @return Values in columns order
+   * @throws ReflectionException if some column is not readable property
+   */
+  public Object[] toRow(T target) {
+    Object[] row = new Object[readers.length];
+    for (int i = 0; i < row.length; i++) {
+      Binder.BindProperty reader = readers[i];
+      if (Objects.isNull(reader)) {
+        throw ReflectionException.format(
+            "Column %s is not readable property of %s", columns.get(i), binder.getType());
+      }
+      row[i] = reader.reader.apply(target);
+    }
+    return row;
+  }
+
+  /**
+   * @return Column names in rows order
+   */
+  public List<String> getColumns() {
+    return columns;
+  }
+}
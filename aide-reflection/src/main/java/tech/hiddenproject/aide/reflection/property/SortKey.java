@@ -0,0 +1,170 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import tech.hiddenproject.aide.optional.BooleanOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Sort key for {@link ComparatorFactory}: property name or dotted path, direction and position of
+ * nulls. Nulls are placed according to {@link Nulls} regardless of direction.
+ *
+ * <pre>{@code
+ * SortKey.desc("customer.name").nullsFirst();
+ * SortKey.parse("price desc nulls first, id");
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class SortKey {
+
+  private final String path;
+
+  private final Direction direction;
+
+  private final Nulls nulls;
+
+  private SortKey(String path, Direction direction, Nulls nulls) {
+    this.path = Objects.requireNonNull(path);
+    this.direction = direction;
+    this.nulls = nulls;
+  }
+
+  /**
+   * @param path Property name or dotted path
+   * @return Ascending {@link SortKey} with nulls last
+   */
+  public static SortKey asc(String path) {
+    return new SortKey(path, Direction.ASC, Nulls.LAST);
+  }
+
+  /**
+   * @param path Property name or dotted path
+   * @return Descending {@link SortKey} with nulls last
+   */
+  public static SortKey desc(String path) {
+    return new SortKey(path, Direction.DESC, Nulls.LAST);
+  }
+
+  /**
+   * Parses comma separated keys in form {@code path [asc|desc] [nulls first|nulls last]}.
+   *
+   * @param spec Keys specification
+   * @return List of {@link SortKey}
+   * @throws ReflectionException if specification is invalid
+   */
+  public static List<SortKey> parse(String spec) {
+    List<SortKey> keys = new ArrayList<>();
+    for (String key : spec.split(",")) {
+      keys.add(parseKey(key.trim()));
+    }
+    return keys;
+  }
+
+  private static SortKey parseKey(String key) {
+    String[] tokens = key.split("\\s+");
+    BooleanOptional.of(tokens[0].isEmpty() || tokens.length > 4)
+        .ifTrueThrow(() -> ReflectionException.format("Invalid sort key: '%s'", key));
+    SortKey sortKey = asc(tokens[0]);
+    int i = 1;
+    if (i < tokens.length && !tokens[i].equalsIgnoreCase("nulls")) {
+      sortKey = sortKey.direction(parse(Direction.class, tokens[i++], key));
+    }
+    if (i < tokens.length) {
+      BooleanOptional.of(i + 2 == tokens.length && tokens[i].equalsIgnoreCase("nulls"))
+          .ifFalseThrow(() -> ReflectionException.format("Invalid sort key: '%s'", key));
+      sortKey = sortKey.nulls(parse(Nulls.class, tokens[i + 1], key));
+    }
+    return sortKey;
+  }
+
+  private static <E extends Enum<E>> E parse(Class<E> type, String token, String key) {
+    try {
+      return Enum.valueOf(type, token.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw ReflectionException.format("Invalid sort key: '%s'", key);
+    }
+  }
+
+  /**
+   * @return Copy of this key with nulls placed before other values
+   */
+  public SortKey nullsFirst() {
+    return nulls(Nulls.FIRST);
+  }
+
+  /**
+   * @return Copy of this key with nulls placed after other values
+   */
+  public SortKey nullsLast() {
+    return nulls(Nulls.LAST);
+  }
+
+  /**
+   * @param direction {@link Direction}
+   * @return Copy of this key with given direction
+   */
+  public SortKey direction(Direction direction) {
+    return new SortKey(path, direction, nulls);
+  }
+
+  /**
+   * @param nulls {@link Nulls}
+   * @return Copy of this key with given nulls position
+   */
+  public SortKey nulls(Nulls nulls) {
+    return new SortKey(path, direction, nulls);
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public Direction getDirection() {
+    return direction;
+  }
+
+  public Nulls getNulls() {
+    return nulls;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SortKey sortKey = (SortKey) o;
+    return path.equals(sortKey.path) && direction == sortKey.direction && nulls == sortKey.nulls;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(path, direction, nulls);
+  }
+
+  @Override
+  public String toString() {
+    return path + " " + direction.name().toLowerCase(Locale.ROOT) + " nulls "
+        + nulls.name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Sort direction.
+   */
+  public enum Direction {
+    ASC, DESC
+  }
+
+  /**
+   * Position of null values.
+   */
+  public enum Nulls {
+    FIRST, LAST
+  }
+}
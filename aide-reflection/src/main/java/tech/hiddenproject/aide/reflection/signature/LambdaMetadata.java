@@ -4,6 +4,7 @@ import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
 
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Objects;
 
 /**
  * Stores metadata of wrapper function for {@link LambdaWrapperHolder}.
@@ -45,6 +46,24 @@ public class LambdaMetadata {
     return methodType;
   }
 
+  @Override
+  public int hashCode() {
+    return Objects.hash(methodName, declaringInterface, methodType);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    LambdaMetadata that = (LambdaMetadata) o;
+    return methodName.equals(that.methodName) && declaringInterface.equals(
+        that.declaringInterface) && methodType.equals(that.methodType);
+  }
+
   @Override
   public String toString() {
     return "LambdaMetadata{" + "methodName='" + methodName + '\'' + ", factory="
@@ -0,0 +1,338 @@
+package tech.hiddenproject.aide.reflection.util;
+
+import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable copy of annotation attribute values. Attributes of JDK annotation are read through
+ * proxy, which clones arrays on every access. Snapshot reads all attributes once: arrays are
+ * stored as unmodifiable lists and nested annotations as snapshots, so accessors don't copy or
+ * reflect.
+ *
+ * <p>Snapshots returned by {@link #of(AnnotatedElement, Class)} are cached per element and
+ * annotation type. Annotation is searched with {@link AnnotationUtil#findAnnotation(Class, Class)}
+ * for classes and {@link MemberAnnotationIndex#findAnnotation(AnnotatedElement, Class)} for
+ * other elements, so meta-annotations are found too.
+ *
+ * <pre>{@code
+ * AnnotationSnapshot<Route> route = AnnotationSnapshot.of(handlerMethod, Route.class);
+ * String path = route.getString("path");
+ * List<String> methods = route.getList("methods");
+ * }</pre>
+ *
+ * @param <A> Annotation type
+ * @author Danila Rassokhin
+ */
+public final class AnnotationSnapshot<A extends Annotation> {
+
+  private static final AnnotationSnapshot<?> ABSENT = new AnnotationSnapshot<>();
+
+  private static final ClassValue<Map<AnnotatedElement, Map<Class<?>, AnnotationSnapshot<?>>>>
+      SNAPSHOTS = new ClassValue<Map<AnnotatedElement, Map<Class<?>, AnnotationSnapshot<?>>>>() {
+    @Override
+    protected Map<AnnotatedElement, Map<Class<?>, AnnotationSnapshot<?>>> computeValue(
+        Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private static final ClassValue<List<Method>> ATTRIBUTES = new ClassValue<List<Method>>() {
+    @Override
+    protected List<Method> computeValue(Class<?> type) {
+      List<Method> attributes = new ArrayList<>();
+      boolean accessible = Modifier.isPublic(type.getModifiers());
+      for (Method method : type.getDeclaredMethods()) {
+        if (method.getParameterCount() == 0 && !method.isSynthetic()) {
+          if (!accessible) {
+            method.setAccessible(true);
+          }
+          attributes.add(method);
+        }
+      }
+      attributes.sort((first, second) -> first.getName().compareTo(second.getName()));
+      return Collections.unmodifiableList(attributes);
+    }
+  };
+
+  private final A annotation;
+
+  private final Class<? extends Annotation> annotationType;
+
+  private final Map<String, Object> values;
+
+  private final Map<String, Class<?>> types;
+
+  private AnnotationSnapshot() {
+    this.annotation = null;
+    this.annotationType = null;
+    this.values = Collections.emptyMap();
+    this.types = Collections.emptyMap();
+  }
+
+  private AnnotationSnapshot(A annotation) {
+    this.annotation = annotation;
+    this.annotationType = annotation.annotationType();
+    Map<String, Object> attributeValues = new LinkedHashMap<>();
+    Map<String, Class<?>> attributeTypes = new HashMap<>();
+    for (Method attribute : ATTRIBUTES.get(annotationType)) {
+      Object value = ThrowableOptional.sneaky(() -> attribute.invoke(annotation),
+                                              ReflectionException::new);
+      attributeValues.put(attribute.getName(), materialize(value));
+      attributeTypes.put(attribute.getName(), attribute.getReturnType());
+    }
+    this.values = Collections.unmodifiableMap(attributeValues);
+    this.types = attributeTypes;
+  }
+
+  /**
+   * Reads attributes of annotation. Result is not cached.
+   *
+   * @param annotation Annotation to read
+   * @param <A>        Annotation type
+   * @return {@link AnnotationSnapshot}
+   */
+  public static <A extends Annotation> AnnotationSnapshot<A> of(A annotation) {
+    return new AnnotationSnapshot<>(Objects.requireNonNull(annotation));
+  }
+
+  /**
+   * Gets cached snapshot of annotation present on element directly or as meta-annotation.
+   *
+   * @param element        Class, member or parameter
+   * @param annotationType Annotation to search
+   * @param <A>            Annotation type
+   * @return {@link AnnotationSnapshot} or null if annotation not found
+   */
+  public static <A extends Annotation> AnnotationSnapshot<A> of(AnnotatedElement element,
+                                                                Class<A> annotationType) {
+    Class<?> owner = owner(element);
+    if (Objects.isNull(owner)) {
+      return snapshot(element, annotationType);
+    }
+    Map<Class<?>, AnnotationSnapshot<?>> snapshots = SNAPSHOTS.get(owner)
+        .computeIfAbsent(element, e -> new ConcurrentHashMap<>());
+    AnnotationSnapshot<?> snapshot = snapshots.get(annotationType);
+    if (Objects.isNull(snapshot)) {
+      snapshot = snapshots.computeIfAbsent(annotationType, t -> {
+        AnnotationSnapshot<A> found = snapshot(element, annotationType);
+        return Objects.isNull(found) ? ABSENT : found;
+      });
+    }
+    return snapshot == ABSENT ? null : (AnnotationSnapshot<A>) snapshot;
+  }
+
+  private static <A extends Annotation> AnnotationSnapshot<A> snapshot(AnnotatedElement element,
+                                                                       Class<A> annotationType) {
+    A annotation = element instanceof Class
+        ? AnnotationUtil.findAnnotation((Class<?>) element, annotationType)
+        : MemberAnnotationIndex.findAnnotation(element, annotationType);
+    return Objects.isNull(annotation) ? null : new AnnotationSnapshot<>(annotation);
+  }
+
+  private static Class<?> owner(AnnotatedElement element) {
+    if (element instanceof Class) {
+      return (Class<?>) element;
+    }
+    if (element instanceof Member) {
+      return ((Member) element).getDeclaringClass();
+    }
+    if (element instanceof Parameter) {
+      return ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+    }
+    return null;
+  }
+
+  private static Object materialize(Object value) {
+    if (value instanceof Annotation) {
+      return new AnnotationSnapshot<>((Annotation) value);
+    }
+    if (!value.getClass().isArray()) {
+      return value;
+    }
+    int length = Array.getLength(value);
+    List<Object> elements = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      elements.add(materialize(Array.get(value, i)));
+    }
+    return Collections.unmodifiableList(elements);
+  }
+
+  /**
+   * @return Annotation this snapshot was read from
+   */
+  public A getAnnotation() {
+    return annotation;
+  }
+
+  public Class<? extends Annotation> annotationType() {
+    return annotationType;
+  }
+
+  /**
+   * @return Attribute values by name. Arrays are lists and annotations are snapshots
+   */
+  public Map<String, Object> getValues() {
+    return values;
+  }
+
+  /**
+   * @param name Attribute name
+   * @return true if annotation has attribute
+   */
+  public boolean has(String name) {
+    return values.containsKey(name);
+  }
+
+  /**
+   * Gets attribute value. Arrays are returned as unmodifiable {@link List}s and annotations as
+   * {@link AnnotationSnapshot}s.
+   *
+   * @param name Attribute name
+   * @param <T>  Value type
+   * @return Attribute value
+   * @throws ReflectionException if attribute not found
+   */
+  public <T> T get(String name) {
+    Object value = values.get(name);
+    if (Objects.isNull(value)) {
+      throw ReflectionException.format("Attribute %s not found in %s", name, annotationType);
+    }
+    return (T) value;
+  }
+
+  /**
+   * @param name {@link String} attribute name
+   * @return Attribute value
+   * @throws ReflectionException if attribute not found or is not {@link String}
+   */
+  public String getString(String name) {
+    return get(name, String.class);
+  }
+
+  /**
+   * @param name {@code int} attribute name
+   * @return Attribute value
+   * @throws ReflectionException if attribute not found or is not {@code int}
+   */
+  public int getInt(String name) {
+    return this.<Integer>get(name, int.class);
+  }
+
+  /**
+   * @param name {@code long} attribute name
+   * @return Attribute value
+   * @throws ReflectionException if attribute not found or is not {@code long}
+   */
+  public long getLong(String name) {
+    return this.<Long>get(name, long.class);
+  }
+
+  /**
+   * @param name {@code boolean} attribute name
+   * @return Attribute value
+   * @throws ReflectionException if attribute not found or is not {@code boolean}
+   */
+  public boolean getBoolean(String name) {
+    return this.<Boolean>get(name, boolean.class);
+  }
+
+  /**
+   * @param name {@link Class} attribute name
+   * @return Attribute value
+   * @throws ReflectionException if attribute not found or is not {@link Class}
+   */
+  public Class<?> getType(String name) {
+    return get(name, Class.class);
+  }
+
+  /**
+   * @param name Enum attribute name
+   * @param <E>  Enum type
+   * @return Attribute value
+   * @throws ReflectionException if attribute not found or is not enum
+   */
+  public <E extends Enum<E>> E getEnum(String name) {
+    checkType(name, getAttributeType(name).isEnum(), "enum");
+    return get(name);
+  }
+
+  /**
+   * @param name Array attribute name
+   * @param <T>  Element type, boxed for primitive arrays
+   * @return Unmodifiable list of array elements
+   * @throws ReflectionException if attribute not found or is not array
+   */
+  public <T> List<T> getList(String name) {
+    checkType(name, getAttributeType(name).isArray(), "array");
+    return get(name);
+  }
+
+  /**
+   * @param name Nested annotation attribute name
+   * @param <N>  Nested annotation type
+   * @return Snapshot of nested annotation
+   * @throws ReflectionException if attribute not found or is not annotation
+   */
+  public <N extends Annotation> AnnotationSnapshot<N> getSnapshot(String name) {
+    checkType(name, getAttributeType(name).isAnnotation(), "annotation");
+    return get(name);
+  }
+
+  private <T> T get(String name, Class<?> type) {
+    checkType(name, getAttributeType(name) == type, type.getName());
+    return (T) values.get(name);
+  }
+
+  private Class<?> getAttributeType(String name) {
+    Class<?> type = types.get(name);
+    if (Objects.isNull(type)) {
+      throw ReflectionException.format("Attribute %s not found in %s", name, annotationType);
+    }
+    return type;
+  }
+
+  private void checkType(String name, boolean matches, String expected) {
+    if (!matches) {
+      throw ReflectionException.format("Attribute %s of %s is %s, not %s", name, annotationType,
+                                       types.get(name).getName(), expected);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AnnotationSnapshot<?> that = (AnnotationSnapshot<?>) o;
+    return Objects.equals(annotationType, that.annotationType) && values.equals(that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(annotationType, values);
+  }
+
+  @Override
+  public String toString() {
+    return "AnnotationSnapshot{" + "annotationType=" + annotationType + ", values=" + values + '}';
+  }
+}
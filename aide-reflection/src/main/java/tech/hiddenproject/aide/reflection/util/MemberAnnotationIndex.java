@@ -0,0 +1,264 @@
+package tech.hiddenproject.aide.reflection.util;
+
+import tech.hiddenproject.aide.reflection.LambdaWrapper;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.MethodHolder;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Index of methods, fields and constructors by annotations present on them. Index is built once
+ * per class on first {@link #of(Class)} call, so each lookup is a map access instead of scanning
+ * declared members with {@link AnnotatedElement#isAnnotationPresent(Class)}.
+ *
+ * <p>Member is indexed by its annotations and their meta-annotations, so member annotated with
+ * {@code @GetMapping} is found by {@code @RequestMapping} if {@code @GetMapping} is annotated with
+ * it. Methods and fields are collected from class and its superclasses, except {@link Object}.
+ * Overridden methods are indexed once with annotations of the overriding method. Private and static
+ * methods don't override, so they are indexed even if subclass declares method with same signature.
+ *
+ * <pre>{@code
+ * MemberAnnotationIndex index = MemberAnnotationIndex.of(Handler.class);
+ * List<Method> subscribers = index.getMethods(Subscribe.class);
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class MemberAnnotationIndex {
+
+  private static final ClassValue<MemberAnnotationIndex> INDEXES
+      = new ClassValue<MemberAnnotationIndex>() {
+    @Override
+    protected MemberAnnotationIndex computeValue(Class<?> type) {
+      return new MemberAnnotationIndex(type);
+    }
+  };
+
+  private static final ClassValue<Set<Class<? extends Annotation>>> ANNOTATION_TYPES
+      = new ClassValue<Set<Class<? extends Annotation>>>() {
+    @Override
+    protected Set<Class<? extends Annotation>> computeValue(Class<?> type) {
+      return collectAnnotationTypes((Class<? extends Annotation>) type);
+    }
+  };
+
+  private final Class<?> type;
+
+  private final Map<Class<? extends Annotation>, List<Method>> methods = new HashMap<>();
+
+  private final Map<Class<? extends Annotation>, List<Field>> fields = new HashMap<>();
+
+  private final Map<Class<? extends Annotation>, List<Constructor<?>>> constructors
+      = new HashMap<>();
+
+  private MemberAnnotationIndex(Class<?> type) {
+    this.type = type;
+    Set<String> signatures = new HashSet<>();
+    for (Class<?> current = type; current != null && current != Object.class;
+        current = current.getSuperclass()) {
+      for (Method method : current.getDeclaredMethods()) {
+        if (!method.isBridge() && !method.isSynthetic()
+            && (!isOverridable(method) || signatures.add(signature(method)))) {
+          index(methods, method);
+        }
+      }
+      for (Field field : current.getDeclaredFields()) {
+        if (!field.isSynthetic()) {
+          index(fields, field);
+        }
+      }
+    }
+    for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+      index(constructors, constructor);
+    }
+  }
+
+  /**
+   * Gets index for class.
+   *
+   * @param type Class to index
+   * @return Cached {@link MemberAnnotationIndex}
+   */
+  public static MemberAnnotationIndex of(Class<?> type) {
+    return INDEXES.get(type);
+  }
+
+  /**
+   * Searches for annotation on member directly or as meta-annotation of its annotations.
+   *
+   * @param element        Member or other annotated element
+   * @param annotationType Annotation to search
+   * @param <A>            Annotation type
+   * @return Annotation or null
+   */
+  public static <A extends Annotation> A findAnnotation(AnnotatedElement element,
+                                                        Class<A> annotationType) {
+    A annotation = element.getAnnotation(annotationType);
+    if (Objects.nonNull(annotation)) {
+      return annotation;
+    }
+    for (Annotation present : element.getDeclaredAnnotations()) {
+      Set<Class<? extends Annotation>> metaTypes = ANNOTATION_TYPES.get(present.annotationType());
+      if (!metaTypes.contains(annotationType)) {
+        continue;
+      }
+      for (Class<? extends Annotation> metaType : metaTypes) {
+        annotation = metaType.getDeclaredAnnotation(annotationType);
+        if (Objects.nonNull(annotation)) {
+          return annotation;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static Set<Class<? extends Annotation>> collectAnnotationTypes(
+      Class<? extends Annotation> annotationType) {
+    Set<Class<? extends Annotation>> collected = new LinkedHashSet<>();
+    Deque<Class<? extends Annotation>> types = new ArrayDeque<>();
+    types.add(annotationType);
+    while (!types.isEmpty()) {
+      Class<? extends Annotation> current = types.poll();
+      if (isLanguageAnnotation(current) || !collected.add(current)) {
+        continue;
+      }
+      for (Annotation meta : current.getDeclaredAnnotations()) {
+        types.add(meta.annotationType());
+      }
+    }
+    return Collections.unmodifiableSet(collected);
+  }
+
+  private static boolean isLanguageAnnotation(Class<? extends Annotation> annotationType) {
+    return annotationType.getName().startsWith("java.lang.annotation.");
+  }
+
+  private static boolean isOverridable(Method method) {
+    int modifiers = method.getModifiers();
+    return !Modifier.isPrivate(modifiers) && !Modifier.isStatic(modifiers);
+  }
+
+  private static String signature(Method method) {
+    String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+    int modifiers = method.getModifiers();
+    if (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) {
+      return signature;
+    }
+    // Package-private methods are overridden only within the same package
+    return method.getDeclaringClass().getPackage() + signature;
+  }
+
+  private static <M extends AnnotatedElement> void index(
+      Map<Class<? extends Annotation>, List<M>> index, M member) {
+    for (Annotation annotation : member.getDeclaredAnnotations()) {
+      for (Class<? extends Annotation> annotationType
+          : ANNOTATION_TYPES.get(annotation.annotationType())) {
+        List<M> members = index.computeIfAbsent(annotationType, t -> new ArrayList<>());
+        if (!members.contains(member)) {
+          members.add(member);
+        }
+      }
+    }
+  }
+
+  private static <M> List<M> get(Map<Class<? extends Annotation>, List<M>> index,
+                                 Class<? extends Annotation> annotationType) {
+    List<M> members = index.get(annotationType);
+    return Objects.isNull(members)
+        ? Collections.emptyList() : Collections.unmodifiableList(members);
+  }
+
+  /**
+   * @return Indexed class
+   */
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * @param annotationType Annotation to search
+   * @return Methods annotated directly or by meta-annotation
+   */
+  public List<Method> getMethods(Class<? extends Annotation> annotationType) {
+    return get(methods, annotationType);
+  }
+
+  /**
+   * @param annotationType Annotation to search
+   * @return Fields annotated directly or by meta-annotation
+   */
+  public List<Field> getFields(Class<? extends Annotation> annotationType) {
+    return get(fields, annotationType);
+  }
+
+  /**
+   * @param annotationType Annotation to search
+   * @return Constructors of indexed class annotated directly or by meta-annotation
+   */
+  public List<Constructor<?>> getConstructors(Class<? extends Annotation> annotationType) {
+    return get(constructors, annotationType);
+  }
+
+  /**
+   * @param annotationType Annotation to check
+   * @return true if any member of class is annotated with annotation
+   */
+  public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
+    return methods.containsKey(annotationType) || fields.containsKey(annotationType)
+        || constructors.containsKey(annotationType);
+  }
+
+  /**
+   * Wraps annotated methods with {@link LambdaWrapperHolder#wrapSafe(Executable)}.
+   *
+   * @param holder         {@link LambdaWrapperHolder} to wrap methods with
+   * @param annotationType Annotation to search
+   * @param <C>            Caller type
+   * @param <R>            Return type
+   * @return {@link MethodHolder}s of annotated methods
+   */
+  public <C, R> List<MethodHolder<LambdaWrapper, C, R>> getWrappedMethods(
+      LambdaWrapperHolder holder, Class<? extends Annotation> annotationType) {
+    return wrap(holder, getMethods(annotationType));
+  }
+
+  /**
+   * Wraps annotated constructors with {@link LambdaWrapperHolder#wrapSafe(Executable)}.
+   *
+   * @param holder         {@link LambdaWrapperHolder} to wrap constructors with
+   * @param annotationType Annotation to search
+   * @param <R>            Constructed type
+   * @return {@link MethodHolder}s of annotated constructors
+   */
+  public <R> List<MethodHolder<LambdaWrapper, Void, R>> getWrappedConstructors(
+      LambdaWrapperHolder holder, Class<? extends Annotation> annotationType) {
+    return wrap(holder, getConstructors(annotationType));
+  }
+
+  private <C, R> List<MethodHolder<LambdaWrapper, C, R>> wrap(
+      LambdaWrapperHolder holder, List<? extends Executable> executables) {
+    List<MethodHolder<LambdaWrapper, C, R>> wrapped = new ArrayList<>(executables.size());
+    for (Executable executable : executables) {
+      wrapped.add(holder.wrapSafe(executable));
+    }
+    return wrapped;
+  }
+}
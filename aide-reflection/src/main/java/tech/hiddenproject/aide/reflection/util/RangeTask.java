@@ -0,0 +1,85 @@
+package tech.hiddenproject.aide.reflection.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits index range into chunks and processes them in {@link ForkJoinPool}. Range is processed in
+ * current thread if it's smaller than threshold, so small inputs don't pay for task submission.
+ *
+ * <pre>{@code
+ * RangeTask.invoke(ForkJoinPool.commonPool(), values.length, (from, to) -> {
+ *   for (int i = from; i < to; i++) {
+ *     values[i] = compute(i);
+ *   }
+ * });
+ * }</pre>
+ *
+ * @author Danila Rassokhin
+ */
+public final class RangeTask {
+
+  /**
+   * Minimal number of elements processed by one task.
+   */
+  public static final int MIN_THRESHOLD = 1024;
+
+  private RangeTask() {
+  }
+
+  /**
+   * Processes range {@code [0, size)} in given pool. Range is split into about four chunks per
+   * pool thread, but chunks are not smaller than {@link #MIN_THRESHOLD}.
+   *
+   * @param pool  {@link ForkJoinPool} to process range in
+   * @param size  Number of elements
+   * @param range {@link Range} to process chunks with, must be safe to call concurrently
+   */
+  public static void invoke(ForkJoinPool pool, int size, Range range) {
+    int threshold = Math.max(MIN_THRESHOLD, size / (pool.getParallelism() * 4));
+    if (size <= threshold) {
+      range.apply(0, size);
+      return;
+    }
+    pool.invoke(new Task(range, 0, size, threshold));
+  }
+
+  /**
+   * Processes elements in range.
+   */
+  @FunctionalInterface
+  public interface Range {
+
+    /**
+     * @param from First index, inclusive
+     * @param to   Last index, exclusive
+     */
+    void apply(int from, int to);
+  }
+
+  private static final class Task extends RecursiveAction {
+
+    private final Range range;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    private Task(Range range, int from, int to, int threshold) {
+      this.range = range;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        range.apply(from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new Task(range, from, middle, threshold),
+                new Task(range, middle, to, threshold));
+    }
+  }
+}
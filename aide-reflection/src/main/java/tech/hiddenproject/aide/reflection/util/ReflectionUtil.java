@@ -2,12 +2,12 @@ package tech.hiddenproject.aide.reflection.util;
 
 import tech.hiddenproject.aide.optional.BooleanOptional;
 import tech.hiddenproject.aide.optional.ThrowableOptional;
+import tech.hiddenproject.aide.optional.Try;
 import tech.hiddenproject.aide.reflection.exception.ReflectionException;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.stream.Collectors;
 
 /**
  * Useful methods to work with reflection.
@@ -29,6 +29,32 @@ public class ReflectionUtil {
     return ThrowableOptional.sneaky(() -> c.getDeclaredMethod(name, argTypes));
   }
 
+  /**
+   * Searches for {@link Method} without throwing exceptions. Can be used to probe optional methods
+   * in hot paths.
+   *
+   * @param c        Class to search in
+   * @param name     {@link Method} name
+   * @param argTypes {@link Method} parameter types
+   * @return {@link Try} with {@link Method} or stackless {@link ReflectionException} if no method
+   * found
+   */
+  public static Try<Method> tryGetMethod(Class<?> c, String name, Class<?>... argTypes) {
+    Method found = null;
+    for (Method method : c.getDeclaredMethods()) {
+      if (method.getName().equals(name) && method.getParameterCount() == argTypes.length
+          && Arrays.equals(method.getParameterTypes(), argTypes)
+          && (found == null || found.isBridge())) {
+        found = method;
+      }
+    }
+    if (found == null) {
+      return Try.failure(ReflectionException.stackless(
+          "Method %s%s not found in %s", name, Arrays.toString(argTypes), c));
+    }
+    return Try.success(found);
+  }
+
   /**
    * Searches for {@link Method}.
    *
@@ -62,13 +88,37 @@ public class ReflectionUtil {
   }
 
   /**
-   * Gets types of given arguments.
+   * Searches for {@link Constructor} without throwing exceptions.
+   *
+   * @param c        Class to search in
+   * @param argTypes Types of arguments
+   * @param <T>      Class type
+   * @return {@link Try} with {@link Constructor} or stackless {@link ReflectionException} if no
+   * constructor found
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Try<Constructor<T>> tryGetConstructor(Class<T> c, Class<?>... argTypes) {
+    for (Constructor<?> constructor : c.getDeclaredConstructors()) {
+      if (constructor.getParameterCount() == argTypes.length
+          && Arrays.equals(constructor.getParameterTypes(), argTypes)) {
+        return Try.success((Constructor<T>) constructor);
+      }
+    }
+    return Try.failure(ReflectionException.stackless(
+        "Constructor %s not found in %s", Arrays.toString(argTypes), c));
+  }
+
+  /**
+   * Gets types of given arguments. Type of null argument is null.
    *
    * @param args Arguments
    * @return Array of {@link Class}
    */
   public static Class<?>[] getVarArgTypes(Object... args) {
-    return Arrays.stream(args).map(Object::getClass).collect(Collectors.toList())
-                              .toArray(new Class[]{});
+    Class<?>[] types = new Class[args.length];
+    for (int i = 0; i < args.length; i++) {
+      types[i] = args[i] == null ? null : args[i].getClass();
+    }
+    return types;
   }
 }
@@ -0,0 +1,204 @@
+package tech.hiddenproject.aide.reflection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hooks to record wrapping and invocation events as Java Flight Recorder events. If event is
+ * disabled in current recording, hooks only check event type state.
+ *
+ * <p>Invocation events are opt-in: set {@code aide.jfr.invoke.sampling} system property to
+ * fraction of invocations to record, e.g. {@code 0.01} to record every hundredth invocation on
+ * average.
+ *
+ * @author Danila Rassokhin
+ */
+final class AideEvents {
+
+  /**
+   * System property with fraction of invocations to record.
+   */
+  static final String INVOKE_SAMPLING_PROPERTY = "aide.jfr.invoke.sampling";
+
+  private static final EventType WRAP = EventType.getEventType(WrapEvent.class);
+
+  private static final EventType REGISTRATION = EventType.getEventType(RegistrationEvent.class);
+
+  private static final EventType MATCHER_LOOKUP = EventType.getEventType(
+      MatcherLookupEvent.class);
+
+  private static final EventType INVOKE = EventType.getEventType(InvokeEvent.class);
+
+  private static final double INVOKE_SAMPLING = invokeSampling();
+
+  private AideEvents() {
+  }
+
+  static Object beginWrap() {
+    if (!WRAP.isEnabled()) {
+      return null;
+    }
+    WrapEvent event = new WrapEvent();
+    event.begin();
+    return event;
+  }
+
+  static void endWrap(Object event, Executable executable, Class<?> wrapperInterface,
+                      boolean cacheHit) {
+    if (event == null) {
+      return;
+    }
+    WrapEvent wrapEvent = (WrapEvent) event;
+    wrapEvent.end();
+    if (wrapEvent.shouldCommit()) {
+      wrapEvent.declaringClass = executable.getDeclaringClass();
+      wrapEvent.executable = executable.toString();
+      wrapEvent.wrapperInterface = wrapperInterface;
+      wrapEvent.cacheHit = cacheHit;
+      wrapEvent.commit();
+    }
+  }
+
+  static Object beginRegistration() {
+    if (!REGISTRATION.isEnabled()) {
+      return null;
+    }
+    RegistrationEvent event = new RegistrationEvent();
+    event.begin();
+    return event;
+  }
+
+  static void endRegistration(Object event, Method wrapperMethod) {
+    if (event == null) {
+      return;
+    }
+    RegistrationEvent registrationEvent = (RegistrationEvent) event;
+    registrationEvent.end();
+    if (registrationEvent.shouldCommit()) {
+      registrationEvent.wrapperInterface = wrapperMethod.getDeclaringClass();
+      registrationEvent.wrapperMethod = wrapperMethod.toString();
+      registrationEvent.commit();
+    }
+  }
+
+  static Object beginMatcherLookup() {
+    if (!MATCHER_LOOKUP.isEnabled()) {
+      return null;
+    }
+    MatcherLookupEvent event = new MatcherLookupEvent();
+    event.begin();
+    return event;
+  }
+
+  static void endMatcherLookup(Object event, Executable executable) {
+    if (event == null) {
+      return;
+    }
+    MatcherLookupEvent lookupEvent = (MatcherLookupEvent) event;
+    lookupEvent.end();
+    if (lookupEvent.shouldCommit()) {
+      lookupEvent.declaringClass = executable.getDeclaringClass();
+      lookupEvent.executable = executable.toString();
+      lookupEvent.commit();
+    }
+  }
+
+  static Object beginInvoke() {
+    if (INVOKE_SAMPLING <= 0 || !INVOKE.isEnabled()
+        || ThreadLocalRandom.current().nextDouble() >= INVOKE_SAMPLING) {
+      return null;
+    }
+    InvokeEvent event = new InvokeEvent();
+    event.begin();
+    return event;
+  }
+
+  static void endInvoke(Object event, Executable executable) {
+    if (event == null) {
+      return;
+    }
+    InvokeEvent invokeEvent = (InvokeEvent) event;
+    invokeEvent.end();
+    if (invokeEvent.shouldCommit()) {
+      invokeEvent.declaringClass = executable.getDeclaringClass();
+      invokeEvent.executable = executable.toString();
+      invokeEvent.commit();
+    }
+  }
+
+  private static double invokeSampling() {
+    try {
+      return Double.parseDouble(System.getProperty(INVOKE_SAMPLING_PROPERTY, "0"));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  @Name("tech.hiddenproject.aide.Wrap")
+  @Label("Wrap")
+  @Description("Executable wrapped by LambdaWrapperHolder")
+  @Category({"Aide", "Reflection"})
+  static final class WrapEvent extends Event {
+
+    @Label("Declaring Class")
+    Class<?> declaringClass;
+
+    @Label("Executable")
+    String executable;
+
+    @Label("Wrapper Interface")
+    Class<?> wrapperInterface;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+  }
+
+  @Name("tech.hiddenproject.aide.Registration")
+  @Label("Wrapper Registration")
+  @Description("Wrapper method added to LambdaWrapperHolder")
+  @Category({"Aide", "Reflection"})
+  static final class RegistrationEvent extends Event {
+
+    @Label("Wrapper Interface")
+    Class<?> wrapperInterface;
+
+    @Label("Wrapper Method")
+    String wrapperMethod;
+  }
+
+  @Name("tech.hiddenproject.aide.MatcherLookup")
+  @Label("Matcher Lookup")
+  @Description("Argument matcher resolved for MethodHolder")
+  @Category({"Aide", "Reflection"})
+  static final class MatcherLookupEvent extends Event {
+
+    @Label("Declaring Class")
+    Class<?> declaringClass;
+
+    @Label("Executable")
+    String executable;
+  }
+
+  @Name("tech.hiddenproject.aide.Invoke")
+  @Label("Invoke")
+  @Description("Sampled MethodHolder invocation")
+  @Category({"Aide", "Reflection"})
+  @StackTrace(false)
+  static final class InvokeEvent extends Event {
+
+    @Label("Declaring Class")
+    Class<?> declaringClass;
+
+    @Label("Executable")
+    String executable;
+  }
+}
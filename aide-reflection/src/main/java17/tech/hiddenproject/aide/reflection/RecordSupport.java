@@ -0,0 +1,65 @@
+package tech.hiddenproject.aide.reflection;
+
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Provides access to record components for {@link RecordAccessor} using
+ * {@link Class#getRecordComponents()}.
+ *
+ * @author Danila Rassokhin
+ */
+final class RecordSupport {
+
+  private RecordSupport() {
+  }
+
+  /**
+   * @param type Class to check
+   * @return true if class is a record
+   */
+  static boolean isRecord(Class<?> type) {
+    return type.isRecord();
+  }
+
+  /**
+   * @param type Record class
+   * @return Component accessors in declaration order
+   */
+  static Method[] getAccessors(Class<?> type) {
+    RecordComponent[] components = getComponents(type);
+    Method[] accessors = new Method[components.length];
+    for (int i = 0; i < components.length; i++) {
+      accessors[i] = components[i].getAccessor();
+    }
+    return accessors;
+  }
+
+  /**
+   * @param type Record class
+   * @param <T>  Record type
+   * @return Canonical constructor of record
+   */
+  static <T> Constructor<T> getCanonicalConstructor(Class<T> type) {
+    RecordComponent[] components = getComponents(type);
+    Class<?>[] parameterTypes = new Class[components.length];
+    for (int i = 0; i < components.length; i++) {
+      parameterTypes[i] = components[i].getType();
+    }
+    try {
+      return type.getDeclaredConstructor(parameterTypes);
+    } catch (NoSuchMethodException e) {
+      throw new ReflectionException(e);
+    }
+  }
+
+  private static RecordComponent[] getComponents(Class<?> type) {
+    if (!type.isRecord()) {
+      throw ReflectionException.format("Class %s is not a record", type);
+    }
+    return type.getRecordComponents();
+  }
+}
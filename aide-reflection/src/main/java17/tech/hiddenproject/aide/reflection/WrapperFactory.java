@@ -0,0 +1,379 @@
+package tech.hiddenproject.aide.reflection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup.ClassOption;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates wrapper instances for {@link LambdaWrapperHolder}. Every wrapper is defined as hidden
+ * class nestmate of lookup class. Implementation {@link MethodHandle} is passed to wrapper as class
+ * data and loaded with constant dynamic, so it is a true constant for JIT. Hidden classes are not
+ * strongly bound to class loader and will be unloaded when wrapper becomes unreachable.
+ *
+ * @author Danila Rassokhin
+ */
+final class WrapperFactory {
+
+  private static final String WRAPPER_NAME = "AideWrapper";
+
+  private WrapperFactory() {
+  }
+
+  /**
+   * Creates instance of interface which implements given method with given implementation.
+   *
+   * @param lookup           Lookup to define wrapper in, must have full privilege access
+   * @param interfaceClass   Interface to implement
+   * @param methodName       Name of interface method
+   * @param methodType       Type of interface method
+   * @param implementation   {@link MethodHandle} to call from interface method
+   * @param instantiatedType Type of interface method after generic types substitution
+   * @return Wrapper instance
+   * @throws Throwable if wrapper can't be created
+   */
+  static Object create(MethodHandles.Lookup lookup, Class<?> interfaceClass, String methodName,
+                       MethodType methodType, MethodHandle implementation,
+                       MethodType instantiatedType) throws Throwable {
+    MethodHandle target = implementation.asType(instantiatedType).asType(methodType);
+    MethodHandles.Lookup wrapperLookup = define(lookup, interfaceClass, methodName, methodType,
+                                                target, false);
+    return wrapperLookup.findConstructor(wrapperLookup.lookupClass(),
+                                         MethodType.methodType(void.class)
+    ).invoke();
+  }
+
+  /**
+   * Creates factory of wrappers which capture first argument of implementation, e.g. bound
+   * receiver. Wrapper class is defined once and keeps captured value in its instance field.
+   *
+   * @param lookup           Lookup to define wrapper in, must have full privilege access
+   * @param interfaceClass   Interface to implement
+   * @param methodName       Name of interface method
+   * @param methodType       Type of interface method
+   * @param implementation   {@link MethodHandle} to call from interface method with captured
+   *                         value as first argument
+   * @param instantiatedType Type of interface method after generic types substitution
+   * @return {@link MethodHandle} which accepts captured value and returns wrapper instance
+   * @throws Throwable if wrapper can't be created
+   */
+  static MethodHandle createFactory(MethodHandles.Lookup lookup, Class<?> interfaceClass,
+                                    String methodName, MethodType methodType,
+                                    MethodHandle implementation, MethodType instantiatedType)
+      throws Throwable {
+    Class<?> capturedType = implementation.type().parameterType(0);
+    MethodHandle target = implementation
+        .asType(instantiatedType.insertParameterTypes(0, capturedType))
+        .asType(methodType.insertParameterTypes(0, Object.class));
+    MethodHandles.Lookup wrapperLookup = define(lookup, interfaceClass, methodName, methodType,
+                                                target, true);
+    return wrapperLookup.findConstructor(wrapperLookup.lookupClass(),
+                                         MethodType.methodType(void.class, Object.class)
+    ).asType(MethodType.methodType(interfaceClass, capturedType));
+  }
+
+  private static MethodHandles.Lookup define(MethodHandles.Lookup lookup, Class<?> interfaceClass,
+                                             String methodName, MethodType methodType,
+                                             MethodHandle target, boolean capturing)
+      throws Throwable {
+    byte[] bytes = new WrapperClassWriter(lookup.lookupClass(), interfaceClass, methodName,
+                                          methodType, capturing
+    ).write();
+    return lookup.defineHiddenClassWithClassData(bytes, target, true, ClassOption.NESTMATE);
+  }
+
+  /**
+   * Writes class file of wrapper. Wrapper has private constructor and one interface method, which
+   * loads implementation from class data and calls it with {@link MethodHandle#invokeExact}.
+   * Capturing wrapper stores constructor argument in field and passes it to implementation first.
+   */
+  private static class WrapperClassWriter {
+
+    private static final int VERSION = 61;
+    private static final String CAPTURED_NAME = "captured";
+    private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int REF_INVOKE_STATIC = 6;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_DYNAMIC = 17;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int LDC_W = 0x13;
+    private static final int RETURN = 0xb1;
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> entries = new HashMap<>();
+    private int poolSize = 1;
+
+    private final String className;
+    private final String interfaceName;
+    private final String methodName;
+    private final MethodType methodType;
+    private final boolean capturing;
+
+    private WrapperClassWriter(Class<?> lookupClass, Class<?> interfaceClass, String methodName,
+                               MethodType methodType, boolean capturing) {
+      String packageName = lookupClass.getPackageName().replace('.', '/');
+      this.className = packageName.isEmpty() ? WRAPPER_NAME : packageName + "/" + WRAPPER_NAME;
+      this.interfaceName = internalName(interfaceClass);
+      this.methodName = methodName;
+      this.methodType = methodType;
+      this.capturing = capturing;
+    }
+
+    private byte[] write() throws IOException {
+      int thisClass = classEntry(className);
+      int superClass = classEntry("java/lang/Object");
+      int interfaceClass = classEntry(interfaceName);
+      int objectConstructor = methodEntry("java/lang/Object", "<init>", "()V");
+      int classData = methodEntry(
+          "java/lang/invoke/MethodHandles", "classData",
+          "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)"
+              + "Ljava/lang/Object;"
+      );
+      int bootstrap = entry("H" + classData, out -> {
+        out.writeByte(CONSTANT_METHOD_HANDLE);
+        out.writeByte(REF_INVOKE_STATIC);
+        out.writeShort(classData);
+      });
+      int handleType = nameAndTypeEntry("_", "Ljava/lang/invoke/MethodHandle;");
+      int handle = entry("D" + handleType, out -> {
+        out.writeByte(CONSTANT_DYNAMIC);
+        out.writeShort(0);
+        out.writeShort(handleType);
+      });
+      String descriptor = methodType.toMethodDescriptorString();
+      String targetDescriptor = capturing
+          ? methodType.insertParameterTypes(0, Object.class).toMethodDescriptorString()
+          : descriptor;
+      int invokeExact = methodEntry("java/lang/invoke/MethodHandle", "invokeExact",
+                                    targetDescriptor);
+      int captured = capturing ? fieldEntry(className, CAPTURED_NAME, OBJECT_DESCRIPTOR) : 0;
+      int capturedName = capturing ? utf8Entry(CAPTURED_NAME) : 0;
+      int capturedDescriptor = capturing ? utf8Entry(OBJECT_DESCRIPTOR) : 0;
+      int constructorName = utf8Entry("<init>");
+      int constructorDescriptor = utf8Entry(capturing ? "(" + OBJECT_DESCRIPTOR + ")V" : "()V");
+      int name = utf8Entry(methodName);
+      int methodDescriptor = utf8Entry(descriptor);
+      int code = utf8Entry("Code");
+      int bootstrapMethods = utf8Entry("BootstrapMethods");
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0);
+      out.writeShort(VERSION);
+      out.writeShort(poolSize);
+      pool.flush();
+      poolBytes.writeTo(out);
+      out.writeShort(ACC_FINAL | ACC_SUPER);
+      out.writeShort(thisClass);
+      out.writeShort(superClass);
+      out.writeShort(1);
+      out.writeShort(interfaceClass);
+      if (capturing) {
+        out.writeShort(1);
+        out.writeShort(ACC_PRIVATE | ACC_FINAL);
+        out.writeShort(capturedName);
+        out.writeShort(capturedDescriptor);
+        out.writeShort(0);
+      } else {
+        out.writeShort(0);
+      }
+      out.writeShort(2);
+
+      ByteArrayOutputStream constructor = new ByteArrayOutputStream();
+      constructor.write(ALOAD_0);
+      constructor.write(INVOKESPECIAL);
+      constructor.write(objectConstructor >> 8);
+      constructor.write(objectConstructor);
+      if (capturing) {
+        constructor.write(ALOAD_0);
+        constructor.write(ALOAD_1);
+        constructor.write(PUTFIELD);
+        constructor.write(captured >> 8);
+        constructor.write(captured);
+      }
+      constructor.write(RETURN);
+      out.writeShort(ACC_PRIVATE);
+      out.writeShort(constructorName);
+      out.writeShort(constructorDescriptor);
+      out.writeShort(1);
+      writeCode(out, code, capturing ? 2 : 1, capturing ? 2 : 1, constructor.toByteArray());
+
+      ByteArrayOutputStream body = new ByteArrayOutputStream();
+      body.write(LDC_W);
+      body.write(handle >> 8);
+      body.write(handle);
+      if (capturing) {
+        body.write(ALOAD_0);
+        body.write(GETFIELD);
+        body.write(captured >> 8);
+        body.write(captured);
+      }
+      int slot = 1;
+      for (Class<?> parameterType : methodType.parameterArray()) {
+        body.write(loadOpcode(parameterType));
+        body.write(slot);
+        slot += slots(parameterType);
+      }
+      body.write(INVOKEVIRTUAL);
+      body.write(invokeExact >> 8);
+      body.write(invokeExact);
+      body.write(returnOpcode(methodType.returnType()));
+      int maxStack = Math.max(capturing ? slot + 1 : slot, 1 + slots(methodType.returnType()));
+      out.writeShort(ACC_PUBLIC | ACC_FINAL);
+      out.writeShort(name);
+      out.writeShort(methodDescriptor);
+      out.writeShort(1);
+      writeCode(out, code, maxStack, slot, body.toByteArray());
+
+      out.writeShort(1);
+      out.writeShort(bootstrapMethods);
+      out.writeInt(6);
+      out.writeShort(1);
+      out.writeShort(bootstrap);
+      out.writeShort(0);
+      out.flush();
+      return bytes.toByteArray();
+    }
+
+    private void writeCode(DataOutputStream out, int code, int maxStack, int maxLocals,
+                           byte[] body) throws IOException {
+      out.writeShort(code);
+      out.writeInt(12 + body.length);
+      out.writeShort(maxStack);
+      out.writeShort(maxLocals);
+      out.writeInt(body.length);
+      out.write(body);
+      out.writeShort(0);
+      out.writeShort(0);
+    }
+
+    private int utf8Entry(String value) throws IOException {
+      return entry("U" + value, out -> {
+        out.writeByte(CONSTANT_UTF8);
+        out.writeUTF(value);
+      });
+    }
+
+    private int classEntry(String name) throws IOException {
+      int nameIndex = utf8Entry(name);
+      return entry("C" + name, out -> {
+        out.writeByte(CONSTANT_CLASS);
+        out.writeShort(nameIndex);
+      });
+    }
+
+    private int nameAndTypeEntry(String name, String descriptor) throws IOException {
+      int nameIndex = utf8Entry(name);
+      int descriptorIndex = utf8Entry(descriptor);
+      return entry("N" + name + descriptor, out -> {
+        out.writeByte(CONSTANT_NAME_AND_TYPE);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+      });
+    }
+
+    private int methodEntry(String owner, String name, String descriptor) throws IOException {
+      int ownerIndex = classEntry(owner);
+      int nameAndType = nameAndTypeEntry(name, descriptor);
+      return entry("M" + owner + name + descriptor, out -> {
+        out.writeByte(CONSTANT_METHODREF);
+        out.writeShort(ownerIndex);
+        out.writeShort(nameAndType);
+      });
+    }
+
+    private int fieldEntry(String owner, String name, String descriptor) throws IOException {
+      int ownerIndex = classEntry(owner);
+      int nameAndType = nameAndTypeEntry(name, descriptor);
+      return entry("F" + owner + name + descriptor, out -> {
+        out.writeByte(CONSTANT_FIELDREF);
+        out.writeShort(ownerIndex);
+        out.writeShort(nameAndType);
+      });
+    }
+
+    private int entry(String key, PoolWriter writer) throws IOException {
+      Integer index = entries.get(key);
+      if (index != null) {
+        return index;
+      }
+      writer.write(pool);
+      entries.put(key, poolSize);
+      return poolSize++;
+    }
+
+    private static String internalName(Class<?> type) {
+      return type.getName().replace('.', '/');
+    }
+
+    private static int slots(Class<?> type) {
+      if (type == void.class) {
+        return 0;
+      }
+      return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static int loadOpcode(Class<?> type) {
+      if (!type.isPrimitive()) {
+        return 0x19;
+      }
+      if (type == long.class) {
+        return 0x16;
+      }
+      if (type == float.class) {
+        return 0x17;
+      }
+      if (type == double.class) {
+        return 0x18;
+      }
+      return 0x15;
+    }
+
+    private static int returnOpcode(Class<?> type) {
+      if (type == void.class) {
+        return RETURN;
+      }
+      if (!type.isPrimitive()) {
+        return 0xb0;
+      }
+      if (type == long.class) {
+        return 0xad;
+      }
+      if (type == float.class) {
+        return 0xae;
+      }
+      if (type == double.class) {
+        return 0xaf;
+      }
+      return 0xac;
+    }
+
+    private interface PoolWriter {
+
+      void write(DataOutputStream out) throws IOException;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package tech.hiddenproject.aide.reflection;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides default {@link Executor} for asynchronous invocations. Starts new virtual thread for
+ * every task, so blocking wrapped methods don't need sized thread pools.
+ *
+ * @author Danila Rassokhin
+ */
+final class DefaultExecutor {
+
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+  private DefaultExecutor() {
+  }
+
+  /**
+   * @return Default {@link Executor}
+   */
+  static Executor get() {
+    return EXECUTOR;
+  }
+}
@@ -0,0 +1,109 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.filter.AnyFilter;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class AideBootstrapsTest {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  @Test
+  public void invokeVirtualTest() throws Throwable {
+    CallSite callSite = AideBootstraps.invokeVirtual(
+        LOOKUP, "concat", MethodType.methodType(Object.class, TestClass.class, String.class),
+        TestClass.class
+    );
+
+    Object result = callSite.dynamicInvoker().invokeExact(new TestClass("A"), "B");
+
+    Assertions.assertTrue(callSite instanceof ConstantCallSite);
+    Assertions.assertEquals("AB", result);
+  }
+
+  @Test
+  public void invokeStaticTest() throws Throwable {
+    CallSite callSite = AideBootstraps.invokeStatic(
+        LOOKUP, "sum", MethodType.methodType(int.class, int.class, int.class), TestClass.class);
+
+    int result = (int) callSite.dynamicInvoker().invokeExact(1, 2);
+
+    Assertions.assertEquals(3, result);
+  }
+
+  @Test
+  public void newInstanceTest() throws Throwable {
+    CallSite callSite = AideBootstraps.newInstance(
+        LOOKUP, "<init>", MethodType.methodType(TestClass.class, String.class));
+
+    TestClass result = (TestClass) callSite.dynamicInvoker().invokeExact("A");
+
+    Assertions.assertEquals("A", result.concat(""));
+  }
+
+  @Test
+  public void invalidTargetTest() {
+    MethodType type = MethodType.methodType(int.class, int.class, int.class);
+
+    Assertions.assertThrows(ReflectionException.class, () -> AideBootstraps.invokeVirtual(
+        LOOKUP, "sum", MethodType.methodType(int.class, TestClass.class, int.class, int.class),
+        TestClass.class
+    ));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> AideBootstraps.invokeStatic(LOOKUP, "hidden", type,
+                                                              TestClass.class));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> AideBootstraps.invokeStatic(LOOKUP, "missing", type,
+                                                              TestClass.class));
+  }
+
+  @Test
+  public void filterTest() throws Throwable {
+    MethodType type = MethodType.methodType(int.class, int.class, int.class);
+
+    CallSite callSite = AideBootstraps.invokeStatic(LOOKUP, "difference", type, TestClass.class,
+                                                    AnyFilter.class);
+
+    Assertions.assertEquals(1, (int) callSite.dynamicInvoker().invokeExact(3, 2));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> AideBootstraps.invokeStatic(LOOKUP, "difference", type,
+                                                              TestClass.class));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> AideBootstraps.invokeStatic(LOOKUP, "sum", type,
+                                                              TestClass.class, String.class));
+  }
+
+  public static class TestClass {
+
+    private final String value;
+
+    public TestClass(String value) {
+      this.value = value;
+    }
+
+    public static int sum(int a, int b) {
+      return a + b;
+    }
+
+    static int difference(int a, int b) {
+      return a - b;
+    }
+
+    private static int hidden(int a, int b) {
+      return a - b;
+    }
+
+    public String concat(String other) {
+      return value + other;
+    }
+  }
+}
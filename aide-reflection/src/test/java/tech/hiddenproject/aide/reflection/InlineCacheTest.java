@@ -0,0 +1,81 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class InlineCacheTest {
+
+  @Test
+  public void invokeTest() {
+    InlineCache inlineCache = InlineCache.create(1);
+    Method length = ReflectionUtil.getMethod(String.class, "length");
+    Method isEmpty = ReflectionUtil.getMethod(String.class, "isEmpty");
+
+    Integer result = inlineCache.invoke(length, "Hello");
+    Boolean empty = inlineCache.invoke(isEmpty, "");
+    Integer cachedResult = inlineCache.invoke(ReflectionUtil.getMethod(String.class, "length"),
+                                              "Hi");
+
+    Assertions.assertEquals(5, result);
+    Assertions.assertTrue(empty);
+    Assertions.assertEquals(2, cachedResult);
+    Assertions.assertEquals(2, inlineCache.getDepth());
+    Assertions.assertFalse(inlineCache.isMegamorphic());
+  }
+
+  @Test
+  public void megamorphicTest() {
+    InlineCache inlineCache = InlineCache.create(LambdaWrapperHolder.DEFAULT, 1, 1);
+    Method length = ReflectionUtil.getMethod(String.class, "length");
+    Method isEmpty = ReflectionUtil.getMethod(String.class, "isEmpty");
+
+    inlineCache.invoke(length, "Hello");
+    Boolean empty = inlineCache.invoke(isEmpty, "");
+    Integer result = inlineCache.invoke(length, "Hi");
+
+    Assertions.assertTrue(empty);
+    Assertions.assertEquals(2, result);
+    Assertions.assertTrue(inlineCache.isMegamorphic());
+    Assertions.assertEquals(0, inlineCache.getDepth());
+  }
+
+  @Test
+  public void staticAndConstructorTest() {
+    InlineCache inlineCache = InlineCache.create(2);
+    Method concat = ReflectionUtil.getMethod(String.class, "concat", String.class);
+    Method max = ReflectionUtil.getMethod(Math.class, "max", int.class, int.class);
+
+    String concatResult = inlineCache.invoke(concat, "A", "B");
+    Integer maxResult = inlineCache.invoke(max, 1, 2);
+
+    Assertions.assertEquals("AB", concatResult);
+    Assertions.assertEquals(2, maxResult);
+    Assertions.assertThrows(ReflectionException.class, () -> inlineCache.invoke(concat, "A"));
+    Assertions.assertThrows(ReflectionException.class, () -> inlineCache.invoke(
+        ReflectionUtil.getMethod(String.class, "length"), "A", "B"));
+  }
+
+  @Test
+  public void bootstrapTest() throws Throwable {
+    MethodType type = MethodType.methodType(Object.class, Executable.class, Object.class);
+    Method length = ReflectionUtil.getMethod(String.class, "length");
+
+    Object result = AideBootstraps.inlineCache(MethodHandles.lookup(), "invoke", type)
+        .dynamicInvoker()
+        .invokeExact((Executable) length, (Object) "Hello");
+
+    Assertions.assertEquals(5, result);
+    Assertions.assertThrows(ReflectionException.class, () -> AideBootstraps.inlineCache(
+        MethodHandles.lookup(), "invoke", MethodType.methodType(int.class, Executable.class)));
+  }
+}
@@ -0,0 +1,72 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.metrics.HistogramSnapshot;
+import tech.hiddenproject.aide.reflection.metrics.LatencyRegistry;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class InstrumentedMethodHolderTest {
+
+  private static final LambdaWrapperHolder holder = LambdaWrapperHolder.builder()
+      .add(LambdaWrapper.class)
+      .build();
+
+  @Test
+  public void instrumentTest() {
+    LatencyRegistry registry = new LatencyRegistry();
+    Method method = ReflectionUtil.getMethod(TestClass.class, "sleep", Long.class);
+    InstrumentedMethodHolder<LambdaWrapper, TestClass, Long> instrumented = holder
+        .<TestClass, Long>wrapSafe(method)
+        .instrument(registry, 1);
+
+    Assertions.assertEquals(2_000_000L, instrumented.invoke(new TestClass(), 2_000_000L));
+    instrumented.invoke(new TestClass(), 0L);
+
+    HistogramSnapshot snapshot = instrumented.snapshot();
+    Assertions.assertEquals(2, snapshot.getCount());
+    Assertions.assertTrue(snapshot.getMax() >= 2_000_000L);
+    Assertions.assertSame(registry.getHistogram(method), instrumented.getHistogram());
+  }
+
+  @Test
+  public void samplingTest() {
+    LatencyRegistry registry = new LatencyRegistry();
+    Method method = ReflectionUtil.getMethod(TestClass.class, "twice", String.class);
+    InstrumentedMethodHolder<LambdaWrapper, Void, String> instrumented = holder
+        .<Void, String>wrapSafe(method)
+        .instrument(registry, 4);
+
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertEquals("aa", instrumented.invokeStatic("a"));
+    }
+
+    Map<Executable, HistogramSnapshot> snapshots = registry.snapshotAndReset();
+    Assertions.assertEquals(2, snapshots.get(method).getCount());
+    Assertions.assertEquals(0, instrumented.snapshot().getCount());
+    Assertions.assertThrows(RuntimeException.class,
+                            () -> holder.wrapSafe(method).instrument(registry, 0));
+  }
+
+  public static class TestClass {
+
+    public static String twice(String text) {
+      return text + text;
+    }
+
+    public Long sleep(Long nanos) {
+      long deadline = System.nanoTime() + nanos;
+      while (System.nanoTime() < deadline) {
+        Thread.yield();
+      }
+      return nanos;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import tech.hiddenproject.aide.optional.Try;
 import tech.hiddenproject.aide.reflection.annotation.ExactInvoker;
 import tech.hiddenproject.aide.reflection.annotation.Invoker;
 import tech.hiddenproject.aide.reflection.exception.ReflectionException;
@@ -15,7 +16,13 @@ import tech.hiddenproject.aide.reflection.signature.MatcherSignature;
 import tech.hiddenproject.aide.reflection.signature.MethodSignature;
 import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * @author Danila Rassokhin
@@ -103,6 +110,27 @@ public class LambdaWrapperHolderTest {
     Mockito.verifyNoMoreInteractions(caller);
   }
 
+  @Test
+  public void generatedMatcherTest() {
+    LambdaWrapperHolder customHolder = LambdaWrapperHolder.builder()
+        .add(CustomWrapper.class)
+        .build();
+    Method convert = ReflectionUtil.getMethod(TestClass.class, "callConvert", String.class);
+    Method action = ReflectionUtil.getMethod(TestClass.class, "callAction");
+    TestClass caller = Mockito.mock(TestClass.class);
+    Mockito.when(caller.callConvert(anyString())).thenReturn(2);
+
+    MethodHolder<CustomWrapper, TestClass, Integer> convertHolder = customHolder.wrapSafe(
+        convert, CustomWrapper.class);
+    MethodHolder<CustomWrapper, TestClass, Void> actionHolder = customHolder.wrapSafe(
+        action, CustomWrapper.class);
+
+    Assertions.assertEquals(2, convertHolder.invoke(caller, "Hi"));
+    Assertions.assertNull(actionHolder.invoke(caller));
+    Mockito.verify(caller).callConvert("Hi");
+    Mockito.verify(caller).callAction();
+  }
+
   @Test
   public void publicFilterTest() {
     holder.setFilter(ExecutableFilter.PUBLIC_ONLY);
@@ -118,6 +146,111 @@ public class LambdaWrapperHolderTest {
     Assertions.assertThrows(RuntimeException.class, () -> lambdaWrapperHolder.wrapSafe(privateMethod));
   }
 
+  @Test
+  public void wrapFunctionTest() {
+    Method realMethod = ReflectionUtil.getMethod(TestClass.class, "callNoWrapper");
+
+    Function<TestClass, Integer> function = holder.wrapFunction(realMethod);
+    ToIntFunction<TestClass> toIntFunction = holder.wrapToIntFunction(realMethod);
+
+    Assertions.assertEquals(0, function.apply(new TestClass()));
+    Assertions.assertEquals(0, toIntFunction.applyAsInt(new TestClass()));
+  }
+
+  @Test
+  public void wrapBiFunctionTest() {
+    Method realMethod = ReflectionUtil.getMethod(TestClass.class, "callConvert", String.class);
+
+    BiFunction<TestClass, String, Integer> function = holder.wrapBiFunction(realMethod);
+
+    Assertions.assertEquals(2, function.apply(new TestClass(), "Hi"));
+  }
+
+  @Test
+  public void wrapBoundSupplierTest() {
+    Method realMethod = ReflectionUtil.getMethod(TestClass.class, "callConvert", String.class);
+    Method getter = ReflectionUtil.getMethod(TestClass.class, "callNoWrapper");
+    TestClass caller = new TestClass();
+
+    Function<String, Integer> function = holder.wrapFunction(realMethod, caller);
+    Supplier<Integer> supplier = holder.wrapSupplier(getter, caller);
+
+    Assertions.assertEquals(5, function.apply("Hello"));
+    Assertions.assertEquals(0, supplier.get());
+    Function<String, Integer> other = holder.wrapFunction(realMethod, new TestClass());
+    Assertions.assertNotSame(function, other);
+    Assertions.assertSame(function.getClass(), other.getClass());
+    Assertions.assertEquals(2, other.apply("Hi"));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> holder.wrapSupplier(getter, new Object()));
+  }
+
+  @Test
+  public void wrapConstructorSupplierTest() {
+    Constructor<TestClass> constructor = ReflectionUtil.getConstructor(TestClass.class);
+
+    Supplier<TestClass> supplier = holder.wrapSupplier(constructor);
+
+    Assertions.assertNotNull(supplier.get());
+    Assertions.assertNotSame(supplier.get(), supplier.get());
+  }
+
+  @Test
+  public void wrapFunctionalInvalidArityTest() {
+    Method realMethod = ReflectionUtil.getMethod(TestClass.class, "callConvert", String.class);
+
+    Assertions.assertThrows(ReflectionException.class, () -> holder.wrapFunction(realMethod));
+  }
+
+  @Test
+  public void builderIsolationTest() {
+    LambdaWrapperHolder first = LambdaWrapperHolder.builder().add(TestWrapper.class).build();
+    LambdaWrapperHolder second = LambdaWrapperHolder.builder()
+        .lookup(MethodHandles.lookup())
+        .build();
+    Method realMethod = ReflectionUtil.getMethod(TestClass.class, "callAction");
+
+    first.setFilter(ExecutableFilter.ANY);
+
+    Assertions.assertEquals(ExecutableFilter.PUBLIC_ONLY, second.getFilter());
+    Assertions.assertTrue(first.canBeWrapped(realMethod));
+    Assertions.assertFalse(second.canBeWrapped(realMethod));
+  }
+
+  @Test
+  public void wrapperCacheTest() {
+    LambdaWrapperHolder lambdaWrapperHolder = LambdaWrapperHolder.builder()
+        .add(LambdaWrapper.class)
+        .build();
+    Method realMethod = ReflectionUtil.getMethod(TestClass.class, "callNoWrapper");
+
+    WrapperHolder<LambdaWrapper> expected = lambdaWrapperHolder.wrap(realMethod);
+
+    Assertions.assertSame(expected, lambdaWrapperHolder.wrap(realMethod));
+    Assertions.assertSame(lambdaWrapperHolder.wrapFunction(realMethod),
+                          lambdaWrapperHolder.wrapFunction(realMethod));
+  }
+
+  @Test
+  public void tryWrapTest() {
+    LambdaWrapperHolder lambdaWrapperHolder = LambdaWrapperHolder.builder()
+        .add(LambdaWrapper.class)
+        .build();
+    Method realMethod = ReflectionUtil.getMethod(TestClass.class, "callNoWrapper");
+    Method privateMethod = ReflectionUtil.getMethod(TestClass.class, "privateMethod");
+
+    Try<MethodHolder<LambdaWrapper, TestClass, Integer>> wrapped =
+        lambdaWrapperHolder.tryWrapSafe(realMethod);
+    Try<WrapperHolder<TestWrapper>> notRegistered =
+        lambdaWrapperHolder.tryWrap(realMethod, TestWrapper.class);
+    Try<WrapperHolder<LambdaWrapper>> filtered = lambdaWrapperHolder.tryWrap(privateMethod);
+
+    Assertions.assertEquals(0, wrapped.get().invoke(new TestClass()));
+    Assertions.assertTrue(notRegistered.isFailure());
+    Assertions.assertTrue(filtered.isFailure());
+    Assertions.assertEquals(0, filtered.getFailure().getStackTrace().length);
+  }
+
   public interface TestWrapper {
 
     @Invoker
@@ -127,6 +260,15 @@ public class LambdaWrapperHolderTest {
     int convert(Object caller, String text);
   }
 
+  public interface CustomWrapper {
+
+    @Invoker
+    void run(Object caller);
+
+    @Invoker
+    <T> T call(Object caller, Object arg0);
+  }
+
   public interface InvalidTestWrapper {
 
     void invalid();
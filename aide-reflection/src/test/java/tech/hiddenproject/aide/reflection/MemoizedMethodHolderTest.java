@@ -0,0 +1,145 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class MemoizedMethodHolderTest {
+
+  private static final LambdaWrapperHolder holder = LambdaWrapperHolder.builder()
+      .add(LambdaWrapper.class)
+      .build();
+
+  @BeforeEach
+  public void reset() {
+    TestClass.CALLS.set(0);
+    TestClass.latch = new CountDownLatch(0);
+  }
+
+  @Test
+  public void memoizeTest() {
+    Method method = ReflectionUtil.getMethod(TestClass.class, "square", Integer.class);
+    MethodHolder<LambdaWrapper, Void, Integer> methodHolder = holder.wrapSafe(method);
+    MemoizedMethodHolder<LambdaWrapper, Void, Integer> memoized = methodHolder.memoize();
+
+    Assertions.assertEquals(4, memoized.invokeStatic(2));
+    Assertions.assertEquals(4, memoized.invokeStatic(2));
+    Assertions.assertEquals(9, memoized.invokeStatic(3));
+    Assertions.assertEquals(2, TestClass.CALLS.get());
+
+    Assertions.assertEquals(4, methodHolder.invokeStatic(2));
+    Assertions.assertEquals(3, TestClass.CALLS.get());
+
+    memoized.invalidateStatic(2);
+    Assertions.assertEquals(4, memoized.invokeStatic(2));
+    Assertions.assertEquals(4, TestClass.CALLS.get());
+
+    MemoizeStats stats = memoized.getStats();
+    Assertions.assertEquals(1, stats.getHitCount());
+    Assertions.assertEquals(3, stats.getMissCount());
+    Assertions.assertEquals(2, stats.getSize());
+    Assertions.assertEquals(0.25, stats.getHitRate());
+  }
+
+  @Test
+  public void evictionTest() {
+    AtomicLong time = new AtomicLong();
+    Method method = ReflectionUtil.getMethod(TestClass.class, "square", Integer.class);
+    MemoizedMethodHolder<LambdaWrapper, Void, Integer> memoized = holder
+        .<Void, Integer>wrapSafe(method)
+        .memoize(MemoizeConfig.builder()
+                     .maximumSize(2)
+                     .expireAfterWrite(10, TimeUnit.SECONDS)
+                     .ticker(time::get)
+                     .build());
+
+    memoized.invokeStatic(1);
+    memoized.invokeStatic(2);
+    memoized.invokeStatic(1);
+    memoized.invokeStatic(3);
+
+    Assertions.assertEquals(2, memoized.getStats().getSize());
+    Assertions.assertEquals(1, memoized.getStats().getEvictionCount());
+    memoized.invokeStatic(1);
+    Assertions.assertEquals(3, TestClass.CALLS.get());
+
+    time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    memoized.invokeStatic(1);
+    Assertions.assertEquals(4, TestClass.CALLS.get());
+    Assertions.assertEquals(2, memoized.getStats().getEvictionCount());
+  }
+
+  @Test
+  public void singleFlightTest() throws Exception {
+    Method method = ReflectionUtil.getMethod(TestClass.class, "square", Integer.class);
+    MemoizedMethodHolder<LambdaWrapper, Void, Integer> memoized = holder
+        .<Void, Integer>wrapSafe(method)
+        .memoize();
+    TestClass.latch = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      List<CompletableFuture<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(memoized.invokeStaticAsync(executor, 5));
+      }
+      while (TestClass.CALLS.get() == 0) {
+        Thread.yield();
+      }
+      Thread.sleep(50);
+      TestClass.latch.countDown();
+
+      for (CompletableFuture<Integer> result : results) {
+        Assertions.assertEquals(25, result.get(5, TimeUnit.SECONDS));
+      }
+      Assertions.assertEquals(1, TestClass.CALLS.get());
+      Assertions.assertEquals(7, memoized.getStats().getHitCount());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void exceptionTest() {
+    Method method = ReflectionUtil.getMethod(TestClass.class, "square", Integer.class);
+    MemoizedMethodHolder<LambdaWrapper, Void, Integer> memoized = holder
+        .<Void, Integer>wrapSafe(method)
+        .memoize();
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> memoized.invokeStatic(-1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> memoized.invokeStatic(-1));
+    Assertions.assertEquals(2, TestClass.CALLS.get());
+    Assertions.assertEquals(0, memoized.getStats().getSize());
+  }
+
+  public static class TestClass {
+
+    private static final AtomicInteger CALLS = new AtomicInteger();
+
+    private static volatile CountDownLatch latch = new CountDownLatch(0);
+
+    public static Integer square(Integer value) throws InterruptedException {
+      CALLS.incrementAndGet();
+      latch.await();
+      if (value < 0) {
+        throw new IllegalArgumentException("Negative value");
+      }
+      return value * value;
+    }
+  }
+}
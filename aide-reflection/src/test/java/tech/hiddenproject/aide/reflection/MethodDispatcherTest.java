@@ -0,0 +1,105 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class MethodDispatcherTest {
+
+  @Test
+  public void invokeOverloadTest() {
+    MethodDispatcher<TestClass> dispatcher = MethodDispatcher.of(TestClass.class);
+    TestClass testClass = new TestClass();
+
+    Assertions.assertEquals("Object", dispatcher.invoke(testClass, "handle", 1));
+    Assertions.assertEquals("String", dispatcher.invoke(testClass, "handle", "Hi"));
+    Assertions.assertEquals("Object", dispatcher.invoke(testClass, "handle", 1L));
+    Assertions.assertEquals("List", dispatcher.invoke(testClass, "handle", new ArrayList<>()));
+    Assertions.assertEquals("int, Object", dispatcher.invoke(testClass, "handle", 1, 2));
+  }
+
+  @Test
+  public void boxingPhaseTest() throws NoSuchMethodException {
+    MethodDispatcher<TestClass> dispatcher = MethodDispatcher.of(TestClass.class);
+    TestClass testClass = new TestClass();
+
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertEquals("Integer", dispatcher.invoke(testClass, "convert", i));
+    }
+    Assertions.assertEquals(TestClass.class.getMethod("convert", int.class),
+                            dispatcher.resolve("convert", int.class));
+    Assertions.assertEquals(TestClass.class.getMethod("handle", int.class),
+                            dispatcher.resolve("handle", int.class));
+    Assertions.assertEquals("int, Object", dispatcher.invoke(testClass, "handle", 1, 2));
+  }
+
+  @Test
+  public void invokeStaticTest() {
+    MethodDispatcher<TestClass> dispatcher = MethodDispatcher.of(TestClass.class);
+
+    Integer result = dispatcher.invokeStatic("sum", 1, 2);
+
+    Assertions.assertEquals(3, result);
+  }
+
+  @Test
+  public void resolveTest() throws NoSuchMethodException {
+    MethodDispatcher<TestClass> dispatcher = MethodDispatcher.of(TestClass.class);
+
+    Assertions.assertEquals(TestClass.class.getMethod("handle", String.class),
+                            dispatcher.resolve("handle", String.class));
+    Assertions.assertEquals(TestClass.class.getMethod("handle", Collection.class),
+                            dispatcher.resolve("handle", Collection.class));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> dispatcher.resolve("handle", (Class<?>) null));
+    Assertions.assertThrows(ReflectionException.class, () -> dispatcher.resolve("missing"));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> dispatcher.resolve("handle", int.class, int.class, int.class));
+  }
+
+  public static class TestClass {
+
+    public static int sum(int a, int b) {
+      return a + b;
+    }
+
+    public String handle(int value) {
+      return "int";
+    }
+
+    public String handle(String value) {
+      return "String";
+    }
+
+    public String handle(Object value) {
+      return "Object";
+    }
+
+    public String handle(Collection<?> value) {
+      return "Collection";
+    }
+
+    public String handle(List<?> value) {
+      return "List";
+    }
+
+    public String handle(int value, Object other) {
+      return "int, Object";
+    }
+
+    public String convert(int value) {
+      return "int";
+    }
+
+    public String convert(Integer value) {
+      return "Integer";
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class MethodHolderTest {
+
+  private static final LambdaWrapperHolder holder = LambdaWrapperHolder.builder()
+      .add(LambdaWrapper.class)
+      .build();
+
+  @Test
+  public void invokeAsyncTest() {
+    Method method = ReflectionUtil.getMethod(TestClass.class, "length", String.class);
+    Method staticMethod = ReflectionUtil.getMethod(TestClass.class, "twice", String.class);
+    MethodHolder<LambdaWrapper, TestClass, Integer> methodHolder = holder.wrapSafe(method);
+    MethodHolder<LambdaWrapper, Void, String> staticHolder = holder.wrapSafe(staticMethod);
+
+    CompletableFuture<Integer> result = methodHolder.invokeAsync(new TestClass(), "Hello");
+    CompletableFuture<String> staticResult = staticHolder.invokeStaticAsync("Hi");
+
+    Assertions.assertEquals(5, result.join());
+    Assertions.assertEquals("HiHi", staticResult.join());
+  }
+
+  @Test
+  public void invokeAsyncExecutorTest() {
+    Method method = ReflectionUtil.getMethod(TestClass.class, "thread");
+    MethodHolder<LambdaWrapper, TestClass, String> methodHolder = holder.wrapSafe(method);
+    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "aide-test"));
+
+    try {
+      Assertions.assertEquals("aide-test",
+                              methodHolder.invokeAsync(executor, new TestClass()).join());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void invokeAllTest() {
+    Method method = ReflectionUtil.getMethod(TestClass.class, "length", String.class);
+    MethodHolder<LambdaWrapper, TestClass, Integer> methodHolder = holder.wrapSafe(method);
+    List<TestClass> callers = new ArrayList<>();
+    callers.add(new TestClass());
+    callers.add(new TestClass());
+
+    List<Integer> results = methodHolder.invokeAll(callers, "Hello");
+    Integer[] arrayResults = methodHolder.invokeAll(
+        callers.toArray(new TestClass[0]), new Integer[2], "Hi");
+
+    Assertions.assertEquals(2, results.size());
+    Assertions.assertEquals(5, results.get(1));
+    Assertions.assertArrayEquals(new Integer[]{2, 2}, arrayResults);
+  }
+
+  @Test
+  public void invokeAllParallelTest() {
+    Method method = ReflectionUtil.getMethod(TestClass.class, "getId");
+    MethodHolder<LambdaWrapper, TestClass, Integer> methodHolder = holder.wrapSafe(method);
+    TestClass[] callers = new TestClass[10_000];
+    for (int i = 0; i < callers.length; i++) {
+      callers[i] = new TestClass(i);
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    Integer[] results = methodHolder.invokeAllParallel(pool, callers, new Integer[callers.length]);
+    pool.shutdown();
+
+    for (int i = 0; i < callers.length; i++) {
+      Assertions.assertEquals(i, results[i]);
+    }
+    Assertions.assertThrows(RuntimeException.class,
+                            () -> methodHolder.invokeAll(callers, new Integer[1]));
+  }
+
+  public static class TestClass {
+
+    private final int id;
+
+    public TestClass() {
+      this(0);
+    }
+
+    public TestClass(int id) {
+      this.id = id;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public static String twice(String text) {
+      return text + text;
+    }
+
+    public int length(String text) {
+      return text.length();
+    }
+
+    public String thread() {
+      return Thread.currentThread().getName();
+    }
+  }
+}
@@ -2,6 +2,8 @@ package tech.hiddenproject.aide.reflection;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.optional.Try;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
 import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
 
 import java.lang.reflect.Method;
@@ -29,6 +31,19 @@ public class ReflectionUtilTest {
     Assertions.assertEquals(expected, actual);
   }
 
+  @Test
+  public void tryGetMethodTest() throws NoSuchMethodException {
+    Method expected = TestClass.class.getDeclaredMethod("get", Object.class, Object.class);
+
+    Try<Method> actual = ReflectionUtil.tryGetMethod(TestClass.class, "get", Object.class,
+                                                     Object.class);
+    Try<Method> missing = ReflectionUtil.tryGetMethod(TestClass.class, "get", String.class);
+
+    Assertions.assertEquals(expected, actual.get());
+    Assertions.assertTrue(missing.isFailure());
+    Assertions.assertThrows(ReflectionException.class, missing::get);
+  }
+
   @Test
   public void getArgTypesTest() {
     Object[] args = new Object[]{"Hi", 1};
@@ -39,6 +54,13 @@ public class ReflectionUtilTest {
     Assertions.assertArrayEquals(expected, actual);
   }
 
+  @Test
+  public void getNullArgTypesTest() {
+    Class<?>[] actual = ReflectionUtil.getVarArgTypes("Hi", null);
+
+    Assertions.assertArrayEquals(new Class[]{String.class, null}, actual);
+  }
+
   public static class TestClass {
 
     public Object get() {
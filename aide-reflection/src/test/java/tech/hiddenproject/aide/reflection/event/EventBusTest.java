@@ -0,0 +1,178 @@
+package tech.hiddenproject.aide.reflection.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class EventBusTest {
+
+  @Test
+  public void publishTest() {
+    EventBus eventBus = EventBus.builder().build();
+    TestListener listener = new TestListener();
+    eventBus.register(listener);
+
+    eventBus.publish(new UserCreated("A"));
+    eventBus.publish("B");
+
+    Assertions.assertEquals(Collections.singletonList("A"), listener.created);
+    Assertions.assertEquals(2, listener.events.size());
+    Assertions.assertEquals(1, listener.named.size());
+    Assertions.assertTrue(eventBus.hasSubscribers(Integer.class));
+  }
+
+  @Test
+  public void unregisterTest() {
+    EventBus eventBus = EventBus.builder().build();
+    TestListener listener = new TestListener();
+    eventBus.register(listener);
+    eventBus.publish(new UserCreated("A"));
+
+    eventBus.unregister(listener);
+    eventBus.publish(new UserCreated("B"));
+
+    Assertions.assertEquals(Collections.singletonList("A"), listener.created);
+    Assertions.assertFalse(eventBus.hasSubscribers(UserCreated.class));
+  }
+
+  @Test
+  public void publishAsyncTest() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+    EventBus eventBus = EventBus.builder()
+        .exceptionHandler((t, event) -> {
+          errors.add(t);
+          latch.countDown();
+        })
+        .build();
+    TestListener listener = new TestListener();
+    eventBus.register(listener);
+
+    for (int i = 0; i < 100; i++) {
+      eventBus.publishAsync(new UserCreated(String.valueOf(i)));
+    }
+    eventBus.publishAsync(new Failure());
+
+    Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(100, listener.created.size());
+    Assertions.assertEquals("99", listener.created.get(99));
+    Assertions.assertEquals(1, errors.size());
+  }
+
+  @Test
+  public void throwingHandlerTest() {
+    EventBus eventBus = EventBus.builder()
+        .executor(Runnable::run)
+        .exceptionHandler((t, event) -> {
+          throw new IllegalStateException("Handler failed");
+        })
+        .build();
+    TestListener listener = new TestListener();
+    eventBus.register(listener);
+
+    eventBus.publishAsync(new Failure());
+    eventBus.publishAsync(new UserCreated("A"));
+
+    Assertions.assertEquals(Collections.singletonList("A"), listener.created);
+  }
+
+  @Test
+  public void rejectingExecutorTest() {
+    AtomicBoolean reject = new AtomicBoolean(true);
+    EventBus eventBus = EventBus.builder()
+        .executor(task -> {
+          if (reject.get()) {
+            throw new RejectedExecutionException();
+          }
+          task.run();
+        })
+        .build();
+    TestListener listener = new TestListener();
+    eventBus.register(listener);
+
+    Assertions.assertThrows(RejectedExecutionException.class,
+                            () -> eventBus.publishAsync(new UserCreated("A")));
+    reject.set(false);
+    eventBus.publishAsync(new UserCreated("B"));
+
+    Assertions.assertEquals(Arrays.asList("A", "B"), listener.created);
+  }
+
+  @Test
+  public void invalidListenerTest() {
+    EventBus eventBus = EventBus.builder().build();
+
+    Assertions.assertThrows(ReflectionException.class, () -> eventBus.register(new Object()));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> eventBus.register(new InvalidListener()));
+  }
+
+  public interface Named {
+
+    String getName();
+  }
+
+  public static class UserCreated implements Named {
+
+    private final String name;
+
+    public UserCreated(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+
+  public static class Failure {
+
+  }
+
+  public static class TestListener {
+
+    private final List<String> created = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+    private final List<Named> named = new ArrayList<>();
+
+    @Subscribe
+    public void onCreated(UserCreated event) {
+      created.add(event.getName());
+    }
+
+    @Subscribe
+    public void onNamed(Named event) {
+      named.add(event);
+    }
+
+    @Subscribe
+    public void onEvent(Object event) {
+      events.add(event);
+    }
+
+    @Subscribe
+    public void onFailure(Failure event) {
+      throw new IllegalStateException();
+    }
+  }
+
+  public static class InvalidListener {
+
+    @Subscribe
+    public void onEvent(Object first, Object second) {
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package tech.hiddenproject.aide.reflection.function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.LambdaWrapper;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.MethodHolder;
+import tech.hiddenproject.aide.reflection.WrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.lang.reflect.Executable;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class MethodReferenceTest {
+
+  private static final LambdaWrapperHolder holder = LambdaWrapperHolder.DEFAULT;
+
+  @Test
+  public void resolveTest() {
+    SerializableFunction<TestClass, String> getter = TestClass::getName;
+    SerializableSupplier<TestClass> constructor = TestClass::new;
+
+    Executable executable = getter.getExecutable();
+
+    Assertions.assertEquals(ReflectionUtil.getMethod(TestClass.class, "getName"), executable);
+    Assertions.assertSame(executable, getter.getExecutable());
+    Assertions.assertEquals(ReflectionUtil.getConstructor(TestClass.class),
+                            constructor.getExecutable());
+  }
+
+  @Test
+  public void wrapTest() {
+    TestClass testClass = new TestClass();
+
+    WrapperHolder<LambdaWrapper> setter = holder.wrap(TestClass::setName);
+    setter.getWrapper().set(testClass, "Aide");
+    MethodHolder<LambdaWrapper, TestClass, String> getter = holder.wrapSafe(TestClass::getName);
+    MethodHolder<LambdaWrapper, Void, TestClass> constructor = holder.wrapSafe(TestClass::new);
+    MethodHolder<LambdaWrapper, Void, Integer> sum = holder.wrapStaticSafe(TestClass::sum);
+    MethodHolder<LambdaWrapper, TestClass, Void> rename = holder.wrapSafe(TestClass::setName);
+    MethodHolder<LambdaWrapper, Void, String> greet = holder.wrapStaticSafe(TestClass::greet);
+
+    Assertions.assertEquals("Aide", getter.invoke(testClass));
+    Assertions.assertNotNull(constructor.invokeStatic());
+    Assertions.assertEquals(3, sum.invokeStatic(1, 2));
+    rename.invoke(testClass, "Aide 2");
+    Assertions.assertEquals("Aide 2", testClass.getName());
+    Assertions.assertEquals("Hello, Aide", greet.invokeStatic("Aide"));
+  }
+
+  @Test
+  public void staticMismatchTest() {
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> holder.wrapSafe(TestClass::sum));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> holder.wrapStaticSafe(TestClass::getName));
+  }
+
+  @Test
+  public void invalidReferenceTest() {
+    TestClass testClass = new TestClass();
+    SerializableFunction<TestClass, String> lambda = t -> t.getName();
+    SerializableSupplier<String> bound = testClass::getName;
+
+    Assertions.assertThrows(ReflectionException.class, lambda::getExecutable);
+    Assertions.assertThrows(ReflectionException.class, bound::getExecutable);
+  }
+
+  public static class TestClass {
+
+    private String name;
+
+    public static int sum(Integer a, Integer b) {
+      return a + b;
+    }
+
+    public static String greet(String name) {
+      return "Hello, " + name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package tech.hiddenproject.aide.reflection.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class LatencyHistogramTest {
+
+  @Test
+  public void bucketsTest() {
+    for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+      long lower = LatencyHistogram.lowerBound(i);
+      long upper = LatencyHistogram.upperBound(i);
+      Assertions.assertEquals(i, LatencyHistogram.bucketIndex(lower));
+      Assertions.assertEquals(i, LatencyHistogram.bucketIndex(upper));
+      Assertions.assertTrue(upper - lower <= lower / LatencyHistogram.SUB_BUCKETS);
+    }
+    Assertions.assertEquals(0, LatencyHistogram.bucketIndex(-5));
+    Assertions.assertEquals(LatencyHistogram.BUCKET_COUNT - 1,
+                            LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void snapshotTest() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 1000L);
+    }
+
+    HistogramSnapshot snapshot = histogram.snapshot();
+    Assertions.assertEquals(100, snapshot.getCount());
+    Assertions.assertEquals(50_500, snapshot.getMean());
+    Assertions.assertEquals(100_000, snapshot.getMax());
+    Assertions.assertEquals(100_000, snapshot.getValueAtPercentile(100));
+    assertClose(50_000, snapshot.getValueAtPercentile(50));
+    assertClose(99_000, snapshot.getValueAtPercentile(99));
+
+    HistogramSnapshot beforeReset = histogram.snapshotAndReset();
+    Assertions.assertEquals(100, beforeReset.getCount());
+    Assertions.assertEquals(0, histogram.snapshot().getCount());
+    Assertions.assertEquals(0, histogram.snapshot().getValueAtPercentile(99));
+    Assertions.assertThrows(RuntimeException.class, () -> snapshot.getValueAtPercentile(101));
+  }
+
+  private void assertClose(long expected, long actual) {
+    Assertions.assertTrue(actual >= expected && actual <= expected * 1.125,
+                          () -> "Expected about " + expected + " but was " + actual);
+  }
+}
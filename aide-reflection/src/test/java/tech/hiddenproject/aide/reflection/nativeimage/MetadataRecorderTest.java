@@ -0,0 +1,124 @@
+package tech.hiddenproject.aide.reflection.nativeimage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.LambdaWrapper;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.property.PropertyPath;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class MetadataRecorderTest {
+
+  @Test
+  public void reflectConfigTest() throws NoSuchFieldException {
+    MetadataRecorder recorder = new MetadataRecorder();
+    recorder.addExecutable(ReflectionUtil.getMethod(TestClass.class, "join", String[].class,
+                                                    int.class));
+    recorder.addExecutable(ReflectionUtil.getConstructor(TestClass.class));
+    recorder.addField(TestClass.class.getField("value"));
+    recorder.addType(Function.class);
+
+    String expected = "[\n"
+        + "  {\n"
+        + "    \"name\": \"java.util.function.Function\",\n"
+        + "    \"queryAllPublicMethods\": true\n"
+        + "  },\n"
+        + "  {\n"
+        + "    \"name\": \"tech.hiddenproject.aide.reflection.nativeimage."
+        + "MetadataRecorderTest$TestClass\",\n"
+        + "    \"methods\": [\n"
+        + "      {\"name\": \"<init>\", \"parameterTypes\": []},\n"
+        + "      {\"name\": \"join\", \"parameterTypes\": [\"java.lang.String[]\", \"int\"]}\n"
+        + "    ],\n"
+        + "    \"fields\": [\n"
+        + "      {\"name\": \"value\"}\n"
+        + "    ]\n"
+        + "  }\n"
+        + "]\n";
+    Assertions.assertEquals(expected, recorder.toReflectConfig());
+  }
+
+  @Test
+  public void recordWrapTest() {
+    MetadataRecorder recorder = new MetadataRecorder();
+    MetadataRecorder.setGlobal(recorder);
+    try {
+      LambdaWrapperHolder holder = LambdaWrapperHolder.builder().add(LambdaWrapper.class).build();
+      Method method = ReflectionUtil.getMethod(TestClass.class, "getName");
+      holder.wrap(method);
+      holder.wrapFunction(method);
+    } finally {
+      MetadataRecorder.setGlobal(null);
+    }
+
+    Assertions.assertTrue(recorder.getTypes().contains(TestClass.class));
+    Assertions.assertTrue(recorder.getTypes().contains(LambdaWrapper.class));
+    Assertions.assertTrue(recorder.getTypes().contains(Function.class));
+    String metadata = recorder.toReachabilityMetadata();
+    Assertions.assertTrue(metadata.startsWith("{\n  \"reflection\": [\n"));
+    Assertions.assertTrue(metadata.contains(
+        "\"type\": \"tech.hiddenproject.aide.reflection.LambdaWrapper\",\n"
+            + "      \"queryAllPublicMethods\": true,\n"
+            + "      \"methods\": ["));
+    Assertions.assertTrue(metadata.contains(
+        "{\"name\": \"get\", \"parameterTypes\": [\"java.lang.Object\"]}"));
+    Assertions.assertTrue(metadata.contains(
+        "{\"name\": \"getName\", \"parameterTypes\": []}"));
+  }
+
+  @Test
+  public void recordFieldTest() {
+    MetadataRecorder recorder = new MetadataRecorder();
+    MetadataRecorder.setGlobal(recorder);
+    try {
+      PropertyPath.compile(LambdaWrapperHolder.DEFAULT, TestClass.class, "value");
+    } finally {
+      MetadataRecorder.setGlobal(null);
+    }
+
+    Assertions.assertTrue(recorder.toReflectConfig().contains(
+        "    \"fields\": [\n      {\"name\": \"value\"}\n    ]"));
+  }
+
+  @Test
+  public void writeTest() throws IOException {
+    MetadataRecorder recorder = new MetadataRecorder();
+    recorder.addType(Function.class);
+    Path directory = Files.createTempDirectory("aide-native").resolve("META-INF");
+
+    recorder.write(directory);
+
+    Assertions.assertEquals(recorder.toReflectConfig(), new String(
+        Files.readAllBytes(directory.resolve(MetadataRecorder.REFLECT_CONFIG)),
+        StandardCharsets.UTF_8));
+    Assertions.assertEquals(recorder.toReachabilityMetadata(), new String(
+        Files.readAllBytes(directory.resolve(MetadataRecorder.REACHABILITY_METADATA)),
+        StandardCharsets.UTF_8));
+  }
+
+  public static class TestClass {
+
+    public int value;
+
+    public TestClass() {
+    }
+
+    public static String join(String[] values, int limit) {
+      return String.join(",", values).substring(0, limit);
+    }
+
+    public String getName() {
+      return "test";
+    }
+  }
+}
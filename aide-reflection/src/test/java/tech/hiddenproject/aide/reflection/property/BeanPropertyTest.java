@@ -0,0 +1,82 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class BeanPropertyTest {
+
+  @Test
+  public void ofTest() {
+    List<BeanProperty> properties = BeanProperty.of(TestBean.class);
+
+    Assertions.assertSame(properties, BeanProperty.of(TestBean.class));
+    Assertions.assertEquals(
+        Arrays.asList("URL", "active", "name"),
+        properties.stream().map(BeanProperty::getName).collect(Collectors.toList())
+    );
+    Assertions.assertEquals(boolean.class, properties.get(1).getType());
+    Assertions.assertEquals("isActive", properties.get(1).getGetter().getName());
+    Assertions.assertEquals(String.class, properties.get(2).getSetter().getParameterTypes()[0]);
+  }
+
+  public static class TestBean {
+
+    private String name;
+    private boolean active;
+    private String url;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public void setName(Object name) {
+      this.name = String.valueOf(name);
+    }
+
+    public void setName(int name) {
+      this.name = String.valueOf(name);
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public boolean getActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+
+    public String getURL() {
+      return url;
+    }
+
+    public void setURL(String url) {
+      this.url = url;
+    }
+
+    public String getReadOnly() {
+      return "";
+    }
+
+    public void setMismatched(int value) {
+    }
+
+    public String getMismatched() {
+      return "";
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class BinderTest {
+
+  @Test
+  public void setterBindingTest() {
+    Binder<User> binder = Binder.of(User.class);
+    Map<String, Object> values = new HashMap<>();
+    values.put("id", 7);
+    values.put("name", "Alice");
+    values.put("active", true);
+    values.put("email", "alice@example.com");
+    values.put("unknown", "ignored");
+
+    User user = binder.bind(values);
+
+    Assertions.assertEquals(7L, user.getId());
+    Assertions.assertEquals("Alice", user.getName());
+    Assertions.assertTrue(user.isActive());
+    Assertions.assertEquals("alice@example.com", user.email);
+    Assertions.assertEquals(Arrays.asList("active", "email", "id", "name"),
+                            binder.getPropertyNames());
+    Assertions.assertEquals(Arrays.asList("active", "email", "id", "name"),
+                            Arrays.asList(binder.toMap(user).keySet().toArray()));
+    Assertions.assertSame(binder, Binder.of(User.class));
+  }
+
+  @Test
+  public void rowBindingTest() {
+    RowBinder<User> rows = Binder.of(User.class).schema("name", "id", "email");
+
+    List<User> users = rows.bindAll(Arrays.asList(
+        new Object[]{"Alice", 1, "alice@example.com"},
+        new Object[]{"Bob", 2L, null}
+    ));
+
+    Assertions.assertEquals("Alice", users.get(0).getName());
+    Assertions.assertEquals(2L, users.get(1).getId());
+    Assertions.assertNull(users.get(1).email);
+    Assertions.assertArrayEquals(new Object[]{"Bob", 2L, null}, rows.toRow(users.get(1)));
+    Assertions.assertSame(rows, Binder.of(User.class).schema("name", "id", "email"));
+    Assertions.assertThrows(ReflectionException.class, () -> rows.bind(new Object[]{"Carol"}));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> Binder.of(User.class).schema("name", "unknown"));
+  }
+
+  @Test
+  public void constructorBindingTest() {
+    Binder<Point> binder = Binder.of(Point.class);
+    RowBinder<Point> rows = binder.schema("y", "label", "x");
+    Map<String, Object> values = new HashMap<>();
+    values.put("x", 1L);
+    values.put("label", "origin");
+
+    Point point = rows.bind(new Object[]{2.5f, "a", 3});
+    Point fromMap = binder.bind(values);
+
+    Assertions.assertEquals(Arrays.asList("x", "y"), binder.getParameterNames());
+    Assertions.assertEquals(3, point.getX());
+    Assertions.assertEquals(2.5, point.getY());
+    Assertions.assertEquals("a", point.getLabel());
+    Assertions.assertEquals(1, fromMap.getX());
+    Assertions.assertEquals(0.0, fromMap.getY());
+    Assertions.assertEquals("origin", fromMap.getLabel());
+    Assertions.assertArrayEquals(new Object[]{2.5, "a", 3}, rows.toRow(point));
+    Assertions.assertThrows(ReflectionException.class, () -> binder.schema("x", "distance"));
+  }
+
+  public static class User {
+
+    public String email;
+
+    private long id;
+
+    private String name;
+
+    private boolean active;
+
+    public long getId() {
+      return id;
+    }
+
+    public void setId(long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+  }
+
+  public static class Point {
+
+    private final int x;
+
+    private final double y;
+
+    private String label;
+
+    public Point(int x, double y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    public int getX() {
+      return x;
+    }
+
+    public double getY() {
+      return y;
+    }
+
+    public double getDistance() {
+      return Math.sqrt(x * x + y * y);
+    }
+
+    public String getLabel() {
+      return label;
+    }
+
+    public void setLabel(String label) {
+      this.label = label;
+    }
+  }
+}
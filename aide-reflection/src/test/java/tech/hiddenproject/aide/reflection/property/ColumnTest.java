@@ -0,0 +1,152 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class ColumnTest {
+
+  private static final int SIZE = 10_000;
+
+  @Test
+  public void longColumnTest() {
+    LongColumn<Trade> column = LongColumn.of(Trade.class, "volume");
+    List<Trade> trades = createTrades();
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    long[] values = column.extract(trades);
+    long[] parallelValues = column.extractParallel(pool, trades, new long[SIZE]);
+    for (int i = 0; i < values.length; i++) {
+      values[i] *= 2;
+    }
+    column.applyParallel(pool, trades, values);
+
+    Assertions.assertEquals(SIZE - 1, parallelValues[SIZE - 1]);
+    Assertions.assertArrayEquals(values, column.extractParallel(trades));
+    pool.shutdown();
+  }
+
+  @Test
+  public void doubleBufferTest() {
+    DoubleColumn<Trade> column = DoubleColumn.of(Trade.class, "price");
+    List<Trade> trades = createTrades();
+    DoubleBuffer buffer = ByteBuffer.allocateDirect(Double.BYTES * (SIZE + 1)).asDoubleBuffer();
+    buffer.put(-1);
+
+    column.extractParallel(ForkJoinPool.commonPool(), trades, buffer);
+    ((Buffer) buffer).flip();
+
+    Assertions.assertEquals(SIZE + 1, buffer.remaining());
+    Assertions.assertEquals(-1, buffer.get());
+    Assertions.assertEquals(1.5, buffer.get(4));
+    column.apply(trades, buffer);
+    Assertions.assertEquals(0.5 * (SIZE - 1), trades.get(SIZE - 1).getPrice());
+  }
+
+  @Test
+  public void longBufferTest() {
+    LongColumn<Trade> column = LongColumn.of(Trade.class, "volume");
+    List<Trade> trades = new LinkedList<>(createTrades());
+    LongBuffer buffer = LongBuffer.allocate(SIZE);
+
+    column.extract(trades, buffer);
+
+    Assertions.assertFalse(buffer.hasRemaining());
+    Assertions.assertEquals(10, buffer.get(10));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> column.extract(trades, LongBuffer.allocate(1)));
+  }
+
+  @Test
+  public void directBufferTest() {
+    LongColumn<Trade> volumes = LongColumn.of(Trade.class, "volume");
+    IntColumn<Trade> ids = IntColumn.of(
+        LambdaWrapperHolder.DEFAULT, ReflectionUtil.getMethod(Trade.class, "getId"), null);
+    List<Trade> trades = createTrades();
+    LongBuffer longs = ByteBuffer.allocateDirect(Long.BYTES * SIZE * 2).asLongBuffer();
+    IntBuffer ints = ByteBuffer.allocateDirect(Integer.BYTES * SIZE).asIntBuffer();
+
+    volumes.extract(trades, longs);
+    volumes.extractParallel(ForkJoinPool.commonPool(), trades, longs);
+    ids.extractParallel(ForkJoinPool.commonPool(), trades, ints);
+
+    Assertions.assertEquals(SIZE * 2, longs.position());
+    Assertions.assertEquals(SIZE - 1, longs.get(SIZE - 1));
+    Assertions.assertEquals(SIZE - 1, longs.get(SIZE * 2 - 1));
+    Assertions.assertFalse(ints.hasRemaining());
+    Assertions.assertEquals(10, ints.get(10));
+    ((Buffer) longs).flip();
+    volumes.apply(trades, longs);
+    Assertions.assertEquals(SIZE, longs.position());
+  }
+
+  @Test
+  public void readOnlyColumnTest() {
+    IntColumn<Trade> column = IntColumn.of(
+        LambdaWrapperHolder.DEFAULT, ReflectionUtil.getMethod(Trade.class, "getId"), null);
+    List<Trade> trades = createTrades();
+
+    int[] ids = column.extractParallel(trades);
+
+    Assertions.assertEquals(SIZE - 1, ids[SIZE - 1]);
+    Assertions.assertFalse(column.isWritable());
+    Assertions.assertThrows(ReflectionException.class, () -> column.apply(trades, ids));
+  }
+
+  private List<Trade> createTrades() {
+    List<Trade> trades = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      Trade trade = new Trade(i);
+      trade.setVolume(i);
+      trade.setPrice(i * 0.5);
+      trades.add(trade);
+    }
+    return trades;
+  }
+
+  public static class Trade {
+
+    private final int id;
+    private long volume;
+    private double price;
+
+    public Trade(int id) {
+      this.id = id;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public long getVolume() {
+      return volume;
+    }
+
+    public void setVolume(long volume) {
+      this.volume = volume;
+    }
+
+    public double getPrice() {
+      return price;
+    }
+
+    public void setPrice(double price) {
+      this.price = price;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class ComparatorFactoryTest {
+
+  private static final ComparatorFactory factory = ComparatorFactory.DEFAULT;
+
+  @Test
+  public void primitiveKeysTest() {
+    List<Order> orders = createOrders();
+
+    orders.sort(factory.getComparator(Order.class, SortKey.desc("total"), SortKey.asc("id")));
+
+    Assertions.assertEquals(Arrays.asList(3, 1, 4, 2), ids(orders));
+    orders.sort(factory.getComparator(Order.class, "paid desc, createdAt"));
+    Assertions.assertEquals(Arrays.asList(3, 2, 4, 1), ids(orders));
+  }
+
+  @Test
+  public void pathKeysTest() {
+    List<Order> orders = createOrders();
+
+    orders.sort(factory.getComparator(Order.class, "customer.name nulls first, id desc"));
+    Assertions.assertEquals(Arrays.asList(4, 3, 1, 2), ids(orders));
+
+    orders.sort(factory.getComparator(Order.class, "customer.rank desc nulls last, id"));
+    Assertions.assertEquals(Arrays.asList(1, 3, 2, 4), ids(orders));
+  }
+
+  @Test
+  public void fieldKeysTest() {
+    List<Order> orders = createOrders();
+
+    orders.sort(factory.getComparator(Order.class, "customer.grade nulls last, id"));
+    Assertions.assertEquals(Arrays.asList(2, 1, 3, 4), ids(orders));
+
+    orders.sort(factory.getComparator(Order.class, "customer.city desc nulls first, id"));
+    Assertions.assertEquals(Arrays.asList(4, 1, 3, 2), ids(orders));
+  }
+
+  @Test
+  public void cacheTest() {
+    Comparator<Order> comparator = factory.getComparator(Order.class, "total desc");
+
+    Assertions.assertSame(comparator, factory.getComparator(Order.class, SortKey.desc("total")));
+    Assertions.assertNotSame(comparator, factory.getComparator(Order.class, "total"));
+  }
+
+  @Test
+  public void invalidKeysTest() {
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> factory.getComparator(Order.class, "unknown"));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> factory.getComparator(Order.class, "customer"));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> factory.getComparator(Order.class, "id sideways"));
+  }
+
+  private List<Integer> ids(List<Order> orders) {
+    List<Integer> ids = new ArrayList<>();
+    for (Order order : orders) {
+      ids.add(order.getId());
+    }
+    return ids;
+  }
+
+  private List<Order> createOrders() {
+    Customer alice = new Customer("Alice", (short) 2);
+    Customer bob = new Customer("Bob", (short) 1);
+    alice.grade = 'B';
+    alice.city = "Berlin";
+    bob.grade = 'A';
+    bob.city = "Amsterdam";
+    List<Order> orders = new ArrayList<>();
+    orders.add(new Order(1, 20.0, 300L, false, alice));
+    orders.add(new Order(2, 10.0, 400L, true, bob));
+    orders.add(new Order(3, 30.0, 100L, true, alice));
+    orders.add(new Order(4, 20.0, 200L, false, null));
+    return orders;
+  }
+
+  public static class Customer {
+
+    public char grade;
+    public String city;
+    private final String name;
+    private final short rank;
+
+    public Customer(String name, short rank) {
+      this.name = name;
+      this.rank = rank;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public short getRank() {
+      return rank;
+    }
+  }
+
+  public static class Order {
+
+    private final int id;
+    private final double total;
+    private final long createdAt;
+    private final boolean paid;
+    private final Customer customer;
+
+    public Order(int id, double total, long createdAt, boolean paid, Customer customer) {
+      this.id = id;
+      this.total = total;
+      this.createdAt = createdAt;
+      this.paid = paid;
+      this.customer = customer;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public double getTotal() {
+      return total;
+    }
+
+    public long getCreatedAt() {
+      return createdAt;
+    }
+
+    public boolean isPaid() {
+      return paid;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class IndexedCollectionTest {
+
+  @Test
+  public void equalityTest() {
+    IndexedCollection<Item> items = createItems().addHashIndex("category");
+
+    Assertions.assertEquals(Arrays.asList(1, 3), ids(items.findEqual("category", "book")));
+    Assertions.assertEquals(Collections.singletonList(5), ids(items.findEqual("category", null)));
+    Assertions.assertTrue(items.findEqual("category", "toy").isEmpty());
+    Assertions.assertEquals(Collections.singletonList(2), ids(items.findEqual("price", 20)));
+  }
+
+  @Test
+  public void rangeTest() {
+    IndexedCollection<Item> items = createItems().addSortedIndex("price");
+
+    Assertions.assertEquals(Arrays.asList(1, 2, 4),
+                            ids(items.query().between("price", 10, 30).list()));
+    Assertions.assertEquals(Arrays.asList(2, 4),
+                            ids(items.query().range("price", 10, false, 30, true).list()));
+    Assertions.assertEquals(Arrays.asList(3, 5),
+                            ids(items.query().range("price", 30, false, null, false).list()));
+    Assertions.assertTrue(items.query().between("price", 30, 10).list().isEmpty());
+    Assertions.assertTrue(items.query().range("price", 30, false, 30, true).list().isEmpty());
+    Assertions.assertTrue(items.query().range("price", 30, true, 30, false).list().isEmpty());
+    Assertions.assertEquals(Collections.singletonList(4),
+                            ids(items.query().between("price", 30, 30).list()));
+    Assertions.assertEquals(Collections.singletonList(4), ids(items.findEqual("price", 30)));
+  }
+
+  @Test
+  public void compoundQueryTest() {
+    IndexedCollection<Item> items = createItems()
+        .addHashIndex("category")
+        .addSortedIndex("price");
+
+    Assertions.assertEquals(Collections.singletonList(3), ids(
+        items.query().eq("category", "book").range("price", 15, true, null, false).list()));
+    Assertions.assertEquals(Collections.singletonList(4), ids(
+        items.query().between("price", 10, 30).eq("category", "game").list()));
+    Assertions.assertEquals(Collections.singletonList(1), ids(
+        items.query().eq("category", "book").eq("name", "first").list()));
+    Assertions.assertEquals(0, items.query().eq("category", "game").eq("price", 10).count());
+  }
+
+  @Test
+  public void updateTest() {
+    IndexedCollection<Item> items = createItems()
+        .addHashIndex("category")
+        .addSortedIndex("price");
+    Item item = new Item(6, "sixth", "book", 20);
+
+    Assertions.assertTrue(items.add(item));
+    Assertions.assertFalse(items.add(item));
+    Assertions.assertEquals(Arrays.asList(2, 6),
+                            ids(items.query().eq("price", 20).list()));
+    Assertions.assertEquals(3, items.findEqual("category", "book").size());
+
+    Assertions.assertTrue(items.remove(item));
+    Assertions.assertFalse(items.remove(item));
+    Assertions.assertEquals(Collections.singletonList(2), ids(items.findEqual("price", 20)));
+    Assertions.assertEquals(5, items.size());
+
+    items.clear();
+    Assertions.assertTrue(items.findEqual("category", "book").isEmpty());
+    Assertions.assertThrows(ReflectionException.class, () -> items.addHashIndex("category"));
+    Assertions.assertThrows(ReflectionException.class, () -> items.addSortedIndex("self"));
+  }
+
+  private IndexedCollection<Item> createItems() {
+    IndexedCollection<Item> items = IndexedCollection.create(Item.class);
+    items.addAll(Arrays.asList(
+        new Item(1, "first", "book", 10),
+        new Item(2, "second", "music", 20),
+        new Item(3, "third", "book", 40),
+        new Item(4, "fourth", "game", 30),
+        new Item(5, "fifth", null, 50)
+    ));
+    return items;
+  }
+
+  private List<Integer> ids(List<Item> items) {
+    List<Integer> ids = new ArrayList<>();
+    for (Item item : items) {
+      ids.add(item.getId());
+    }
+    return ids;
+  }
+
+  public static class Item {
+
+    private final int id;
+    private final String name;
+    private final String category;
+    private final int price;
+
+    public Item(int id, String name, String category, int price) {
+      this.id = id;
+      this.name = name;
+      this.category = category;
+      this.price = price;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getCategory() {
+      return category;
+    }
+
+    public int getPrice() {
+      return price;
+    }
+
+    public Item getSelf() {
+      return this;
+    }
+  }
+}
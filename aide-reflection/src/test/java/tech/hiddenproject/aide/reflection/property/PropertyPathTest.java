@@ -0,0 +1,112 @@
+package tech.hiddenproject.aide.reflection.property;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class PropertyPathTest {
+
+  @Test
+  public void readTest() {
+    Order order = new Order(new Customer(new Address("Berlin", 10115)));
+    PropertyPath city = PropertyPath.of(Order.class, "customer.address.city");
+    PropertyPath zip = PropertyPath.of(Order.class, "customer.address.zip");
+
+    Assertions.assertEquals("Berlin", city.read(order));
+    Assertions.assertEquals(10115, (int) zip.read(order));
+    Assertions.assertEquals(String.class, city.getType());
+    Assertions.assertEquals(int.class, zip.getType());
+    Assertions.assertEquals("customer.address", city.getParent().getPath());
+
+    order.getCustomer().address = null;
+    Assertions.assertNull(city.read(order));
+    Assertions.assertNull(zip.read(order));
+    Assertions.assertNull(city.read(null));
+  }
+
+  @Test
+  public void writeTest() {
+    Order order = new Order(new Customer(new Address("Berlin", 10115)));
+    PropertyPath city = PropertyPath.of(Order.class, "customer.address.city");
+    PropertyPath zip = PropertyPath.of(Order.class, "customer.address.zip");
+
+    city.write(order, "Paris");
+    zip.write(order, 75001);
+
+    Assertions.assertEquals("Paris", order.getCustomer().address.getCity());
+    Assertions.assertEquals(75001, order.getCustomer().address.zip);
+
+    order.getCustomer().address = null;
+    Assertions.assertThrows(ReflectionException.class, () -> city.write(order, "Rome"));
+  }
+
+  @Test
+  public void readOnlyTest() {
+    Order order = new Order(new Customer(new Address("Berlin", 10115)));
+    PropertyPath country = PropertyPath.of(Order.class, "customer.address.country");
+
+    Assertions.assertEquals("DE", country.read(order));
+    Assertions.assertFalse(country.isWritable());
+    Assertions.assertThrows(ReflectionException.class, () -> country.write(order, "FR"));
+  }
+
+  @Test
+  public void cacheTest() {
+    PropertyPath city = PropertyPath.of(Order.class, "customer.address.city");
+
+    Assertions.assertSame(city, PropertyPath.of(Order.class, "customer.address.city"));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> PropertyPath.of(Order.class, "customer.unknown"));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> PropertyPath.of(Order.class, "customer..address"));
+    Assertions.assertThrows(ReflectionException.class,
+                            () -> PropertyPath.of(Order.class, "customer.address.zip.value"));
+  }
+
+  public static class Order {
+
+    private final Customer customer;
+
+    public Order(Customer customer) {
+      this.customer = customer;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+  }
+
+  public static class Customer {
+
+    public Address address;
+
+    public Customer(Address address) {
+      this.address = address;
+    }
+  }
+
+  public static class Address {
+
+    public final String country = "DE";
+
+    public int zip;
+
+    private String city;
+
+    public Address(String city, int zip) {
+      this.city = city;
+      this.zip = zip;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+  }
+}
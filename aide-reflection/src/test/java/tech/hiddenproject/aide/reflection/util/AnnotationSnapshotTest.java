@@ -0,0 +1,124 @@
+package tech.hiddenproject.aide.reflection.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class AnnotationSnapshotTest {
+
+  @Test
+  public void attributesTest() throws NoSuchMethodException {
+    Method method = Handler.class.getMethod("orders");
+    AnnotationSnapshot<Route> route = AnnotationSnapshot.of(method, Route.class);
+
+    Assertions.assertEquals(Route.class, route.annotationType());
+    Assertions.assertEquals("/orders", route.getString("path"));
+    Assertions.assertEquals(Arrays.asList("GET", "HEAD"), route.getList("methods"));
+    Assertions.assertEquals(Arrays.asList(200, 404), route.getList("codes"));
+    Assertions.assertEquals(5, route.getInt("timeout"));
+    Assertions.assertTrue(route.getBoolean("secured"));
+    Assertions.assertEquals(String.class, route.getType("body"));
+    Assertions.assertEquals(ElementType.METHOD, route.getEnum("scope"));
+    Assertions.assertEquals("X-Trace", route.<Header>getSnapshot("header").getString("value"));
+    Assertions.assertEquals(Collections.emptyList(), route.getList("extra"));
+    Assertions.assertThrows(UnsupportedOperationException.class,
+                            () -> route.<String>getList("methods").add("POST"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.get("unknown"));
+  }
+
+  @Test
+  public void wrongTypeTest() throws NoSuchMethodException {
+    Method method = Handler.class.getMethod("orders");
+    AnnotationSnapshot<Route> route = AnnotationSnapshot.of(method, Route.class);
+
+    Assertions.assertEquals((short) 3, route.<Short>get("priority"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getInt("priority"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getLong("timeout"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getString("timeout"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getBoolean("path"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getList("path"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getEnum("path"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getSnapshot("path"));
+    Assertions.assertThrows(ReflectionException.class, () -> route.getInt("unknown"));
+  }
+
+  @Test
+  public void cacheTest() throws NoSuchMethodException {
+    Method method = Handler.class.getMethod("orders");
+    AnnotationSnapshot<Route> route = AnnotationSnapshot.of(method, Route.class);
+
+    Assertions.assertSame(route, AnnotationSnapshot.of(method, Route.class));
+    Assertions.assertEquals(route, AnnotationSnapshot.of(method.getAnnotation(Route.class)));
+    Assertions.assertNull(AnnotationSnapshot.of(Handler.class.getMethod("ping"), Route.class));
+    Assertions.assertNull(AnnotationSnapshot.of(Handler.class.getMethod("ping"), Route.class));
+  }
+
+  @Test
+  public void metaAnnotationTest() {
+    AnnotationSnapshot<Route> route = AnnotationSnapshot.of(Handler.class, Route.class);
+
+    Assertions.assertNotNull(route);
+    Assertions.assertEquals("/", route.getString("path"));
+    Assertions.assertEquals(Collections.singletonList("GET"), route.getList("methods"));
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.METHOD, ElementType.TYPE})
+  public @interface Route {
+
+    String path();
+
+    String[] methods() default "GET";
+
+    int[] codes() default 200;
+
+    int timeout() default 5;
+
+    boolean secured() default false;
+
+    Class<?> body() default Void.class;
+
+    ElementType scope() default ElementType.METHOD;
+
+    Header header() default @Header("X-Trace");
+
+    String[] extra() default {};
+
+    short priority() default 3;
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  public @interface Header {
+
+    String value();
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Route(path = "/")
+  public @interface RootController {
+
+  }
+
+  @RootController
+  public static class Handler {
+
+    @Route(path = "/orders", methods = {"GET", "HEAD"}, codes = {200, 404}, secured = true,
+        body = String.class)
+    public void orders() {
+    }
+
+    public void ping() {
+    }
+  }
+}
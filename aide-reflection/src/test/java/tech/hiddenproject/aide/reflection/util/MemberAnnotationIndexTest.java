@@ -0,0 +1,178 @@
+package tech.hiddenproject.aide.reflection.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.LambdaWrapper;
+import tech.hiddenproject.aide.reflection.LambdaWrapperHolder;
+import tech.hiddenproject.aide.reflection.MethodHolder;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class MemberAnnotationIndexTest {
+
+  @Test
+  public void indexTest() {
+    MemberAnnotationIndex index = MemberAnnotationIndex.of(Handler.class);
+
+    Assertions.assertSame(index, MemberAnnotationIndex.of(Handler.class));
+    Assertions.assertEquals(2, index.getMethods(Mapping.class).size());
+    Assertions.assertEquals(1, index.getMethods(GetMapping.class).size());
+    Assertions.assertEquals(1, index.getFields(Mapping.class).size());
+    Assertions.assertEquals(1, index.getConstructors(Mapping.class).size());
+    Assertions.assertTrue(index.getMethods(Retention.class).isEmpty());
+    Assertions.assertFalse(index.isAnnotationPresent(Deprecated.class));
+  }
+
+  @Test
+  public void overriddenMethodTest() {
+    MemberAnnotationIndex index = MemberAnnotationIndex.of(ChildHandler.class);
+
+    List<Method> methods = index.getMethods(Mapping.class);
+
+    Assertions.assertEquals(2, methods.size());
+    Assertions.assertTrue(index.getMethods(GetMapping.class).isEmpty());
+    Assertions.assertEquals(1, index.getFields(Mapping.class).size());
+    Assertions.assertTrue(index.getConstructors(Mapping.class).isEmpty());
+  }
+
+  @Test
+  public void findAnnotationTest() {
+    Method method = ReflectionUtil.getMethod(Handler.class, "get");
+
+    Mapping mapping = MemberAnnotationIndex.findAnnotation(method, Mapping.class);
+
+    Assertions.assertEquals("get", mapping.value());
+    Assertions.assertNull(MemberAnnotationIndex.findAnnotation(method, Deprecated.class));
+  }
+
+  @Test
+  public void wrappedMethodsTest() {
+    MemberAnnotationIndex index = MemberAnnotationIndex.of(Handler.class);
+
+    List<MethodHolder<LambdaWrapper, Handler, String>> getters = index.getWrappedMethods(
+        LambdaWrapperHolder.DEFAULT, GetMapping.class);
+    List<MethodHolder<LambdaWrapper, Void, Handler>> constructors = index.getWrappedConstructors(
+        LambdaWrapperHolder.DEFAULT, Mapping.class);
+
+    Assertions.assertEquals("value", getters.get(0).invoke(new Handler()));
+    Assertions.assertNotNull(constructors.get(0).invokeStatic());
+  }
+
+  @Test
+  public void cyclicMetaAnnotationTest() throws NoSuchMethodException {
+    Method method = CyclicHandler.class.getMethod("handle");
+
+    Mapping mapping = MemberAnnotationIndex.findAnnotation(method, Mapping.class);
+
+    Assertions.assertEquals("cyclic", mapping.value());
+    Assertions.assertNull(MemberAnnotationIndex.findAnnotation(method, GetMapping.class));
+    Assertions.assertEquals(1, MemberAnnotationIndex.of(CyclicHandler.class)
+        .getMethods(Mapping.class).size());
+  }
+
+  @Test
+  public void privateMethodTest() throws NoSuchMethodException {
+    MemberAnnotationIndex index = MemberAnnotationIndex.of(PrivateChildHandler.class);
+
+    List<Method> methods = index.getMethods(Mapping.class);
+
+    Assertions.assertEquals(1, methods.size());
+    Assertions.assertEquals(PrivateHandler.class.getDeclaredMethod("check"), methods.get(0));
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.METHOD, ElementType.FIELD, ElementType.CONSTRUCTOR,
+      ElementType.ANNOTATION_TYPE})
+  public @interface Mapping {
+
+    String value() default "";
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.METHOD)
+  @Mapping("get")
+  public @interface GetMapping {
+
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+  @Second
+  @Third
+  public @interface First {
+
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.ANNOTATION_TYPE)
+  @First
+  public @interface Second {
+
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.ANNOTATION_TYPE)
+  @Mapping("cyclic")
+  public @interface Third {
+
+  }
+
+  public static class Handler {
+
+    @Mapping
+    public String path;
+
+    @Mapping
+    public Handler() {
+    }
+
+    @GetMapping
+    public String get() {
+      return "value";
+    }
+
+    @Mapping
+    public void post(String body) {
+    }
+
+    public void plain() {
+    }
+  }
+
+  public static class ChildHandler extends Handler {
+
+    @Mapping
+    @Override
+    public String get() {
+      return "child";
+    }
+  }
+
+  public static class CyclicHandler {
+
+    @First
+    public void handle() {
+    }
+  }
+
+  public static class PrivateHandler {
+
+    @Mapping
+    private void check() {
+    }
+  }
+
+  public static class PrivateChildHandler extends PrivateHandler {
+
+    public void check() {
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package tech.hiddenproject.aide.reflection;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Runs in separate surefire execution with {@code aide.jfr.invoke.sampling} set to 1.
+ *
+ * @author Danila Rassokhin
+ */
+public class AideEventsSamplingTest {
+
+  @Test
+  public void sampledInvokeTest() throws IOException {
+    Assertions.assertEquals("1", System.getProperty("aide.jfr.invoke.sampling"));
+    Path file = Files.createTempFile("aide", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("tech.hiddenproject.aide.Invoke").withoutThreshold();
+      recording.start();
+
+      Method method = ReflectionUtil.getMethod(String.class, "length");
+      MethodHolder<LambdaWrapper, String, Integer> methodHolder
+          = LambdaWrapperHolder.DEFAULT.wrapSafe(method);
+      methodHolder.invoke("Hello");
+      methodHolder.invoke("World");
+
+      recording.stop();
+      recording.dump(file);
+      List<RecordedEvent> invokes = RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName().equals("tech.hiddenproject.aide.Invoke"))
+          .toList();
+
+      Assertions.assertEquals(2, invokes.size());
+      Assertions.assertEquals(method.toString(), invokes.get(0).getString("executable"));
+      Assertions.assertEquals(String.class.getName(),
+                              invokes.get(0).getClass("declaringClass").getName());
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
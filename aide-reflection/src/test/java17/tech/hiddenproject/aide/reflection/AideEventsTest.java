@@ -0,0 +1,81 @@
+package tech.hiddenproject.aide.reflection;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class AideEventsTest {
+
+  @Test
+  public void recordEventsTest() throws IOException {
+    Path file = Files.createTempFile("aide", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("tech.hiddenproject.aide.Wrap").withoutThreshold();
+      recording.enable("tech.hiddenproject.aide.Registration").withoutThreshold();
+      recording.enable("tech.hiddenproject.aide.MatcherLookup").withoutThreshold();
+      recording.enable("tech.hiddenproject.aide.Invoke").withoutThreshold();
+      recording.start();
+
+      LambdaWrapperHolder holder = LambdaWrapperHolder.builder().add(LambdaWrapper.class).build();
+      Method method = ReflectionUtil.getMethod(String.class, "length");
+      MethodHolder<LambdaWrapper, String, Integer> methodHolder = holder.wrapSafe(method);
+      holder.wrapSafe(method);
+      methodHolder.invoke("Hello");
+
+      recording.stop();
+      recording.dump(file);
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+      List<RecordedEvent> wraps = filter(events, "tech.hiddenproject.aide.Wrap");
+      Assertions.assertEquals(2, wraps.size());
+      Assertions.assertFalse(wraps.get(0).getBoolean("cacheHit"));
+      Assertions.assertTrue(wraps.get(1).getBoolean("cacheHit"));
+      Assertions.assertFalse(filter(events, "tech.hiddenproject.aide.Registration").isEmpty());
+      Assertions.assertEquals(1, filter(events, "tech.hiddenproject.aide.MatcherLookup").size());
+      Assertions.assertTrue(filter(events, "tech.hiddenproject.aide.Invoke").isEmpty());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void failedWrapEventTest() throws IOException {
+    Path file = Files.createTempFile("aide", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("tech.hiddenproject.aide.Wrap").withoutThreshold();
+      recording.start();
+
+      Method method = ReflectionUtil.getMethod(String.class, "charAt", int.class);
+      Assertions.assertThrows(ReflectionException.class,
+                              () -> LambdaWrapperHolder.DEFAULT.wrapSupplier(method));
+
+      recording.stop();
+      recording.dump(file);
+      List<RecordedEvent> wraps = filter(RecordingFile.readAllEvents(file),
+                                         "tech.hiddenproject.aide.Wrap");
+      Assertions.assertEquals(1, wraps.size());
+      Assertions.assertFalse(wraps.get(0).getBoolean("cacheHit"));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(name))
+        .toList();
+  }
+}
@@ -0,0 +1,105 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.exception.ReflectionException;
+import tech.hiddenproject.aide.reflection.filter.ExecutableFilter;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class RecordAccessorTest {
+
+  @Test
+  public void isRecordTest() {
+    Assertions.assertTrue(RecordAccessor.isRecord(Point.class));
+    Assertions.assertFalse(RecordAccessor.isRecord(String.class));
+    Assertions.assertThrows(ReflectionException.class, () -> RecordAccessor.of(String.class));
+  }
+
+  @Test
+  public void componentsTest() {
+    RecordAccessor<Point> accessor = RecordAccessor.of(Point.class);
+
+    Assertions.assertSame(accessor, RecordAccessor.of(Point.class));
+    Assertions.assertEquals(3, accessor.getComponentCount());
+    Assertions.assertArrayEquals(new String[]{"x", "y", "label"}, accessor.getComponentNames());
+    Assertions.assertArrayEquals(new Class[]{int.class, long.class, String.class},
+                                 accessor.getComponentTypes());
+    Assertions.assertEquals(2, accessor.indexOf("label"));
+    Assertions.assertEquals(-1, accessor.indexOf("z"));
+  }
+
+  @Test
+  public void getTest() {
+    RecordAccessor<Point> accessor = RecordAccessor.of(Point.class);
+    Point point = new Point(1, 2L, "A");
+
+    Integer x = accessor.get(point, 0);
+    Long y = accessor.get(point, "y");
+
+    Assertions.assertEquals(1, x);
+    Assertions.assertEquals(2L, y);
+    Assertions.assertArrayEquals(new Object[]{1, 2L, "A"}, accessor.toArray(point));
+    Assertions.assertThrows(ReflectionException.class, () -> accessor.get(point, "z"));
+  }
+
+  @Test
+  public void constructTest() {
+    RecordAccessor<Point> accessor = RecordAccessor.of(Point.class);
+    Point expected = new Point(1, 2L, "A");
+
+    Assertions.assertEquals(expected, accessor.construct(1, 2L, "A"));
+    Assertions.assertEquals(expected, accessor.construct(new Object[]{1, 2L, "A"}));
+    Assertions.assertEquals(new Empty(), RecordAccessor.of(Empty.class).construct());
+    Assertions.assertThrows(ReflectionException.class, () -> accessor.construct(1, 2L));
+  }
+
+  @Test
+  public void constructWideTest() {
+    RecordAccessor<Wide> accessor = RecordAccessor.of(Wide.class);
+    Wide expected = new Wide(1, 2, 3, 4, 5, 6, 7, 8);
+
+    Assertions.assertEquals(expected, accessor.construct(accessor.toArray(expected)));
+  }
+
+  @Test
+  public void constructHiddenWideTest() {
+    LambdaWrapperHolder holder = LambdaWrapperHolder.builder()
+        .add(LambdaWrapper.class)
+        .filter(ExecutableFilter.ANY)
+        .lookup(MethodHandles.lookup())
+        .build();
+    RecordAccessor<HiddenWide> accessor = RecordAccessor.of(HiddenWide.class, holder);
+    HiddenWide expected = new HiddenWide(1, 2, 3, 4, 5, 6, 7, 8);
+
+    Assertions.assertEquals(expected, accessor.construct(accessor.toArray(expected)));
+  }
+
+  @Test
+  public void withTest() {
+    RecordAccessor<Point> accessor = RecordAccessor.of(Point.class);
+    Point point = new Point(1, 2L, "A");
+
+    Assertions.assertEquals(new Point(1, 2L, "B"), accessor.with(point, "label", "B"));
+    Assertions.assertEquals(new Point(5, 2L, "A"), accessor.with(point, 0, 5));
+  }
+
+  public record Point(int x, long y, String label) {
+
+  }
+
+  public record Empty() {
+
+  }
+
+  public record Wide(int a, int b, int c, int d, int e, int f, int g, int h) {
+
+  }
+
+  record HiddenWide(int a, int b, int c, int d, int e, int f, int g, int h) {
+
+  }
+}
@@ -0,0 +1,113 @@
+package tech.hiddenproject.aide.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.hiddenproject.aide.reflection.util.ReflectionUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * @author Danila Rassokhin
+ */
+public class WrapperFactoryTest {
+
+  @Test
+  public void hiddenClassTest() {
+    Method method = ReflectionUtil.getMethod(Target.class, "echo", String.class);
+    Function<String, String> function = LambdaWrapperHolder.DEFAULT.wrapFunction(method);
+    WrapperHolder<LambdaWrapper> holder = LambdaWrapperHolder.DEFAULT.wrap(method);
+
+    Assertions.assertEquals("Hello", function.apply("Hello"));
+    Assertions.assertTrue(function.getClass().isHidden());
+    Assertions.assertTrue(holder.getWrapper().getClass().isHidden());
+  }
+
+  @Test
+  public void boundHiddenClassTest() {
+    Method method = ReflectionUtil.getMethod(Target.class, "greet", String.class);
+    Function<String, String> first = LambdaWrapperHolder.DEFAULT.wrapFunction(
+        method, new Target("Hello, "));
+    Function<String, String> second = LambdaWrapperHolder.DEFAULT.wrapFunction(
+        method, new Target("Bye, "));
+
+    Assertions.assertEquals("Hello, Aide", first.apply("Aide"));
+    Assertions.assertEquals("Bye, Aide", second.apply("Aide"));
+    Assertions.assertTrue(first.getClass().isHidden());
+    Assertions.assertSame(first.getClass(), second.getClass());
+  }
+
+  @Test
+  public void unloadTest() throws Exception {
+    WeakReference<ClassLoader> loader = wrapIsolated();
+
+    for (int i = 0; i < 100 && Objects.nonNull(loader.get()); i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    Assertions.assertNull(loader.get());
+  }
+
+  private WeakReference<ClassLoader> wrapIsolated() throws Exception {
+    IsolatedClassLoader loader = new IsolatedClassLoader(Target.class.getName());
+    Class<?> type = loader.loadClass(Target.class.getName());
+    Assertions.assertSame(loader, type.getClassLoader());
+    Method method = ReflectionUtil.getMethod(type, "echo", String.class);
+    Function<String, String> function = LambdaWrapperHolder.DEFAULT.wrapFunction(method);
+    Assertions.assertEquals("Hello", function.apply("Hello"));
+    Assertions.assertSame(function, LambdaWrapperHolder.DEFAULT.wrapFunction(method));
+    return new WeakReference<>(loader);
+  }
+
+  public static class Target {
+
+    private final String prefix;
+
+    public Target(String prefix) {
+      this.prefix = prefix;
+    }
+
+    public static String echo(String value) {
+      return value;
+    }
+
+    public String greet(String name) {
+      return prefix + name;
+    }
+  }
+
+  private static class IsolatedClassLoader extends ClassLoader {
+
+    private final String isolated;
+
+    private IsolatedClassLoader(String isolated) {
+      super(WrapperFactoryTest.class.getClassLoader());
+      this.isolated = isolated;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!name.equals(isolated)) {
+        return super.loadClass(name, resolve);
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> loaded = findLoadedClass(name);
+        if (Objects.nonNull(loaded)) {
+          return loaded;
+        }
+        String resource = name.replace('.', '/') + ".class";
+        try (InputStream input = getParent().getResourceAsStream(resource)) {
+          byte[] bytes = input.readAllBytes();
+          return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException e) {
+          throw new ClassNotFoundException(name, e);
+        }
+      }
+    }
+  }
+}